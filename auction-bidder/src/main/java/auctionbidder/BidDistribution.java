@@ -0,0 +1,46 @@
+package auctionbidder;
+
+import java.util.Random;
+
+/**
+ * Distribution, from which the bids of the simulated bidders are drawn.
+ * All bids lie in the range [minBid, maxBid].
+ */
+public enum BidDistribution {
+    /** Every bidder bids the maximum bid.*/
+    Constant {
+        @Override
+        public int sample(Random random, int minBid, int maxBid) {
+            return maxBid;
+        }
+    },
+    /** Bids are distributed uniformly.*/
+    Uniform {
+        @Override
+        public int sample(Random random, int minBid, int maxBid) {
+            return (int) (minBid + (long) (random.nextDouble() * ((long) maxBid - minBid + 1)));
+        }
+    },
+    /**
+     * Bids are distributed normally around the center of the range (the range covers
+     * three standard deviations in both directions, outliers are clipped).
+     */
+    Normal {
+        @Override
+        public int sample(Random random, int minBid, int maxBid) {
+            double mean = ((double) minBid + maxBid) / 2;
+            double deviation = ((double) maxBid - minBid) / 6;
+            long bid = Math.round(mean + random.nextGaussian() * deviation);
+            return (int) Math.max(minBid, Math.min(maxBid, bid));
+        }
+    };
+
+    /**
+     * Draws a bid.
+     * @param random source of randomness.
+     * @param minBid minimum bid.
+     * @param maxBid maximum bid (has to be greater than or equal to the minimum bid).
+     * @return bid in the range [minBid, maxBid].
+     */
+    public abstract int sample(Random random, int minBid, int maxBid);
+}
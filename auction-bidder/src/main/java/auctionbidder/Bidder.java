@@ -0,0 +1,269 @@
+package auctionbidder;
+
+import auctionplatform.protocol.*;
+import com.esotericsoftware.kryonet.Client;
+import com.esotericsoftware.kryonet.Connection;
+import com.esotericsoftware.kryonet.Listener;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import frescoauction.auction.Auction;
+import frescoauction.util.AuctionEvaluation;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulated bidder, which joins an auction of a server-worker and follows the protocol of the client-worker.
+ * The messages are handled on the thread of the kryo client without blocking it, the auction evaluation is
+ * run by a (shared) evaluation executor. The outcome is provided as {@link Result}.
+ */
+public class Bidder extends Listener {
+    private static final int CONNECTION_TIMEOUT_MS = 5000;
+    private final int auctionId;
+    private final int clientId;
+    private final String hostIp;
+    private final int hostPort;
+    private final int bid;
+    /** Port, which is used during the auction evaluation (fresco application).*/
+    private final int frescoPort;
+    /** Executor, which runs the auction evaluation.*/
+    private final ExecutorService evaluationExecutor;
+    /** Outcome of the bidder, which is completed exactly once.*/
+    private final CompletableFuture<Result> result = new CompletableFuture<>();
+    /** Kryo client, which communicates with the server-worker (his kryo server).*/
+    private Client kryoClient;
+    /** Current state of the bidder.*/
+    private volatile State state = State.Idle;
+    /** Point in time, at which the bidder joined the auction (nanoseconds).*/
+    private volatile long joinTime;
+    /** Auction configuration, which is provided by the server-worker.*/
+    private volatile AuctionConfiguration configuration;
+
+    /**
+     * @param auctionId id of the auction, which should be joined.
+     * @param clientId id of the client.
+     * @param hostIp IP address of the host, which hosts the auction.
+     * @param hostPort port of the host (at which the kryo server is running).
+     * @param bid bid.
+     * @param frescoPort port, which should be used during the auction evaluation (fresco application).
+     * @param evaluationExecutor executor, which runs the auction evaluation.
+     */
+    public Bidder(int auctionId, int clientId, String hostIp, int hostPort, int bid, int frescoPort,
+                  ExecutorService evaluationExecutor) {
+        this.auctionId = auctionId;
+        this.clientId = clientId;
+        this.hostIp = hostIp;
+        this.hostPort = hostPort;
+        this.bid = bid;
+        this.frescoPort = frescoPort;
+        this.evaluationExecutor = evaluationExecutor;
+    }
+
+    /**
+     * @return bid of the bidder.
+     */
+    public int getBid(){
+        return bid;
+    }
+
+    /**
+     * @return outcome of the bidder, which is completed as soon as the bidder finished.
+     */
+    public CompletableFuture<Result> getResult(){
+        return result;
+    }
+
+    /**
+     * Connects to the server-worker and registers for the auction. Blocks only until the connection is established.
+     */
+    public void join(){
+        if(!advance(State.Idle, State.Registration)) return;
+        joinTime = System.nanoTime();
+        Client client = new Client();
+        client.start();
+        NetworkHelper.register(client);
+        client.addListener(this);
+        synchronized (this){
+            kryoClient = client;
+        }
+        try {
+            client.connect(CONNECTION_TIMEOUT_MS, hostIp, hostPort);
+            // the bidder may have left while connecting
+            if(state == State.Registration) client.sendTCP(new Register(auctionId, clientId, frescoPort));
+            else client.close();
+        } catch (IOException e) {
+            finish(Result.aborted(bid, "Connection could not be established."));
+        }
+    }
+
+    /**
+     * Leaves the auction. Takes effect only, if the bidder has not joined yet or is still in the registration.
+     */
+    public synchronized void leave(){
+        if(state != State.Idle && state != State.Registration) return;
+        finish(Result.left(bid));
+        if(kryoClient != null) kryoClient.close();
+    }
+
+    /**
+     * Stops the kryo client.
+     */
+    public synchronized void close(){
+        if(kryoClient != null) kryoClient.stop();
+    }
+
+    @Override
+    public void received(Connection connection, Object object) {
+        if(object instanceof RequestConnectionData){
+            if(!advance(State.Registration, State.SMPC_SetUp)) return;
+            connection.sendTCP(new ResponseConnectionData(auctionId, frescoPort));
+        }else if(object instanceof AuctionConfiguration){
+            // the connection data is not requested, since the fresco port was announced with the registration
+            if(state != State.SMPC_SetUp && !advance(State.Registration, State.SMPC_SetUp)) return;
+            configuration = (AuctionConfiguration) object;
+            connection.sendTCP(new AuctionReady(auctionId));
+        }else if(object instanceof RequestAuctionStart){
+            if(configuration == null || !advance(State.SMPC_SetUp, State.SMPC_Running)) return;
+            try {
+                evaluationExecutor.execute(() -> evaluate(connection));
+            } catch (RejectedExecutionException e) {
+                finish(Result.aborted(bid, "Evaluation rejected."));
+            }
+        }
+    }
+
+    @Override
+    public void disconnected(Connection connection) {
+        // after the start of the evaluation, the result of the evaluation decides the outcome
+        if(state != State.SMPC_Running) finish(Result.aborted(bid, "Server disconnected."));
+    }
+
+    /**
+     * Notifies the server-worker and runs the auction evaluation.
+     * @param connection connection to the server-worker.
+     */
+    private void evaluate(Connection connection){
+        long startTime = System.nanoTime();
+        try {
+            NetworkConfiguration networkConfiguration = configuration.getNetworkConfiguration();
+            AuctionEvaluation evaluation = new AuctionEvaluation(configuration.auctionType, configuration.capBid(bid),
+                    configuration.protocolSuite, configuration.preprocessing,
+                    configuration.getEvaluationParameters(), networkConfiguration);
+            connection.sendTCP(new ResponseAuctionStart(auctionId));
+            Auction.AuctionResult auctionResult = evaluation.call();
+            long endTime = System.nanoTime();
+            finish(Result.completed(bid,
+                    TimeUnit.NANOSECONDS.toMillis(endTime - joinTime),
+                    TimeUnit.NANOSECONDS.toMillis(endTime - startTime),
+                    auctionResult.getWinnerId() == networkConfiguration.getMyId(),
+                    auctionResult.getFinalPrice()));
+        } catch (Exception e) {
+            finish(Result.aborted(bid, "Auction evaluation aborted."));
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Changes the state, if the bidder is in the expected state.
+     * @param expected expected state.
+     * @param target target state.
+     * @return true, if the state was changed or false otherwise.
+     */
+    private synchronized boolean advance(State expected, State target){
+        if(state != expected) return false;
+        state = target;
+        return true;
+    }
+
+    /**
+     * Completes the outcome (only the first call takes effect).
+     * @param outcome outcome of the bidder.
+     */
+    private synchronized void finish(Result outcome){
+        state = State.Finished;
+        result.complete(outcome);
+    }
+
+    /**
+     * Represents the state of the bidder.
+     */
+    private enum State{Idle, Registration, SMPC_SetUp, SMPC_Running, Finished}
+
+    /**
+     * Outcome of a bidder.
+     */
+    public final static class Result {
+        /** Kind of the outcome.*/
+        @Getter private final Outcome outcome;
+        /** Bid of the bidder.*/
+        @Getter private final int bid;
+        /** Duration from joining the auction until the result was computed (milliseconds, -1 if not completed).*/
+        @Getter private final long completionLatency;
+        /** Duration of the auction evaluation (milliseconds, -1 if not completed).*/
+        @Getter private final long evaluationLatency;
+        /** Indicates, if the bidder won the auction.*/
+        @Getter private final boolean winner;
+        /** Final price of the auction (-1 if not completed).*/
+        @Getter private final int finalPrice;
+        /** Reason of the abortion (null, if not aborted).*/
+        @Getter private final String errorMessage;
+
+        private Result(Outcome outcome, int bid, long completionLatency, long evaluationLatency,
+                       boolean winner, int finalPrice, String errorMessage) {
+            this.outcome = outcome;
+            this.bid = bid;
+            this.completionLatency = completionLatency;
+            this.evaluationLatency = evaluationLatency;
+            this.winner = winner;
+            this.finalPrice = finalPrice;
+            this.errorMessage = errorMessage;
+        }
+
+        /**
+         * @param bid bid of the bidder.
+         * @param completionLatency duration from joining the auction until the result was computed (milliseconds).
+         * @param evaluationLatency duration of the auction evaluation (milliseconds).
+         * @param winner indicates, if the bidder won the auction.
+         * @param finalPrice final price of the auction.
+         * @return outcome of a bidder, which completed the auction.
+         */
+        public static Result completed(int bid, long completionLatency, long evaluationLatency,
+                                       boolean winner, int finalPrice){
+            return new Result(Outcome.Completed, bid, completionLatency, evaluationLatency, winner, finalPrice, null);
+        }
+
+        /**
+         * @param bid bid of the bidder.
+         * @return outcome of a bidder, which left the auction during the registration.
+         */
+        public static Result left(int bid){
+            return new Result(Outcome.Left, bid, -1, -1, false, -1, null);
+        }
+
+        /**
+         * @param bid bid of the bidder.
+         * @param errorMessage reason of the abortion.
+         * @return outcome of a bidder, whose auction was aborted.
+         */
+        public static Result aborted(int bid, String errorMessage){
+            return new Result(Outcome.Aborted, bid, -1, -1, false, -1, errorMessage);
+        }
+
+        /**
+         * @param bid bid of the bidder.
+         * @return outcome of a bidder, which did not finish in time.
+         */
+        public static Result timedOut(int bid){
+            return new Result(Outcome.TimedOut, bid, -1, -1, false, -1, "Timeout.");
+        }
+    }
+
+    /**
+     * Kind of the outcome of a bidder.
+     */
+    public enum Outcome{Completed, Left, Aborted, TimedOut}
+}
@@ -0,0 +1,134 @@
+package auctionbidder;
+
+import com.google.gson.Gson;
+import lombok.Getter;
+
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * Contains a set of parameters for configuring a {@link LoadGenerator}.
+ */
+@Getter
+public class BidderConfiguration {
+    /** IP address of the host, which hosts the auctions.*/
+    private String hostIp;
+    /** Port of the host (at which the kryo server is running).*/
+    private int hostPort;
+    /** Ids of the auctions, which should be joined (the bidders are assigned to the auctions in turn).*/
+    private int[] auctionIds;
+    /** Number of simulated bidders.*/
+    private int noOfBidders;
+    /** Client id of the first bidder (the following bidders use consecutive ids).*/
+    private int firstClientId;
+    /** Fresco port of the first bidder (the following bidders use consecutive ports).*/
+    private int firstFrescoPort;
+    /** Distribution, from which the bids are drawn.*/
+    private BidDistribution bidDistribution;
+    /** Minimum bid.*/
+    private int minBid;
+    /** Maximum bid.*/
+    private int maxBid;
+    /** Time frame, in which the bidders join the auctions at random points in time (milliseconds).*/
+    private int joinWindow;
+    /**
+     * Probability, with which a bidder leaves the auction during the registration
+     * (at a random point in time within the join window after joining).
+     */
+    private double leaveProbability;
+    /** Seed of the random generator, which draws the bids and the points in time.*/
+    private long seed;
+    /** Max duration of the simulation (seconds). Bidders, which did not finish in time, are counted as timed out.*/
+    private int timeout;
+    /**
+     * Maximum number of auction evaluations, which run concurrently (0, if one per bidder). Bidders, whose evaluation
+     * cannot be started, are aborted, since an evaluation cannot wait for a thread without blocking the other parties.
+     */
+    private int maxEvaluations;
+
+    /**
+     * @param hostIp IP address of the host, which hosts the auctions.
+     * @param hostPort port of the host (at which the kryo server is running).
+     * @param auctionIds ids of the auctions, which should be joined (the bidders are assigned to the auctions in turn).
+     * @param noOfBidders number of simulated bidders.
+     * @param firstClientId client id of the first bidder (the following bidders use consecutive ids).
+     * @param firstFrescoPort fresco port of the first bidder (the following bidders use consecutive ports).
+     * @param bidDistribution distribution, from which the bids are drawn.
+     * @param minBid minimum bid.
+     * @param maxBid maximum bid.
+     * @param joinWindow time frame, in which the bidders join the auctions (milliseconds).
+     * @param leaveProbability probability, with which a bidder leaves the auction during the registration.
+     * @param seed seed of the random generator.
+     * @param timeout max duration of the simulation (seconds).
+     * @throws IllegalArgumentException is thrown if no auction or no bidder is specified, the bid range is empty
+     * or not positive, the join window or the timeout is negative or the leave probability is not in [0, 1].
+     */
+    public BidderConfiguration(String hostIp, int hostPort, int[] auctionIds, int noOfBidders,
+                               int firstClientId, int firstFrescoPort,
+                               BidDistribution bidDistribution, int minBid, int maxBid,
+                               int joinWindow, double leaveProbability, long seed, int timeout) throws IllegalArgumentException {
+        this(hostIp, hostPort, auctionIds, noOfBidders, firstClientId, firstFrescoPort,
+                bidDistribution, minBid, maxBid, joinWindow, leaveProbability, seed, timeout, 0);
+    }
+
+    /**
+     * @param hostIp IP address of the host, which hosts the auctions.
+     * @param hostPort port of the host (at which the kryo server is running).
+     * @param auctionIds ids of the auctions, which should be joined (the bidders are assigned to the auctions in turn).
+     * @param noOfBidders number of simulated bidders.
+     * @param firstClientId client id of the first bidder (the following bidders use consecutive ids).
+     * @param firstFrescoPort fresco port of the first bidder (the following bidders use consecutive ports).
+     * @param bidDistribution distribution, from which the bids are drawn.
+     * @param minBid minimum bid.
+     * @param maxBid maximum bid.
+     * @param joinWindow time frame, in which the bidders join the auctions (milliseconds).
+     * @param leaveProbability probability, with which a bidder leaves the auction during the registration.
+     * @param seed seed of the random generator.
+     * @param timeout max duration of the simulation (seconds).
+     * @param maxEvaluations maximum number of auction evaluations, which run concurrently (0, if one per bidder).
+     * @throws IllegalArgumentException is thrown if no auction or no bidder is specified, the bid range is empty
+     * or not positive, the join window, the timeout or the maximum number of evaluations is negative or the
+     * leave probability is not in [0, 1].
+     */
+    public BidderConfiguration(String hostIp, int hostPort, int[] auctionIds, int noOfBidders,
+                               int firstClientId, int firstFrescoPort,
+                               BidDistribution bidDistribution, int minBid, int maxBid,
+                               int joinWindow, double leaveProbability, long seed, int timeout,
+                               int maxEvaluations) throws IllegalArgumentException {
+        if(auctionIds == null || auctionIds.length == 0) throw new IllegalArgumentException("No auction specified.");
+        if(noOfBidders < 1) throw new IllegalArgumentException("At least one bidder is required.");
+        if(minBid < 1 || maxBid < minBid) throw new IllegalArgumentException("Invalid bid range.");
+        if(joinWindow < 0 || timeout < 0) throw new IllegalArgumentException("Durations cannot be negative.");
+        if(leaveProbability < 0 || leaveProbability > 1)
+            throw new IllegalArgumentException("Leave probability has to be in [0, 1].");
+        if(maxEvaluations < 0) throw new IllegalArgumentException("Maximum number of evaluations cannot be negative.");
+        this.hostIp = hostIp;
+        this.hostPort = hostPort;
+        this.auctionIds = auctionIds;
+        this.noOfBidders = noOfBidders;
+        this.firstClientId = firstClientId;
+        this.firstFrescoPort = firstFrescoPort;
+        this.bidDistribution = bidDistribution;
+        this.minBid = minBid;
+        this.maxBid = maxBid;
+        this.joinWindow = joinWindow;
+        this.leaveProbability = leaveProbability;
+        this.seed = seed;
+        this.timeout = timeout;
+        this.maxEvaluations = maxEvaluations;
+    }
+
+    /**
+     * Loads the configuration from a json file.
+     * @param path path to the json file.
+     * @return an instance of {@link BidderConfiguration}.
+     * @throws IOException
+     */
+    public static BidderConfiguration loadFromJson(String path) throws IOException {
+        Gson gson = new Gson();
+        FileReader reader = new FileReader(path);
+        BidderConfiguration config = gson.fromJson(reader, BidderConfiguration.class);
+        reader.close();
+        return config;
+    }
+}
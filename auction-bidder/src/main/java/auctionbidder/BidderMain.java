@@ -0,0 +1,11 @@
+package auctionbidder;
+
+import java.io.IOException;
+
+public class BidderMain {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        BidderConfiguration config = BidderConfiguration.loadFromJson(args[0]);
+        LoadReport report = new LoadGenerator(config).run();
+        System.out.println(report);
+    }
+}
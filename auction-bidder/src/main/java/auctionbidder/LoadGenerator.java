@@ -0,0 +1,86 @@
+package auctionbidder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.*;
+
+/**
+ * Simulates many bidders, which join the auctions of a server-worker (or of an auction host) according
+ * to a {@link BidderConfiguration}: the bids are drawn from the configured distribution, the bidders join
+ * at random points in time within the join window and some of them leave during the registration (churn).
+ * Every bidder uses its own kryo client (with its own update thread), the auction evaluations are run by a shared
+ * executor, which runs at most {@link BidderConfiguration#getMaxEvaluations()} evaluations at once.
+ */
+public class LoadGenerator {
+    /** Number of threads, which connect the bidders and let them leave.*/
+    private static final int SCHEDULER_THREADS = 4;
+    /** Time, after which an idle thread of the evaluation executor is stopped (seconds).*/
+    private static final int KEEP_ALIVE_TIME = 60;
+    /** Configuration of the simulation.*/
+    private final BidderConfiguration config;
+
+    /**
+     * @param config configuration of the simulation.
+     */
+    public LoadGenerator(BidderConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Runs the simulation and blocks until all bidders finished or the timeout expired.
+     * @return summary of the simulation.
+     * @throws InterruptedException
+     */
+    public LoadReport run() throws InterruptedException {
+        Random random = new Random(config.getSeed());
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(SCHEDULER_THREADS);
+        ExecutorService evaluationExecutor = newEvaluationExecutor(config.getMaxEvaluations() > 0
+                ? config.getMaxEvaluations() : config.getNoOfBidders());
+        List<Bidder> bidders = new ArrayList<>(config.getNoOfBidders());
+        try {
+            for(int i = 0; i < config.getNoOfBidders(); i++){
+                int auctionId = config.getAuctionIds()[i % config.getAuctionIds().length];
+                int bid = config.getBidDistribution().sample(random, config.getMinBid(), config.getMaxBid());
+                Bidder bidder = new Bidder(auctionId, config.getFirstClientId() + i,
+                        config.getHostIp(), config.getHostPort(), bid, config.getFirstFrescoPort() + i,
+                        evaluationExecutor);
+                bidders.add(bidder);
+                long joinDelay = (long) (random.nextDouble() * config.getJoinWindow());
+                scheduler.schedule(bidder::join, joinDelay, TimeUnit.MILLISECONDS);
+                if(random.nextDouble() < config.getLeaveProbability()){
+                    long leaveDelay = joinDelay + 1 + (long) (random.nextDouble() * config.getJoinWindow());
+                    scheduler.schedule(bidder::leave, leaveDelay, TimeUnit.MILLISECONDS);
+                }
+            }
+            CompletableFuture<?>[] results = bidders.stream().map(Bidder::getResult).toArray(CompletableFuture[]::new);
+            try {
+                CompletableFuture.allOf(results).get(config.getTimeout(), TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                // bidders, which did not finish in time, are reported as timed out
+            }
+            List<Bidder.Result> outcomes = new ArrayList<>(bidders.size());
+            for(Bidder bidder : bidders){
+                outcomes.add(bidder.getResult().getNow(Bidder.Result.timedOut(bidder.getBid())));
+            }
+            return new LoadReport(outcomes);
+        } finally {
+            scheduler.shutdownNow();
+            bidders.forEach(Bidder::close);
+            evaluationExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates the executor, which runs the auction evaluations. An evaluation is not queued, if all threads are busy,
+     * since it blocks until all parties of the auction take part; it is rejected instead.
+     * @param maxEvaluations maximum number of evaluations, which run concurrently.
+     * @return executor with at most the given number of threads.
+     */
+    static ExecutorService newEvaluationExecutor(int maxEvaluations){
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxEvaluations, maxEvaluations,
+                KEEP_ALIVE_TIME, TimeUnit.SECONDS, new SynchronousQueue<>());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,87 @@
+package auctionbidder;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Summary of a simulation run by the {@link LoadGenerator}. Contains the outcomes of all bidders and
+ * the percentiles of the auction completion latency (from joining the auction until the result was computed)
+ * and of the evaluation latency.
+ */
+public class LoadReport {
+    /** Outcomes of all bidders.*/
+    @Getter private final List<Bidder.Result> results;
+    /** Sorted completion latencies of all bidders, which completed the auction (milliseconds).*/
+    private final long[] completionLatencies;
+    /** Sorted evaluation latencies of all bidders, which completed the auction (milliseconds).*/
+    private final long[] evaluationLatencies;
+
+    /**
+     * @param results outcomes of all bidders.
+     */
+    public LoadReport(List<Bidder.Result> results) {
+        this.results = Collections.unmodifiableList(results);
+        completionLatencies = results.stream()
+                .filter(r -> r.getOutcome() == Bidder.Outcome.Completed)
+                .mapToLong(Bidder.Result::getCompletionLatency)
+                .sorted()
+                .toArray();
+        evaluationLatencies = results.stream()
+                .filter(r -> r.getOutcome() == Bidder.Outcome.Completed)
+                .mapToLong(Bidder.Result::getEvaluationLatency)
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * @param outcome kind of the outcome.
+     * @return number of bidders with the given outcome.
+     */
+    public long count(Bidder.Outcome outcome){
+        return results.stream().filter(r -> r.getOutcome() == outcome).count();
+    }
+
+    /**
+     * @param percentile percentile in (0, 100].
+     * @return completion latency of the given percentile (milliseconds, -1 if no bidder completed the auction).
+     */
+    public long getCompletionLatency(double percentile){
+        return percentile(completionLatencies, percentile);
+    }
+
+    /**
+     * @param percentile percentile in (0, 100].
+     * @return evaluation latency of the given percentile (milliseconds, -1 if no bidder completed the auction).
+     */
+    public long getEvaluationLatency(double percentile){
+        return percentile(evaluationLatencies, percentile);
+    }
+
+    /**
+     * Determines the percentile with the nearest-rank method.
+     * @param sorted sorted values.
+     * @param percentile percentile in (0, 100].
+     * @return value of the percentile or -1, if no values are given.
+     * @throws IllegalArgumentException is thrown if the percentile is not in (0, 100].
+     */
+    static long percentile(long[] sorted, double percentile) throws IllegalArgumentException {
+        if(percentile <= 0 || percentile > 100) throw new IllegalArgumentException("Percentile has to be in (0, 100].");
+        if(sorted.length == 0) return -1;
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Bidders: %d (completed=%d, left=%d, aborted=%d, timed out=%d)%n" +
+                        "Completion latency [ms]: p50=%d, p99=%d, max=%d%n" +
+                        "Evaluation latency [ms]: p50=%d, p99=%d, max=%d",
+                results.size(), count(Bidder.Outcome.Completed), count(Bidder.Outcome.Left),
+                count(Bidder.Outcome.Aborted), count(Bidder.Outcome.TimedOut),
+                getCompletionLatency(50), getCompletionLatency(99), getCompletionLatency(100),
+                getEvaluationLatency(50), getEvaluationLatency(99), getEvaluationLatency(100));
+    }
+}
@@ -0,0 +1,154 @@
+package auctionbidder;
+
+import auctionplatform.metrics.AuctionMetrics;
+import auctionplatform.metrics.MetricsRegistry;
+import auctionplatform.worker.ServerConfiguration;
+import auctionplatform.worker.ServerWorker;
+import auctionplatform.worker.WorkerListener;
+import frescoauction.auction.Auction;
+import frescoauction.util.Utils;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * End-to-end load test, which runs N concurrent server-workers with M simulated bidders each on one host
+ * (according to a {@link LoadTestConfiguration}). Every protocol suite is tested in several waves, the
+ * server-workers of a wave are started at the same time and the next wave starts when all of them have
+ * shut down. The registration of every auction is closed as soon as all bidders registered, so no fixed
+ * waiting times are involved.<br>
+ * For every auction, the outcome, the time spent in each state of the server-worker, the evaluation duration,
+ * the exchanged kryo bytes and the latencies of the bidders are recorded in a {@link LoadTestReport}.
+ */
+public class LoadTest {
+    /** Duration of the closure state of the server-workers (seconds).*/
+    private static final int CLOSURE_DURATION = 1;
+    /** Configuration of the load test.*/
+    private final LoadTestConfiguration config;
+
+    /**
+     * @param config configuration of the load test.
+     */
+    public LoadTest(LoadTestConfiguration config) {
+        this.config = config;
+    }
+
+    /**
+     * Runs all waves for all protocol suites and blocks until the last wave has finished.
+     * @return report of the load test.
+     * @throws InterruptedException
+     */
+    public LoadTestReport run() throws InterruptedException {
+        List<LoadTestReport.AuctionRecord> records = new ArrayList<>();
+        Map<Utils.ProtocolSuite, Long> wallTimes = new LinkedHashMap<>();
+        int run = 0;
+        for(Utils.ProtocolSuite protocolSuite : config.getProtocolSuites()){
+            long wallTime = 0;
+            for(int wave = 0; wave < config.getWaves(); wave++){
+                wallTime += runWave(protocolSuite, wave, run++, records);
+            }
+            wallTimes.merge(protocolSuite, wallTime, Long::sum);
+        }
+        return new LoadTestReport(records, wallTimes);
+    }
+
+    /**
+     * Runs a single wave: starts all server-workers and their bidders and waits until all server-workers have shut down.
+     * Every wave uses its own range of ports.
+     * @param protocolSuite protocol suite, which is used by the server-workers.
+     * @param wave index of the wave (per protocol suite).
+     * @param run index of the wave (over all protocol suites).
+     * @param records list, to which the records of the auctions are added.
+     * @return time from the start of the wave until the last auction was completed or aborted (milliseconds).
+     * @throws InterruptedException
+     */
+    private long runWave(Utils.ProtocolSuite protocolSuite, int wave, int run,
+                         List<LoadTestReport.AuctionRecord> records) throws InterruptedException {
+        int noOfAuctions = config.getNoOfAuctions();
+        int biddersPerAuction = config.getBiddersPerAuction();
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        ExecutorService bidderExecutor = Executors.newFixedThreadPool(noOfAuctions);
+        List<ServerWorker> servers = new ArrayList<>(noOfAuctions);
+        List<CompletableFuture<Long>> completions = new ArrayList<>(noOfAuctions);
+        List<Future<LoadReport>> bidderReports = new ArrayList<>(noOfAuctions);
+        long startTime = System.nanoTime();
+        try {
+            for(int i = 0; i < noOfAuctions; i++){
+                int index = run * noOfAuctions + i;
+                int auctionId = index + 1;
+                int hostPort = config.getFirstHostPort() + index;
+                ServerConfiguration serverConfig = new ServerConfiguration(
+                        auctionId, 1, config.getAuctionType(),
+                        config.getStateDuration(), CLOSURE_DURATION,
+                        config.getHostIp(), hostPort, config.getFirstFrescoPort() + index,
+                        config.getStateDuration(), config.getStateDuration(),
+                        protocolSuite, Utils.Preprocessing.Dummy,
+                        biddersPerAuction, biddersPerAuction, null, config.getMaxBid());
+                CompletableFuture<Long> completion = new CompletableFuture<>();
+                ServerWorker server = new ServerWorker(serverConfig, new WorkerListener() {
+                    @Override
+                    public void onCompletion(Auction.AuctionResult result, int clientId) {
+                        completion.complete(System.nanoTime());
+                    }
+
+                    @Override
+                    public void onError(String errorMessage) {
+                        completion.complete(System.nanoTime());
+                    }
+                }, metricsRegistry);
+                servers.add(server);
+                completions.add(completion);
+                server.start();
+                BidderConfiguration bidderConfig = new BidderConfiguration(config.getHostIp(), hostPort,
+                        new int[]{auctionId}, biddersPerAuction,
+                        1, config.getFirstBidderFrescoPort() + index * biddersPerAuction,
+                        config.getBidDistribution(), 1, config.getMaxBid(),
+                        0, 0, config.getSeed() + index, config.getTimeout());
+                bidderReports.add(bidderExecutor.submit(() -> new LoadGenerator(bidderConfig).run()));
+            }
+            for(ServerWorker server : servers) server.awaitTermination();
+            long endTime = startTime;
+            for(int i = 0; i < noOfAuctions; i++){
+                long completionTime = completions.get(i).getNow(System.nanoTime());
+                endTime = Math.max(endTime, completionTime);
+                records.add(record(protocolSuite, wave, servers.get(i).getMetrics(),
+                        TimeUnit.NANOSECONDS.toMillis(completionTime - startTime), bidderReport(bidderReports.get(i))));
+            }
+            return TimeUnit.NANOSECONDS.toMillis(endTime - startTime);
+        } finally {
+            bidderExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * @param bidderReport future report of the bidders of an auction.
+     * @return report of the bidders (without results, if the bidders could not be run).
+     * @throws InterruptedException
+     */
+    private LoadReport bidderReport(Future<LoadReport> bidderReport) throws InterruptedException {
+        try {
+            return bidderReport.get(config.getTimeout(), TimeUnit.SECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            return new LoadReport(Collections.emptyList());
+        }
+    }
+
+    /**
+     * Creates the record of an auction.
+     * @param protocolSuite protocol suite of the auction.
+     * @param wave index of the wave.
+     * @param metrics metrics of the server-worker.
+     * @param auctionLatency time from the start of the wave until the auction was completed or aborted (milliseconds).
+     * @param bidderReport report of the bidders.
+     * @return record of the auction.
+     */
+    private static LoadTestReport.AuctionRecord record(Utils.ProtocolSuite protocolSuite, int wave,
+                                                       AuctionMetrics metrics, long auctionLatency,
+                                                       LoadReport bidderReport){
+        return new LoadTestReport.AuctionRecord(protocolSuite, wave, metrics.getAuctionId(), metrics.getOutcome(),
+                auctionLatency, metrics.getStateDurations(), metrics.getEvaluationDuration(),
+                metrics.getKryoBytesReceived(), metrics.getKryoBytesSent(),
+                bidderReport.count(Bidder.Outcome.Completed),
+                bidderReport.getCompletionLatency(50), bidderReport.getCompletionLatency(99));
+    }
+}
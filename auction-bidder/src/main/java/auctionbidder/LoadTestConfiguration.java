@@ -0,0 +1,102 @@
+package auctionbidder;
+
+import com.google.gson.Gson;
+import frescoauction.util.Utils;
+import lombok.Getter;
+
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * Contains a set of parameters for configuring a {@link LoadTest}.
+ */
+@Getter
+public class LoadTestConfiguration {
+    /** IP address, at which the server-workers are running.*/
+    private String hostIp;
+    /** Port of the first server-worker (the following server-workers use consecutive ports).*/
+    private int firstHostPort;
+    /** Fresco port of the first server-worker (the following server-workers use consecutive ports).*/
+    private int firstFrescoPort;
+    /** Fresco port of the first bidder (the following bidders use consecutive ports).*/
+    private int firstBidderFrescoPort;
+    /** Number of server-workers, which run concurrently in every wave.*/
+    private int noOfAuctions;
+    /** Number of bidders per auction.*/
+    private int biddersPerAuction;
+    /** Number of waves, which are run one after another (per protocol suite).*/
+    private int waves;
+    /** Auction type, which is carried out by the server-workers.*/
+    private Utils.AuctionType auctionType;
+    /** Protocol suites, which should be tested (spdz is run with dummy preprocessing).*/
+    private Utils.ProtocolSuite[] protocolSuites;
+    /** Distribution, from which the bids are drawn.*/
+    private BidDistribution bidDistribution;
+    /** Maximum bid (is also passed to the server-workers, the minimum bid is 1).*/
+    private int maxBid;
+    /** Seed of the random generator, which draws the bids.*/
+    private long seed;
+    /** Duration of the registration, smpc-set-up and smpc-set-up-finish state of the server-workers (seconds).*/
+    private int stateDuration;
+    /** Max duration of a wave (seconds).*/
+    private int timeout;
+
+    /**
+     * @param hostIp IP address, at which the server-workers are running.
+     * @param firstHostPort port of the first server-worker (the following server-workers use consecutive ports).
+     * @param firstFrescoPort fresco port of the first server-worker (the following server-workers use consecutive ports).
+     * @param firstBidderFrescoPort fresco port of the first bidder (the following bidders use consecutive ports).
+     * @param noOfAuctions number of server-workers, which run concurrently in every wave.
+     * @param biddersPerAuction number of bidders per auction.
+     * @param waves number of waves, which are run one after another (per protocol suite).
+     * @param auctionType auction type, which is carried out by the server-workers.
+     * @param protocolSuites protocol suites, which should be tested.
+     * @param bidDistribution distribution, from which the bids are drawn.
+     * @param maxBid maximum bid.
+     * @param seed seed of the random generator.
+     * @param stateDuration duration of the states of the server-workers (seconds).
+     * @param timeout max duration of a wave (seconds).
+     * @throws IllegalArgumentException is thrown if a count is not positive, no protocol suite is specified,
+     * the maximum bid is not positive or a duration is not positive.
+     */
+    public LoadTestConfiguration(String hostIp, int firstHostPort, int firstFrescoPort, int firstBidderFrescoPort,
+                                 int noOfAuctions, int biddersPerAuction, int waves,
+                                 Utils.AuctionType auctionType, Utils.ProtocolSuite[] protocolSuites,
+                                 BidDistribution bidDistribution, int maxBid, long seed,
+                                 int stateDuration, int timeout) throws IllegalArgumentException {
+        if(noOfAuctions < 1 || biddersPerAuction < 1 || waves < 1)
+            throw new IllegalArgumentException("Number of auctions, bidders and waves has to be positive.");
+        if(protocolSuites == null || protocolSuites.length == 0)
+            throw new IllegalArgumentException("No protocol suite specified.");
+        if(maxBid < 1) throw new IllegalArgumentException("Maximum bid has to be positive.");
+        if(stateDuration < 1 || timeout < 1) throw new IllegalArgumentException("Durations have to be positive.");
+        this.hostIp = hostIp;
+        this.firstHostPort = firstHostPort;
+        this.firstFrescoPort = firstFrescoPort;
+        this.firstBidderFrescoPort = firstBidderFrescoPort;
+        this.noOfAuctions = noOfAuctions;
+        this.biddersPerAuction = biddersPerAuction;
+        this.waves = waves;
+        this.auctionType = auctionType;
+        this.protocolSuites = protocolSuites;
+        this.bidDistribution = bidDistribution;
+        this.maxBid = maxBid;
+        this.seed = seed;
+        this.stateDuration = stateDuration;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Loads the configuration from a json file.
+     * @param path path to the json file.
+     * @return an instance of {@link LoadTestConfiguration}.
+     * @throws IOException
+     */
+    public static LoadTestConfiguration loadFromJson(String path) throws IOException {
+        Gson gson = new Gson();
+        FileReader reader = new FileReader(path);
+        LoadTestConfiguration config = gson.fromJson(reader, LoadTestConfiguration.class);
+        reader.close();
+        return config;
+    }
+}
@@ -0,0 +1,22 @@
+package auctionbidder;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+public class LoadTestMain {
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestConfiguration config = LoadTestConfiguration.loadFromJson(args[0]);
+        // optional: directory, in which the csv and json reports are written
+        File outputDirectory = new File(args.length > 1 ? args[1] : ".");
+        LoadTestReport report = new LoadTest(config).run();
+        System.out.println(report);
+        try (Writer writer = new FileWriter(new File(outputDirectory, "load-test.csv"))) {
+            report.writeCsv(writer);
+        }
+        try (Writer writer = new FileWriter(new File(outputDirectory, "load-test.json"))) {
+            writer.write(report.toJson());
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package auctionbidder;
+
+import auctionplatform.metrics.AuctionMetrics;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import frescoauction.util.Utils;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Report of a {@link LoadTest}. Contains a record per auction and summarizes the throughput (completed auctions
+ * per minute), the failures and the latency of each state per protocol suite. The records can be exported
+ * as csv and the whole report as json. All durations are measured in milliseconds.
+ */
+public class LoadTestReport {
+    /** States of the server-worker, which are exported as columns (in order of entering).*/
+    static final List<String> STATES = Arrays.asList(
+            "Registration", "SMPC_SetUp", "SMPC_SetUpFinish", "SMPC_Running", "Closure");
+    /** Records of all auctions.*/
+    @Getter private final List<AuctionRecord> records;
+    /** Sum of the wave durations mapped by the protocol suite.*/
+    private final Map<Utils.ProtocolSuite, Long> wallTimes;
+
+    /**
+     * @param records records of all auctions.
+     * @param wallTimes sum of the wave durations mapped by the protocol suite.
+     */
+    public LoadTestReport(List<AuctionRecord> records, Map<Utils.ProtocolSuite, Long> wallTimes) {
+        this.records = Collections.unmodifiableList(records);
+        this.wallTimes = wallTimes;
+    }
+
+    /**
+     * @return tested protocol suites (in order of testing).
+     */
+    public Set<Utils.ProtocolSuite> getProtocolSuites(){
+        return Collections.unmodifiableSet(wallTimes.keySet());
+    }
+
+    /**
+     * @param protocolSuite protocol suite.
+     * @param outcome outcome of the auctions.
+     * @return number of auctions of the protocol suite with the given outcome.
+     */
+    public long count(Utils.ProtocolSuite protocolSuite, AuctionMetrics.Outcome outcome){
+        return records(protocolSuite).filter(r -> r.getOutcome() == outcome).count();
+    }
+
+    /**
+     * @param protocolSuite protocol suite.
+     * @return completed auctions per minute (0, if no time was measured).
+     */
+    public double getThroughput(Utils.ProtocolSuite protocolSuite){
+        long wallTime = wallTimes.getOrDefault(protocolSuite, 0L);
+        return wallTime > 0 ? count(protocolSuite, AuctionMetrics.Outcome.Completed) * 60_000.0 / wallTime : 0;
+    }
+
+    /**
+     * @param protocolSuite protocol suite.
+     * @param state name of the state.
+     * @param percentile percentile in (0, 100].
+     * @return time spent in the state of the given percentile over all auctions of the protocol suite,
+     * which entered the state (-1, if no auction entered the state).
+     */
+    public long getStateLatency(Utils.ProtocolSuite protocolSuite, String state, double percentile){
+        long[] durations = records(protocolSuite)
+                .filter(r -> r.getStateDurations().containsKey(state))
+                .mapToLong(r -> r.getStateDurations().get(state))
+                .sorted()
+                .toArray();
+        return LoadReport.percentile(durations, percentile);
+    }
+
+    /**
+     * @param protocolSuite protocol suite.
+     * @param percentile percentile in (0, 100].
+     * @return auction latency (from the start of the wave until the auction was completed) of the given percentile
+     * over all completed auctions of the protocol suite (-1, if no auction was completed).
+     */
+    public long getAuctionLatency(Utils.ProtocolSuite protocolSuite, double percentile){
+        long[] latencies = records(protocolSuite)
+                .filter(r -> r.getOutcome() == AuctionMetrics.Outcome.Completed)
+                .mapToLong(AuctionRecord::getAuctionLatency)
+                .sorted()
+                .toArray();
+        return LoadReport.percentile(latencies, percentile);
+    }
+
+    /**
+     * Writes all records as csv (with a header line).
+     * @param writer writer, to which the csv is written.
+     * @throws IOException
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        StringBuilder sb = new StringBuilder("protocolSuite,wave,auctionId,outcome,auctionLatency");
+        for(String state : STATES) sb.append(',').append(state);
+        sb.append(",evaluationDuration,kryoBytesReceived,kryoBytesSent,biddersCompleted,bidderLatencyP50,bidderLatencyP99\n");
+        for(AuctionRecord record : records){
+            sb.append(record.getProtocolSuite()).append(',')
+                    .append(record.getWave()).append(',')
+                    .append(record.getAuctionId()).append(',')
+                    .append(record.getOutcome()).append(',')
+                    .append(record.getAuctionLatency());
+            for(String state : STATES) sb.append(',').append(record.getStateDurations().getOrDefault(state, -1L));
+            sb.append(',').append(record.getEvaluationDuration())
+                    .append(',').append(record.getKryoBytesReceived())
+                    .append(',').append(record.getKryoBytesSent())
+                    .append(',').append(record.getBiddersCompleted())
+                    .append(',').append(record.getBidderLatencyP50())
+                    .append(',').append(record.getBidderLatencyP99())
+                    .append('\n');
+        }
+        writer.write(sb.toString());
+        writer.flush();
+    }
+
+    /**
+     * Exports the summary of every protocol suite and all records as json.
+     * @return report as json.
+     */
+    public String toJson(){
+        JsonObject root = new JsonObject();
+        JsonArray summaries = new JsonArray();
+        for(Utils.ProtocolSuite protocolSuite : wallTimes.keySet()){
+            JsonObject summary = new JsonObject();
+            summary.addProperty("protocolSuite", protocolSuite.name());
+            summary.addProperty("auctions", records(protocolSuite).count());
+            summary.addProperty("auctionsCompleted", count(protocolSuite, AuctionMetrics.Outcome.Completed));
+            summary.addProperty("auctionsFailed", count(protocolSuite, AuctionMetrics.Outcome.Failed));
+            summary.addProperty("wallTime", wallTimes.get(protocolSuite));
+            summary.addProperty("auctionsPerMinute", getThroughput(protocolSuite));
+            summary.addProperty("auctionLatencyP50", getAuctionLatency(protocolSuite, 50));
+            summary.addProperty("auctionLatencyP99", getAuctionLatency(protocolSuite, 99));
+            JsonObject stateLatencies = new JsonObject();
+            for(String state : STATES){
+                JsonObject latency = new JsonObject();
+                latency.addProperty("p50", getStateLatency(protocolSuite, state, 50));
+                latency.addProperty("p99", getStateLatency(protocolSuite, state, 99));
+                stateLatencies.add(state, latency);
+            }
+            summary.add("stateLatencies", stateLatencies);
+            summaries.add(summary);
+        }
+        root.add("summaries", summaries);
+        JsonArray recordArray = new JsonArray();
+        for(AuctionRecord record : records){
+            JsonObject recordObject = new JsonObject();
+            recordObject.addProperty("protocolSuite", record.getProtocolSuite().name());
+            recordObject.addProperty("wave", record.getWave());
+            recordObject.addProperty("auctionId", record.getAuctionId());
+            recordObject.addProperty("outcome", record.getOutcome().name());
+            recordObject.addProperty("auctionLatency", record.getAuctionLatency());
+            JsonObject stateDurations = new JsonObject();
+            for(Map.Entry<String, Long> entry : record.getStateDurations().entrySet()){
+                stateDurations.addProperty(entry.getKey(), entry.getValue());
+            }
+            recordObject.add("stateDurations", stateDurations);
+            recordObject.addProperty("evaluationDuration", record.getEvaluationDuration());
+            recordObject.addProperty("kryoBytesReceived", record.getKryoBytesReceived());
+            recordObject.addProperty("kryoBytesSent", record.getKryoBytesSent());
+            recordObject.addProperty("biddersCompleted", record.getBiddersCompleted());
+            recordObject.addProperty("bidderLatencyP50", record.getBidderLatencyP50());
+            recordObject.addProperty("bidderLatencyP99", record.getBidderLatencyP99());
+            recordArray.add(recordObject);
+        }
+        root.add("auctions", recordArray);
+        return new GsonBuilder().setPrettyPrinting().create().toJson(root);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for(Utils.ProtocolSuite protocolSuite : wallTimes.keySet()){
+            sb.append(String.format("[%s] auctions: %d (completed=%d, failed=%d), throughput: %.1f auctions/min, " +
+                            "auction latency [ms]: p50=%d, p99=%d%n",
+                    protocolSuite, records(protocolSuite).count(),
+                    count(protocolSuite, AuctionMetrics.Outcome.Completed),
+                    count(protocolSuite, AuctionMetrics.Outcome.Failed),
+                    getThroughput(protocolSuite),
+                    getAuctionLatency(protocolSuite, 50), getAuctionLatency(protocolSuite, 99)));
+            for(String state : STATES){
+                sb.append(String.format("  %s [ms]: p50=%d, p99=%d%n", state,
+                        getStateLatency(protocolSuite, state, 50), getStateLatency(protocolSuite, state, 99)));
+            }
+        }
+        return sb.toString();
+    }
+
+    private Stream<AuctionRecord> records(Utils.ProtocolSuite protocolSuite){
+        return records.stream().filter(r -> r.getProtocolSuite() == protocolSuite);
+    }
+
+    /**
+     * Record of a single auction.
+     */
+    @Getter
+    public final static class AuctionRecord {
+        /** Protocol suite of the auction.*/
+        private final Utils.ProtocolSuite protocolSuite;
+        /** Index of the wave, in which the auction was run.*/
+        private final int wave;
+        /** Id of the auction.*/
+        private final int auctionId;
+        /** Outcome of the auction.*/
+        private final AuctionMetrics.Outcome outcome;
+        /** Time from the start of the wave until the auction was completed or aborted.*/
+        private final long auctionLatency;
+        /** Time spent in each state of the server-worker (mapped by the name of the state).*/
+        private final Map<String, Long> stateDurations;
+        /** Duration of the auction evaluation of the server-worker (-1, if not finished).*/
+        private final long evaluationDuration;
+        /** Bytes received by the server-worker over kryo.*/
+        private final long kryoBytesReceived;
+        /** Bytes sent by the server-worker over kryo.*/
+        private final long kryoBytesSent;
+        /** Number of bidders, which completed the auction.*/
+        private final long biddersCompleted;
+        /** Median completion latency of the bidders (-1, if no bidder completed the auction).*/
+        private final long bidderLatencyP50;
+        /** 99th percentile of the completion latency of the bidders (-1, if no bidder completed the auction).*/
+        private final long bidderLatencyP99;
+
+        /**
+         * @param protocolSuite protocol suite of the auction.
+         * @param wave index of the wave, in which the auction was run.
+         * @param auctionId id of the auction.
+         * @param outcome outcome of the auction.
+         * @param auctionLatency time from the start of the wave until the auction was completed or aborted.
+         * @param stateDurations time spent in each state of the server-worker.
+         * @param evaluationDuration duration of the auction evaluation of the server-worker.
+         * @param kryoBytesReceived bytes received by the server-worker over kryo.
+         * @param kryoBytesSent bytes sent by the server-worker over kryo.
+         * @param biddersCompleted number of bidders, which completed the auction.
+         * @param bidderLatencyP50 median completion latency of the bidders.
+         * @param bidderLatencyP99 99th percentile of the completion latency of the bidders.
+         */
+        public AuctionRecord(Utils.ProtocolSuite protocolSuite, int wave, int auctionId,
+                             AuctionMetrics.Outcome outcome, long auctionLatency,
+                             Map<String, Long> stateDurations, long evaluationDuration,
+                             long kryoBytesReceived, long kryoBytesSent, long biddersCompleted,
+                             long bidderLatencyP50, long bidderLatencyP99) {
+            this.protocolSuite = protocolSuite;
+            this.wave = wave;
+            this.auctionId = auctionId;
+            this.outcome = outcome;
+            this.auctionLatency = auctionLatency;
+            this.stateDurations = stateDurations;
+            this.evaluationDuration = evaluationDuration;
+            this.kryoBytesReceived = kryoBytesReceived;
+            this.kryoBytesSent = kryoBytesSent;
+            this.biddersCompleted = biddersCompleted;
+            this.bidderLatencyP50 = bidderLatencyP50;
+            this.bidderLatencyP99 = bidderLatencyP99;
+        }
+    }
+}
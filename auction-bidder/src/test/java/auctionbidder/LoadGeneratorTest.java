@@ -0,0 +1,201 @@
+package auctionbidder;
+
+import auctionplatform.metrics.MetricsRegistry;
+import auctionplatform.worker.ServerConfiguration;
+import auctionplatform.worker.ServerWorker;
+import auctionplatform.worker.WorkerListener;
+import frescoauction.auction.Auction;
+import frescoauction.util.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testing {@link LoadGenerator} with simulated bidders, which join an auction of a {@link ServerWorker}.
+ */
+public class LoadGeneratorTest {
+    private static final int AUCTION_ID = 1;
+    private static final int STATE_DURATION = 5;
+    private static final String SERVER_IP = "localhost";
+    private static final int SERVER_PORT = 8890;
+    private static final int FRESCO_PORT = 9100;
+    private static final int FIRST_BIDDER_FRESCO_PORT = 5100;
+
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        executorService = null;
+    }
+
+    /**
+     * Starts a server-worker, which closes the registration as soon as the given number of bidders registered.
+     * @param maxBidders maximum number of bidders.
+     * @param listener event listener of the server-worker.
+     * @return future, which is completed when the server-worker has shut down.
+     * @throws InterruptedException
+     */
+    private Future<?> startServer(int maxBidders, WorkerListener listener) throws InterruptedException {
+        ServerConfiguration serverConfig = new ServerConfiguration(
+                AUCTION_ID, 1, Utils.AuctionType.SealedSecondPrice,
+                STATE_DURATION, 1, SERVER_IP, SERVER_PORT, FRESCO_PORT,
+                STATE_DURATION, STATE_DURATION, Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy,
+                0, maxBidders, null, 0);
+        Future<?> server = executorService.submit(new ServerWorker(serverConfig, listener, new MetricsRegistry()));
+        TimeUnit.SECONDS.sleep(1);
+        return server;
+    }
+
+    /**
+     * @param noOfBidders number of bidders.
+     * @param leaveProbability probability, with which a bidder leaves the auction.
+     * @return configuration of the simulation.
+     */
+    private static BidderConfiguration config(int noOfBidders, double leaveProbability){
+        return new BidderConfiguration(SERVER_IP, SERVER_PORT, new int[]{AUCTION_ID}, noOfBidders,
+                1, FIRST_BIDDER_FRESCO_PORT, BidDistribution.Uniform, 1, 1000,
+                200, leaveProbability, 42, 60);
+    }
+
+    /**
+     * Tests, if all bidders complete the auction and agree on the result.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @Test
+    public void testAllBiddersComplete() throws InterruptedException, ExecutionException {
+        CompletableFuture<Auction.AuctionResult> serverResult = new CompletableFuture<>();
+        Future<?> server = startServer(3, new WorkerListener() {
+            @Override
+            public void onCompletion(Auction.AuctionResult result, int clientId) {
+                serverResult.complete(result);
+            }
+
+            @Override
+            public void onError(String errorMessage) {
+                serverResult.completeExceptionally(new IllegalStateException(errorMessage));
+            }
+        });
+        LoadReport report = new LoadGenerator(config(3, 0)).run();
+        server.get();
+
+        assertEquals(3, report.count(Bidder.Outcome.Completed));
+        assertEquals(1, report.getResults().stream().filter(Bidder.Result::isWinner).count());
+        int[] bids = report.getResults().stream().mapToInt(Bidder.Result::getBid).sorted().toArray();
+        for(Bidder.Result result : report.getResults()){
+            assertEquals(serverResult.get().getFinalPrice(), result.getFinalPrice());
+            assertEquals(bids[1], result.getFinalPrice());
+            assertTrue(result.getEvaluationLatency() <= result.getCompletionLatency());
+        }
+        assertTrue(report.getCompletionLatency(50) >= 0);
+        assertTrue(report.getCompletionLatency(99) >= report.getCompletionLatency(50));
+    }
+
+    /**
+     * Tests, if bidders, which leave during the registration, are reported as left.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @Test
+    public void testAllBiddersLeave() throws InterruptedException, ExecutionException {
+        Future<?> server = startServer(0, new WorkerListener() {
+            @Override
+            public void onCompletion(Auction.AuctionResult result, int clientId) {
+            }
+
+            @Override
+            public void onError(String errorMessage) {
+            }
+        });
+        LoadReport report = new LoadGenerator(config(4, 1)).run();
+        assertEquals(4, report.count(Bidder.Outcome.Left));
+        assertEquals(-1, report.getCompletionLatency(50));
+        server.get();
+    }
+
+    /**
+     * Tests, if the evaluation executor runs at most the given number of evaluations and rejects further ones
+     * instead of queueing them.
+     * @throws InterruptedException
+     */
+    @Test
+    public void testEvaluationExecutorIsBounded() throws InterruptedException {
+        ExecutorService evaluationExecutor = LoadGenerator.newEvaluationExecutor(2);
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            for(int i = 0; i < 2; i++){
+                evaluationExecutor.execute(() -> {
+                    running.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+            assertThrows(RejectedExecutionException.class, () -> evaluationExecutor.execute(() -> {}));
+        } finally {
+            release.countDown();
+            evaluationExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests the nearest-rank percentiles.
+     */
+    @Test
+    public void testPercentile(){
+        long[] values = new long[100];
+        for(int i = 0; i < values.length; i++) values[i] = i + 1;
+        assertEquals(50, LoadReport.percentile(values, 50));
+        assertEquals(99, LoadReport.percentile(values, 99));
+        assertEquals(100, LoadReport.percentile(values, 100));
+        assertEquals(1, LoadReport.percentile(values, 0.1));
+        assertEquals(7, LoadReport.percentile(new long[]{7}, 99));
+        assertEquals(-1, LoadReport.percentile(new long[0], 50));
+        assertThrows(IllegalArgumentException.class, () -> LoadReport.percentile(values, 0));
+    }
+
+    /**
+     * Tests, if all bids are drawn from the configured range.
+     */
+    @Test
+    public void testBidDistributions(){
+        Random random = new Random(42);
+        for(BidDistribution distribution : BidDistribution.values()){
+            for(int i = 0; i < 1000; i++){
+                int bid = distribution.sample(random, 10, 20);
+                assertTrue(bid >= 10 && bid <= 20);
+            }
+            assertEquals(Integer.MAX_VALUE, distribution.sample(random, Integer.MAX_VALUE, Integer.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Tests, if invalid configurations are rejected.
+     */
+    @Test
+    public void testInvalidConfiguration(){
+        assertThrows(IllegalArgumentException.class, () -> new BidderConfiguration(SERVER_IP, SERVER_PORT,
+                new int[0], 1, 1, FIRST_BIDDER_FRESCO_PORT, BidDistribution.Uniform, 1, 10, 0, 0, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BidderConfiguration(SERVER_IP, SERVER_PORT,
+                new int[]{AUCTION_ID}, 1, 1, FIRST_BIDDER_FRESCO_PORT, BidDistribution.Uniform, 10, 1, 0, 0, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BidderConfiguration(SERVER_IP, SERVER_PORT,
+                new int[]{AUCTION_ID}, 1, 1, FIRST_BIDDER_FRESCO_PORT, BidDistribution.Uniform, 1, 10, 0, 1.5, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new BidderConfiguration(SERVER_IP, SERVER_PORT,
+                new int[]{AUCTION_ID}, 1, 1, FIRST_BIDDER_FRESCO_PORT, BidDistribution.Uniform, 1, 10, 0, 0, 0, 10, -1));
+    }
+}
@@ -0,0 +1,110 @@
+package auctionbidder;
+
+import auctionplatform.metrics.AuctionMetrics;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import frescoauction.util.Utils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testing {@link LoadTest} and the exports of {@link LoadTestReport}.
+ */
+public class LoadTestTest {
+    private static final String HOST_IP = "localhost";
+    private static final int STATE_DURATION = 10;
+    private static final int TIMEOUT = 120;
+
+    /**
+     * Runs the load test with the given protocol suite.
+     * @param protocolSuite protocol suite, which should be tested.
+     * @param firstPort first port of the ranges, which are used by the load test.
+     * @throws InterruptedException
+     * @throws IOException
+     */
+    private static void testLoadTest(Utils.ProtocolSuite protocolSuite, int firstPort)
+            throws InterruptedException, IOException {
+        int noOfAuctions = 3;
+        int waves = 2;
+        LoadTestConfiguration config = new LoadTestConfiguration(HOST_IP, firstPort, firstPort + 100,
+                firstPort + 200, noOfAuctions, 2, waves, Utils.AuctionType.SealedSecondPrice,
+                new Utils.ProtocolSuite[]{protocolSuite}, BidDistribution.Uniform, 1000, 42,
+                STATE_DURATION, TIMEOUT);
+        LoadTestReport report = new LoadTest(config).run();
+
+        assertEquals(noOfAuctions * waves, report.getRecords().size());
+        assertEquals(noOfAuctions * waves, report.count(protocolSuite, AuctionMetrics.Outcome.Completed));
+        assertTrue(report.getThroughput(protocolSuite) > 0);
+        for(LoadTestReport.AuctionRecord record : report.getRecords()){
+            assertEquals(2, record.getBiddersCompleted());
+            assertTrue(record.getEvaluationDuration() >= 0);
+            assertTrue(record.getStateDurations().keySet().containsAll(LoadTestReport.STATES));
+        }
+        for(String state : LoadTestReport.STATES){
+            assertTrue(report.getStateLatency(protocolSuite, state, 99) >= report.getStateLatency(protocolSuite, state, 50));
+        }
+
+        StringWriter csv = new StringWriter();
+        report.writeCsv(csv);
+        String[] lines = csv.toString().split("\n");
+        assertEquals(noOfAuctions * waves + 1, lines.length);
+        assertEquals(lines[0].split(",").length, lines[1].split(",").length);
+
+        JsonObject json = JsonParser.parseString(report.toJson()).getAsJsonObject();
+        assertEquals(noOfAuctions * waves, json.getAsJsonArray("auctions").size());
+        JsonObject summary = json.getAsJsonArray("summaries").get(0).getAsJsonObject();
+        assertEquals(protocolSuite.name(), summary.get("protocolSuite").getAsString());
+        assertEquals(noOfAuctions * waves, summary.get("auctionsCompleted").getAsInt());
+    }
+
+    /**
+     * Tests the load test with {@link Utils.ProtocolSuite#DummyArithmetic}.
+     * @throws InterruptedException
+     * @throws IOException
+     */
+    @Test
+    public void testDummyArithmeticSuite() throws InterruptedException, IOException {
+        testLoadTest(Utils.ProtocolSuite.DummyArithmetic, 7000);
+    }
+
+    /**
+     * Tests the load test with {@link Utils.ProtocolSuite#Spdz} and {@link Utils.Preprocessing#Dummy}
+     * as preprocessing strategy.
+     * @throws InterruptedException
+     * @throws IOException
+     */
+    @Test
+    public void testSpdzWithDummy() throws InterruptedException, IOException {
+        testLoadTest(Utils.ProtocolSuite.Spdz, 7500);
+    }
+
+    /**
+     * Tests the throughput and the percentiles of a report with known records.
+     */
+    @Test
+    public void testSummary(){
+        Map<String, Long> stateDurations = new LinkedHashMap<>();
+        stateDurations.put("Registration", 100L);
+        LoadTestReport.AuctionRecord completed = new LoadTestReport.AuctionRecord(Utils.ProtocolSuite.DummyArithmetic,
+                0, 1, AuctionMetrics.Outcome.Completed, 500, stateDurations, 50, 0, 0, 2, 400, 450);
+        LoadTestReport.AuctionRecord failed = new LoadTestReport.AuctionRecord(Utils.ProtocolSuite.DummyArithmetic,
+                0, 2, AuctionMetrics.Outcome.Failed, 1000, Collections.emptyMap(), -1, 0, 0, 0, -1, -1);
+        Map<Utils.ProtocolSuite, Long> wallTimes = Collections.singletonMap(Utils.ProtocolSuite.DummyArithmetic, 30_000L);
+        LoadTestReport report = new LoadTestReport(Arrays.asList(completed, failed), wallTimes);
+
+        assertEquals(2.0, report.getThroughput(Utils.ProtocolSuite.DummyArithmetic));
+        assertEquals(1, report.count(Utils.ProtocolSuite.DummyArithmetic, AuctionMetrics.Outcome.Failed));
+        assertEquals(500, report.getAuctionLatency(Utils.ProtocolSuite.DummyArithmetic, 99));
+        assertEquals(100, report.getStateLatency(Utils.ProtocolSuite.DummyArithmetic, "Registration", 50));
+        assertEquals(-1, report.getStateLatency(Utils.ProtocolSuite.DummyArithmetic, "Closure", 50));
+        assertEquals(0, report.getThroughput(Utils.ProtocolSuite.Spdz));
+    }
+}
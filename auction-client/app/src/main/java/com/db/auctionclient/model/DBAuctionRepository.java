@@ -6,15 +6,35 @@ import com.db.auctionclient.model.db.AppDatabase;
 import com.db.auctionclient.model.db.AuctionDao;
 import com.db.auctionclient.model.db.AuctionTaskDao;
 import com.db.auctionclient.model.entities.Auction;
+import com.db.auctionclient.model.entities.AuctionPhase;
 import com.db.auctionclient.model.entities.AuctionTask;
 import com.db.auctionclient.model.entities.AuctionWithTask;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Implementation of {@link AuctionRepository}, which obtains data from a Room database.
+ * Implementation of {@link AuctionRepository}, which obtains data from a Room database.<br>
+ * Updates of auction tasks are written behind: they are collected by the id of the auction and flushed
+ * after a short delay within a single transaction, so consecutive updates of the same auction task
+ * result in one write. An update to a final phase ({@link AuctionPhase#Completion} or {@link AuctionPhase#Abortion})
+ * is flushed without delay together with all pending updates, so the result of an auction is not lost,
+ * if the process is killed within the delay.
  */
 public class DBAuctionRepository implements AuctionRepository{
+    /** Delay between the first pending update and the flush (milliseconds).*/
+    private static final long FLUSH_DELAY = 50;
+    /** Executes all writes of auction tasks in order (inserts before the flushes of later updates).*/
+    private static final ScheduledExecutorService writeExecutor = Executors.newSingleThreadScheduledExecutor();
+    /** Pending updates of auction tasks (mapped by the id of the auction), shared by all repositories.*/
+    private static final Map<Integer, AuctionTask> pendingUpdates = new LinkedHashMap<>();
+    /** Indicates, if a flush of the pending updates is scheduled.*/
+    private static boolean flushScheduled;
     /** Provides access to the auction table.*/
     private AuctionDao auctionDao;
     /** Provides access to the auction task table.*/
@@ -42,14 +62,46 @@ public class DBAuctionRepository implements AuctionRepository{
 
     @Override
     public void addAuctionTask(AuctionTask task) {
-        AppDatabase.executorService
-                .execute(() -> auctionTaskDao.addAuctionTask(task));
+        writeExecutor.execute(() -> auctionTaskDao.addAuctionTask(task));
     }
 
     @Override
     public void updateAuctionTask(AuctionTask task) {
-        AppDatabase.executorService
-                .execute(() -> auctionTaskDao.updateAuctionTask(task));
+        if(isFinal(task.getLocalPhase())){
+            synchronized (pendingUpdates){
+                pendingUpdates.put(task.getAuctionId(), task);
+            }
+            writeExecutor.execute(this::flushUpdates);
+            return;
+        }
+        synchronized (pendingUpdates){
+            pendingUpdates.put(task.getAuctionId(), task);
+            if(flushScheduled) return;
+            flushScheduled = true;
+        }
+        writeExecutor.schedule(this::flushUpdates, FLUSH_DELAY, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param phase local phase of an auction task.
+     * @return true, if the phase is final (completion or abortion) or false otherwise.
+     */
+    private static boolean isFinal(AuctionPhase phase){
+        return phase == AuctionPhase.Completion || phase == AuctionPhase.Abortion;
+    }
+
+    /**
+     * Writes all pending updates of auction tasks within a single transaction (nothing, if an earlier flush
+     * has already written them).
+     */
+    private void flushUpdates(){
+        List<AuctionTask> tasks;
+        synchronized (pendingUpdates){
+            tasks = new ArrayList<>(pendingUpdates.values());
+            pendingUpdates.clear();
+            flushScheduled = false;
+        }
+        if(!tasks.isEmpty()) auctionTaskDao.updateAuctionTasks(tasks);
     }
 
     @Override
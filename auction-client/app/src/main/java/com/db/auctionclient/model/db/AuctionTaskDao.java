@@ -30,6 +30,13 @@ public interface AuctionTaskDao {
     @Update
     public void updateAuctionTask(AuctionTask auctionTask);
 
+    /**
+     * Updates several auction tasks within a single transaction.
+     * @param auctionTasks auction tasks, which should be updated.
+     */
+    @Update
+    public void updateAuctionTasks(List<AuctionTask> auctionTasks);
+
     /**
      * Retrieves an auction task as an observable. The observers will be notified
      * about changes (asynchronous).
@@ -31,6 +31,16 @@ public class ClientConfiguration {
     private int smpcSetUpDuration;
     /** Duration of the smpc-set-up-finish state (seconds).*/
     private int smpcSetUpFinishDuration;
+    /**
+     * Max number of threads, which run client-workers concurrently
+     * (0 uses one thread per port of the pool, see {@link ClientMaster}).
+     */
+    private int maxWorkerThreads;
+    /**
+     * Max number of client-workers, which wait for a free thread (0 uses the number of ports, which exceed
+     * the number of threads, so that every client-worker holding a port can wait, see {@link ClientMaster}).
+     */
+    private int workerQueueCapacity;
 
     /**
      * @param clientId id of the client.
@@ -44,12 +54,33 @@ public class ClientConfiguration {
      */
     public ClientConfiguration(int clientId, boolean isEmulator, int[] frescoPortPool,
                          int registrationDuration, int smpcSetUpDuration, int smpcSetUpFinishDuration) {
+        this(clientId, isEmulator, frescoPortPool, registrationDuration, smpcSetUpDuration, smpcSetUpFinishDuration,
+                0, 0);
+    }
+
+    /**
+     * @param clientId id of the client.
+     * @param isEmulator indicates, if the app is running on an emulator.
+     *                   (is set to false if running on a physical device)
+     * @param frescoPortPool pool of ports, which should be used by the client-workers
+     *                       during the auction evaluation (fresco application).
+     * @param registrationDuration duration of the registration state (seconds).
+     * @param smpcSetUpDuration duration of the smpc-set-up phase (seconds).
+     * @param smpcSetUpFinishDuration duration of the smpc-set-up-finish phase (seconds).
+     * @param maxWorkerThreads max number of threads, which run client-workers concurrently (0 for the default).
+     * @param workerQueueCapacity max number of client-workers, which wait for a free thread (0 for the default).
+     */
+    public ClientConfiguration(int clientId, boolean isEmulator, int[] frescoPortPool,
+                         int registrationDuration, int smpcSetUpDuration, int smpcSetUpFinishDuration,
+                         int maxWorkerThreads, int workerQueueCapacity) {
         this.clientId = clientId;
         this.isEmulator = isEmulator;
         this.frescoPortPool = frescoPortPool;
         this.registrationDuration = registrationDuration;
         this.smpcSetUpDuration = smpcSetUpDuration;
         this.smpcSetUpFinishDuration = smpcSetUpFinishDuration;
+        this.maxWorkerThreads = maxWorkerThreads;
+        this.workerQueueCapacity = workerQueueCapacity;
     }
 
     /**
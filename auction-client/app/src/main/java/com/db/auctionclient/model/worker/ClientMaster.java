@@ -1,23 +1,40 @@
 package com.db.auctionclient.model.worker;
 
 import com.db.auctionclient.model.AuctionRepository;
+import com.db.auctionclient.model.entities.AuctionPhase;
 import com.db.auctionclient.model.entities.AuctionTask;
 
 import java.util.Deque;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Manages instances of {@link ClientWorker}.
+ * Manages instances of {@link ClientWorker}.<br>
+ * The client-workers are run by a bounded pool of reusable threads. Every client-worker takes a port of the
+ * port pool, before it is submitted, so at most as many client-workers as ports are active. If fewer threads
+ * than ports are configured, further client-workers are queued, and if the queue is full, {@link #joinAuction}
+ * is rejected (back-pressure). All client-workers share a single thread, which runs their kryo client listeners.<br>
+ * The instance lives as long as the app process (see {@link GlobalSingleton}). Idle threads are stopped after
+ * {@link #KEEP_ALIVE_TIME} seconds, so the pools do not need to be shut down.
  */
 public class ClientMaster implements WorkerListener{
+    /** Time, after which an idle thread of the worker pool or of the listener executor is stopped (seconds).*/
+    private static final int KEEP_ALIVE_TIME = 60;
     /** Ports, which are used by client-workers for auction evaluation (fresco application).*/
     private final Deque<Integer> frescoPortPool = new ConcurrentLinkedDeque<>();
     /** Client-workers mapped to their corresponding auctionIds.*/
     private final Map<Integer, ClientWorker> workers = new ConcurrentHashMap<>();
     /** Configuration, which should be passed to the client-workers.*/
     private final ClientConfiguration config;
+    /** Bounded pool of threads, which run the client-workers.*/
+    private final ThreadPoolExecutor workerExecutor;
+    /** Executor with a single thread, which runs the kryo client listeners of all client-workers.*/
+    private final ThreadPoolExecutor listenerExecutor;
 
     /**
      * @param config Configuration, which should be passed to the client-workers..
@@ -26,6 +43,17 @@ public class ClientMaster implements WorkerListener{
         this.config = config;
         // set up fresco port pool
         for (Integer port : this.config.getFrescoPortPool()) frescoPortPool.push(port);
+        int threads = config.getMaxWorkerThreads() > 0 ? config.getMaxWorkerThreads()
+                : Math.max(1, frescoPortPool.size());
+        // by default, all client-workers, which hold a port but find no free thread, are queued
+        int queueCapacity = config.getWorkerQueueCapacity() > 0 ? config.getWorkerQueueCapacity()
+                : Math.max(1, frescoPortPool.size() - threads);
+        workerExecutor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity));
+        workerExecutor.allowCoreThreadTimeOut(true);
+        listenerExecutor = new ThreadPoolExecutor(1, 1, KEEP_ALIVE_TIME, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>());
+        listenerExecutor.allowCoreThreadTimeOut(true);
     }
 
     /**
@@ -36,22 +64,28 @@ public class ClientMaster implements WorkerListener{
      * @param bid bid.
      * @param auctionRepository auction repository.
      * @return true, if client-workers are available and auction is not processed at the moment or
-     * false otherwise.
+     * false otherwise (also if the queue of the worker pool is full).
      */
-    public boolean joinAuction(int auctionId, String hostIp, int hostPort, int bid, AuctionRepository auctionRepository){
-        boolean joined = false;
-        if(clientWorkersAvailable() && !workers.containsKey(auctionId)){
-            int smpcPort = frescoPortPool.pop();
-            AuctionTask task = new AuctionTask(auctionId,
-                    hostIp, hostPort, smpcPort,
-                    bid);
-            auctionRepository.addAuctionTask(task);
-            ClientWorker worker = new ClientWorker(config, task, auctionRepository, this);
-            new Thread(worker).start();
-            workers.put(task.getAuctionId(), worker);
-            joined = true;
+    public synchronized boolean joinAuction(int auctionId, String hostIp, int hostPort, int bid, AuctionRepository auctionRepository){
+        if(!clientWorkersAvailable() || workers.containsKey(auctionId)) return false;
+        int smpcPort = frescoPortPool.pop();
+        AuctionTask task = new AuctionTask(auctionId,
+                hostIp, hostPort, smpcPort,
+                bid);
+        auctionRepository.addAuctionTask(task);
+        ClientWorker worker = new ClientWorker(config, task, auctionRepository, this, listenerExecutor);
+        workers.put(task.getAuctionId(), worker);
+        try {
+            workerExecutor.execute(worker);
+        } catch (RejectedExecutionException e) {
+            workers.remove(task.getAuctionId());
+            frescoPortPool.push(smpcPort);
+            task.setLocalPhase(AuctionPhase.Abortion);
+            task.setErrorMessage("No client-worker available.");
+            auctionRepository.updateAuctionTask(task);
+            return false;
         }
-        return joined;
+        return true;
     }
 
     /**
@@ -10,6 +10,7 @@ import com.esotericsoftware.kryonet.Listener;
 import auctionplatform.protocol.AuctionConfiguration;
 import auctionplatform.protocol.AuctionReady;
 import auctionplatform.protocol.NetworkHelper;
+import auctionplatform.protocol.PartyDescriptor;
 import auctionplatform.protocol.Register;
 import auctionplatform.protocol.RequestAuctionStart;
 import auctionplatform.protocol.RequestConnectionData;
@@ -61,8 +62,10 @@ public class ClientWorker extends Listener implements Runnable {
      * network during the auction evaluation (fresco application).
      */
     private NetworkConfiguration networkConfiguration;
-    /** Execution service with a single executor, which is used to run the kryo client listener.*/
+    /** Execution service, which is used to run the kryo client listener (may be shared by several client-workers).*/
     private ExecutorService esKryoClientListener;
+    /** Indicates, if the listener executor is owned (and shut down) by this client-worker.*/
+    private final boolean ownsListenerExecutor;
     /**
      * Specifies the protocol suite and the preprocessing strategy
      * (the configuration is provided by the server-worker).
@@ -85,6 +88,7 @@ public class ClientWorker extends Listener implements Runnable {
     private ClientConfiguration clientConfig;
 
     /**
+     * Creates a client-worker, which runs the kryo client listener on its own executor.
      * @param clientConfig configuration of the client-worker.
      * @param task auction task, which represents the local state of an active auction.
      * @param repository repository, which provides access to the database.
@@ -94,10 +98,29 @@ public class ClientWorker extends Listener implements Runnable {
     public ClientWorker(ClientConfiguration clientConfig,
                         AuctionTask task, AuctionRepository repository,
                         WorkerListener listener) {
+        this(clientConfig, task, repository, listener, null);
+    }
+
+    /**
+     * Creates a client-worker, which runs the kryo client listener on the given executor.
+     * The listener only signals the client-worker, so a single thread can serve many client-workers.
+     * @param clientConfig configuration of the client-worker.
+     * @param task auction task, which represents the local state of an active auction.
+     * @param repository repository, which provides access to the database.
+     *                   Used for updating the state of the auction task.
+     * @param listener event listener.
+     * @param listenerExecutor shared executor, which runs the kryo client listener
+     *                         (null, if the client-worker should create its own executor).
+     */
+    public ClientWorker(ClientConfiguration clientConfig,
+                        AuctionTask task, AuctionRepository repository,
+                        WorkerListener listener, ExecutorService listenerExecutor) {
         this.clientConfig = clientConfig;
         this.task = task;
         this.repository = repository;
         this.listener = listener;
+        this.esKryoClientListener = listenerExecutor;
+        this.ownsListenerExecutor = listenerExecutor == null;
     }
 
     /**
@@ -136,16 +159,9 @@ public class ClientWorker extends Listener implements Runnable {
     private void setUpParties(AuctionConfiguration config){
         auctionConfiguration = config;
         Map<Integer, Party> parties = new HashMap<>();
-        for(String string : config.connectionData){
-            String[] data = string.split(":");
-            int id = Integer.parseInt(data[0]);
-            String ip = data[1];
-            int port = Integer.parseInt(data[2]);
-            if(clientConfig.isEmulator()){
-                ip = EMULATOR_HOST_IP_ADDRESS;
-            }
-            Party party = new Party(id, ip, port);
-            parties.put(id, party);
+        for(PartyDescriptor descriptor : config.parties){
+            String ip = clientConfig.isEmulator() ? EMULATOR_HOST_IP_ADDRESS : descriptor.getHost();
+            parties.put(descriptor.getPartyId(), new Party(descriptor.getPartyId(), ip, descriptor.getPort()));
         }
         networkConfiguration = new NetworkConfigurationImpl(config.partyId, parties);
     }
@@ -158,6 +174,8 @@ public class ClientWorker extends Listener implements Runnable {
             AuctionConfiguration config = (AuctionConfiguration) object;
             setUpParties(config);
             receivedAuctionConfiguration.countDown();
+            // the request is skipped by the server-worker, since the fresco port was announced with the registration
+            receivedConnectionDataRequest.countDown();
         }else if(object instanceof RequestAuctionStart){
             receivedStartSignal.countDown();
         }
@@ -194,7 +212,7 @@ public class ClientWorker extends Listener implements Runnable {
         kryoClient = new Client();
         kryoClient.start();
         NetworkHelper.register(kryoClient);
-        esKryoClientListener = Executors.newSingleThreadExecutor();
+        if(ownsListenerExecutor) esKryoClientListener = Executors.newSingleThreadExecutor();
         kryoClient.addListener(new ThreadedListener(this, esKryoClientListener));
         boolean connected = false;
         try {
@@ -211,15 +229,15 @@ public class ClientWorker extends Listener implements Runnable {
 
     /**
      * Executes state logic of {@link ClientWorker.State#Registration}.
-     * Sends a {@link Register} message and blocks until a {@link RequestConnectionData}
-     * message was received from the server-worker.
+     * Sends a {@link Register} message (with the fresco port of the auction task) and blocks until a
+     * {@link RequestConnectionData} or an {@link AuctionConfiguration} message was received from the server-worker.
      * Changes to the state {@link State#SMPC_SetUp}, if a request was received in the given
      * time frame or calls {@link #changeToErrorState(String)} otherwise.
      */
     private void registration(){
         task.setLocalPhase(AuctionPhase.Registration);
         repository.updateAuctionTask(task);
-        kryoClient.sendTCP(new Register(clientConfig.getClientId()));
+        kryoClient.sendTCP(new Register(task.getAuctionId(), clientConfig.getClientId(), task.getSmpcPort()));
         boolean isNotified = false;
         try {
             isNotified = receivedConnectionDataRequest.await(clientConfig.getRegistrationDuration(), TimeUnit.SECONDS);
@@ -233,7 +251,7 @@ public class ClientWorker extends Listener implements Runnable {
 
     /**
      * Executes state logic of {@link ClientWorker.State#SMPC_SetUp}.
-     * Sends the connection data ({@link ResponseConnectionData}) and
+     * Sends the connection data ({@link ResponseConnectionData}), if it was requested, and
      * blocks until a {@link AuctionConfiguration} message was received from the server-worker.
      * Changes to the state {@link State#SMPC_SetUpFinish}, if the request was received in the given
      * time frame or calls {@link #changeToErrorState(String)} otherwise.
@@ -241,7 +259,9 @@ public class ClientWorker extends Listener implements Runnable {
     private void smpcSetUp(){
         task.setLocalPhase(AuctionPhase.Running);
         repository.updateAuctionTask(task);
-        kryoClient.sendTCP(new ResponseConnectionData(task.getSmpcPort()));
+        if(auctionConfiguration == null){
+            kryoClient.sendTCP(new ResponseConnectionData(task.getAuctionId(), task.getSmpcPort()));
+        }
         boolean isNotified = false;
         try {
             isNotified = receivedAuctionConfiguration.await(clientConfig.getSmpcSetUpDuration(), TimeUnit.SECONDS);
@@ -260,7 +280,7 @@ public class ClientWorker extends Listener implements Runnable {
      * time frame or calls {@link #changeToErrorState(String)} otherwise.
      */
     private void smpcSetUpFinish(){
-        kryoClient.sendTCP(new AuctionReady());
+        kryoClient.sendTCP(new AuctionReady(task.getAuctionId()));
         boolean isNotified = false;
         try {
             isNotified = receivedStartSignal.await(clientConfig.getSmpcSetUpFinishDuration(), TimeUnit.SECONDS);
@@ -273,24 +293,24 @@ public class ClientWorker extends Listener implements Runnable {
 
     /**
      * Executes state logic of {@link ClientWorker.State#SMPC_Running}.
-     * Starts the auction evaluation and notifies the server-worker by sending a
-     * {@link ResponseAuctionStart} message.
+     * Notifies the server-worker by sending a {@link ResponseAuctionStart} message and runs the
+     * auction evaluation on the thread of the client-worker (all parties start concurrently, connections
+     * to parties, which are not listening yet, are retried by the fresco network).
      * Updates the auction task and changes to state {@link State#Closure}, if the
-     * evaluation succeeded or calls {@link #changeToErrorState(String)} otherwise.
+     * evaluation succeeded or calls {@link #changeToErrorState(String)} otherwise (also if the
+     * evaluation cannot be set up, e.g. because of invalid evaluation parameters).
      */
     private void smpcRunning(){
         Auction.AuctionResult result = null;
-        ExecutorService esSmpc = Executors.newSingleThreadExecutor();
         try {
-            Future<Auction.AuctionResult> r = esSmpc.submit(new AuctionEvaluation(auctionConfiguration.auctionType, task.getCurrentBid(),
-                    auctionConfiguration.protocolSuite, auctionConfiguration.preprocessing, networkConfiguration));
-            TimeUnit.SECONDS.sleep(1);
-            kryoClient.sendTCP(new ResponseAuctionStart());
-            result = r.get();
-        } catch (InterruptedException | ExecutionException e) {
+            AuctionEvaluation evaluation = new AuctionEvaluation(auctionConfiguration.auctionType,
+                    auctionConfiguration.capBid(task.getCurrentBid()),
+                    auctionConfiguration.protocolSuite, auctionConfiguration.preprocessing,
+                    auctionConfiguration.getEvaluationParameters(), networkConfiguration);
+            kryoClient.sendTCP(new ResponseAuctionStart(task.getAuctionId()));
+            result = evaluation.call();
+        } catch (Exception e) {
             e.printStackTrace();
-        }finally {
-            esSmpc.shutdown();
         }
         if(result != null){
             task.setHasWon(networkConfiguration.getMyId() == result.getWinnerId());
@@ -306,7 +326,7 @@ public class ClientWorker extends Listener implements Runnable {
      */
     private void shutdown(){
         if(kryoClient != null) kryoClient.stop();
-        esKryoClientListener.shutdown();
+        if(ownsListenerExecutor && esKryoClientListener != null) esKryoClientListener.shutdown();
         listener.onCompleteTask(task);
     }
 
@@ -11,6 +11,7 @@ import java.util.concurrent.Future;
 
 import auctionplatform.protocol.AuctionConfiguration;
 import auctionplatform.protocol.AuctionReady;
+import auctionplatform.protocol.PartyDescriptor;
 import auctionplatform.protocol.Register;
 import auctionplatform.protocol.RequestAuctionStart;
 import auctionplatform.protocol.RequestConnectionData;
@@ -54,12 +55,12 @@ public class ServerWorker extends AbstractTestServerWorker {
         }else if(object instanceof ResponseConnectionData){
             int clientSmpcPort = ((ResponseConnectionData) object).frescoPort;
             setNetworkConfiguration(clientSmpcPort);
-            String server = String.format("1:localhost:%d", frescoPort);
-            String client = String.format("2:localhost:%d", clientSmpcPort);
+            PartyDescriptor server = new PartyDescriptor(1, "localhost", frescoPort);
+            PartyDescriptor client = new PartyDescriptor(2, "localhost", clientSmpcPort);
             AuctionConfiguration configuration = new AuctionConfiguration(
                     2, auctionType,
                     protocolSuite, preprocessing,
-                    new String[]{server, client});
+                    new PartyDescriptor[]{server, client});
             connection.sendTCP(configuration);
         } else if(object instanceof AuctionReady){
             connection.sendTCP(new RequestAuctionStart());
@@ -4,6 +4,7 @@ import com.esotericsoftware.kryonet.Connection;
 
 import auctionplatform.protocol.AuctionConfiguration;
 import auctionplatform.protocol.AuctionReady;
+import auctionplatform.protocol.PartyDescriptor;
 import auctionplatform.protocol.Register;
 import auctionplatform.protocol.RequestAuctionStart;
 import auctionplatform.protocol.RequestConnectionData;
@@ -30,12 +31,12 @@ public class ServerWorkerEvaluationAbortion extends AbstractTestServerWorker {
             connection.sendTCP(new RequestConnectionData());
         }else if(object instanceof ResponseConnectionData){
             int clientSmpcPort = ((ResponseConnectionData) object).frescoPort;
-            String server = String.format("1:localhost:%d", frescoPort);
-            String client = String.format("2:localhost:%d", clientSmpcPort);
+            PartyDescriptor server = new PartyDescriptor(1, "localhost", frescoPort);
+            PartyDescriptor client = new PartyDescriptor(2, "localhost", clientSmpcPort);
             AuctionConfiguration configuration = new AuctionConfiguration(
                     2, Utils.AuctionType.SealedFirstPrice,
                     Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy,
-                    new String[]{server, client});
+                    new PartyDescriptor[]{server, client});
             connection.sendTCP(configuration);
         } else if(object instanceof AuctionReady){
             connection.sendTCP(new RequestAuctionStart());
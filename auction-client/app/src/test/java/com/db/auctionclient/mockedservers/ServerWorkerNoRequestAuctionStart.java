@@ -6,6 +6,7 @@ import java.util.concurrent.TimeUnit;
 
 import auctionplatform.protocol.AuctionConfiguration;
 import auctionplatform.protocol.AuctionReady;
+import auctionplatform.protocol.PartyDescriptor;
 import auctionplatform.protocol.Register;
 import auctionplatform.protocol.RequestConnectionData;
 import auctionplatform.protocol.ResponseConnectionData;
@@ -32,12 +33,12 @@ public class ServerWorkerNoRequestAuctionStart extends AbstractTestServerWorker
             connection.sendTCP(new RequestConnectionData());
         }else if(object instanceof ResponseConnectionData){
             int clientFrescoPort = ((ResponseConnectionData) object).frescoPort;
-            String server = String.format("1:localhost:%d", frescoPort);
-            String client = String.format("2:localhost:%d", clientFrescoPort);
+            PartyDescriptor server = new PartyDescriptor(1, "localhost", frescoPort);
+            PartyDescriptor client = new PartyDescriptor(2, "localhost", clientFrescoPort);
             AuctionConfiguration configuration = new AuctionConfiguration(
                     2, Utils.AuctionType.SealedFirstPrice,
                     Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy,
-                    new String[]{server, client});
+                    new PartyDescriptor[]{server, client});
             connection.sendTCP(configuration);
         } else if(object instanceof AuctionReady){
             try {
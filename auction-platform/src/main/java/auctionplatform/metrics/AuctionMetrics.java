@@ -0,0 +1,135 @@
+package auctionplatform.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Metrics of a single auction, which are recorded by the server-worker: time spent in each state, number of
+ * registered clients, bytes exchanged over kryo and the duration of the auction evaluation (fresco application).
+ * All durations are measured in milliseconds. The methods are thread-safe.
+ */
+public class AuctionMetrics {
+    /** Outcome of the auction.*/
+    public enum Outcome{Running, Completed, Failed}
+
+    /** Id of the auction.*/
+    private final int auctionId;
+    /** Time spent in the states, which were left (mapped by the name of the state, in order of entering).*/
+    private final Map<String, Long> stateDurations = new LinkedHashMap<>();
+    /** Name of the current state (null, if no state was entered yet).*/
+    private String currentState;
+    /** Time at which the current state was entered (nanoseconds).*/
+    private long currentStateEnteredAt;
+    /** Number of registered clients.*/
+    private int registeredClients;
+    /** Bytes received from the clients over kryo.*/
+    private long kryoBytesReceived;
+    /** Bytes sent to the clients over kryo.*/
+    private long kryoBytesSent;
+    /** Time at which the auction evaluation was started (nanoseconds, -1 if not started).*/
+    private long evaluationStartedAt = -1;
+    /** Duration of the auction evaluation (-1, if not finished).*/
+    private long evaluationDuration = -1;
+    /** Outcome of the auction.*/
+    private Outcome outcome = Outcome.Running;
+
+    /**
+     * @param auctionId id of the auction.
+     */
+    public AuctionMetrics(int auctionId) {
+        this.auctionId = auctionId;
+    }
+
+    /**
+     * Leaves the current state (if there is one) and enters the given state.
+     * @param state name of the state.
+     */
+    public synchronized void enterState(String state){
+        long now = System.nanoTime();
+        leaveCurrentState(now);
+        currentState = state;
+        currentStateEnteredAt = now;
+    }
+
+    /**
+     * Leaves the current state and sets the outcome of the auction.
+     * @param outcome outcome of the auction ({@link Outcome#Completed} or {@link Outcome#Failed}).
+     */
+    public synchronized void finish(Outcome outcome){
+        leaveCurrentState(System.nanoTime());
+        currentState = null;
+        this.outcome = outcome;
+    }
+
+    public synchronized void setRegisteredClients(int registeredClients){
+        this.registeredClients = registeredClients;
+    }
+
+    /**
+     * @param received bytes received from the clients since the last call.
+     * @param sent bytes sent to the clients since the last call.
+     */
+    public synchronized void addKryoBytes(long received, long sent){
+        kryoBytesReceived += received;
+        kryoBytesSent += sent;
+    }
+
+    public synchronized void evaluationStarted(){
+        evaluationStartedAt = System.nanoTime();
+    }
+
+    public synchronized void evaluationFinished(){
+        if(evaluationStartedAt >= 0) evaluationDuration = toMillis(System.nanoTime() - evaluationStartedAt);
+    }
+
+    public int getAuctionId() {
+        return auctionId;
+    }
+
+    public synchronized Outcome getOutcome() {
+        return outcome;
+    }
+
+    public synchronized String getCurrentState() {
+        return currentState;
+    }
+
+    public synchronized int getRegisteredClients() {
+        return registeredClients;
+    }
+
+    public synchronized long getKryoBytesReceived() {
+        return kryoBytesReceived;
+    }
+
+    public synchronized long getKryoBytesSent() {
+        return kryoBytesSent;
+    }
+
+    /**
+     * @return duration of the auction evaluation (-1, if not finished).
+     */
+    public synchronized long getEvaluationDuration() {
+        return evaluationDuration;
+    }
+
+    /**
+     * @return time spent in each state, including the time spent in the current state so far
+     * (mapped by the name of the state, in order of entering).
+     */
+    public synchronized Map<String, Long> getStateDurations(){
+        Map<String, Long> durations = new LinkedHashMap<>(stateDurations);
+        if(currentState != null) {
+            durations.merge(currentState, toMillis(System.nanoTime() - currentStateEnteredAt), Long::sum);
+        }
+        return durations;
+    }
+
+    private void leaveCurrentState(long now){
+        if(currentState != null) stateDurations.merge(currentState, toMillis(now - currentStateEnteredAt), Long::sum);
+    }
+
+    private static long toMillis(long nanos){
+        return nanos / 1_000_000;
+    }
+}
@@ -0,0 +1,92 @@
+package auctionplatform.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the metrics of a {@link MetricsRegistry} either over http (prometheus text format at {@link #PATH})
+ * or by dumping them periodically as json into a file. Both exports can be used at the same time.
+ */
+public class MetricsExporter {
+    /** Path of the http endpoint.*/
+    public static final String PATH = "/metrics";
+
+    /** Registry, whose metrics are exported.*/
+    private final MetricsRegistry registry;
+    /** Http server of the endpoint (null, if not started).*/
+    private HttpServer httpServer;
+    /** Scheduler of the json dump (null, if not started).*/
+    private ScheduledExecutorService dumpScheduler;
+
+    /**
+     * @param registry registry, whose metrics should be exported.
+     */
+    public MetricsExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Starts the http endpoint, which serves the metrics in the prometheus text format at {@link #PATH}.
+     * @param port port of the endpoint.
+     * @throws IOException is thrown if the port cannot be bound.
+     */
+    public synchronized void startHttpEndpoint(int port) throws IOException {
+        if(httpServer != null) return;
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext(PATH, exchange -> {
+            byte[] body = registry.toPrometheusText().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        httpServer = server;
+    }
+
+    /**
+     * Starts dumping the metrics as json into the given file. The file is replaced atomically on every dump.
+     * @param file path to the file.
+     * @param periodSeconds period of the dump (seconds).
+     */
+    public synchronized void startJsonDump(String file, int periodSeconds){
+        if(dumpScheduler != null) return;
+        Path path = Paths.get(file).toAbsolutePath();
+        dumpScheduler = Executors.newSingleThreadScheduledExecutor();
+        dumpScheduler.scheduleAtFixedRate(() -> {
+            try {
+                Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+                Files.write(tmp, registry.toJson().getBytes(StandardCharsets.UTF_8));
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }, periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the http endpoint and the json dump.
+     */
+    public synchronized void stop(){
+        if(httpServer != null){
+            httpServer.stop(0);
+            httpServer = null;
+        }
+        if(dumpScheduler != null){
+            dumpScheduler.shutdownNow();
+            dumpScheduler = null;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package auctionplatform.metrics;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the metrics of all auctions of a process and exports them in the prometheus text format
+ * ({@link #toPrometheusText()}) or as json ({@link #toJson()}). Besides the metrics of the single auctions
+ * the registry counts started, completed and failed auctions. Only the metrics of the latest finished auctions
+ * are retained (see {@link #DEFAULT_MAX_FINISHED_AUCTIONS}). The methods are thread-safe.
+ */
+public class MetricsRegistry {
+    /** Default number of finished auctions, whose metrics are retained.*/
+    public static final int DEFAULT_MAX_FINISHED_AUCTIONS = 1000;
+
+    /** Number of finished auctions, whose metrics are retained.*/
+    private final int maxFinishedAuctions;
+    /** Metrics of the auctions mapped by the auction id (in order of registration).*/
+    private final Map<Integer, AuctionMetrics> auctions = new LinkedHashMap<>();
+    private long auctionsStarted;
+    private long auctionsCompleted;
+    private long auctionsFailed;
+
+    public MetricsRegistry() {
+        this(DEFAULT_MAX_FINISHED_AUCTIONS);
+    }
+
+    /**
+     * @param maxFinishedAuctions number of finished auctions, whose metrics are retained.
+     */
+    public MetricsRegistry(int maxFinishedAuctions) {
+        this.maxFinishedAuctions = maxFinishedAuctions;
+    }
+
+    /**
+     * Registers a new auction. Metrics of a previous auction with the same id are replaced.
+     * @param auctionId id of the auction.
+     * @return metrics of the auction.
+     */
+    public synchronized AuctionMetrics register(int auctionId){
+        AuctionMetrics metrics = new AuctionMetrics(auctionId);
+        auctions.remove(auctionId);
+        auctions.put(auctionId, metrics);
+        auctionsStarted++;
+        return metrics;
+    }
+
+    /**
+     * Finishes the auction and removes the metrics of the oldest finished auctions, if the limit is exceeded.
+     * @param metrics metrics of the auction.
+     * @param outcome outcome of the auction ({@link AuctionMetrics.Outcome#Completed} or
+     * {@link AuctionMetrics.Outcome#Failed}).
+     */
+    public synchronized void finish(AuctionMetrics metrics, AuctionMetrics.Outcome outcome){
+        if(metrics.getOutcome() != AuctionMetrics.Outcome.Running) return;
+        metrics.finish(outcome);
+        if(outcome == AuctionMetrics.Outcome.Completed) auctionsCompleted++;
+        else auctionsFailed++;
+        int finished = 0;
+        for(AuctionMetrics auction : auctions.values()){
+            if(auction.getOutcome() != AuctionMetrics.Outcome.Running) finished++;
+        }
+        Iterator<AuctionMetrics> iterator = auctions.values().iterator();
+        while(finished > maxFinishedAuctions && iterator.hasNext()){
+            if(iterator.next().getOutcome() != AuctionMetrics.Outcome.Running){
+                iterator.remove();
+                finished--;
+            }
+        }
+    }
+
+    /**
+     * @param auctionId id of the auction.
+     * @return metrics of the auction or null, if no metrics are retained for the auction.
+     */
+    public synchronized AuctionMetrics get(int auctionId){
+        return auctions.get(auctionId);
+    }
+
+    /**
+     * @return metrics of all retained auctions (in order of registration).
+     */
+    public synchronized List<AuctionMetrics> getAuctions(){
+        return new ArrayList<>(auctions.values());
+    }
+
+    public synchronized long getAuctionsStarted() {
+        return auctionsStarted;
+    }
+
+    public synchronized long getAuctionsCompleted() {
+        return auctionsCompleted;
+    }
+
+    public synchronized long getAuctionsFailed() {
+        return auctionsFailed;
+    }
+
+    /**
+     * Exports all metrics in the prometheus text format (version 0.0.4). Durations are exported in seconds.
+     * @return metrics as text.
+     */
+    public synchronized String toPrometheusText(){
+        StringBuilder sb = new StringBuilder();
+        appendHeader(sb, "auctions_started_total", "counter", "Number of started auctions.");
+        sb.append("auctions_started_total ").append(auctionsStarted).append('\n');
+        appendHeader(sb, "auctions_completed_total", "counter", "Number of successfully completed auctions.");
+        sb.append("auctions_completed_total ").append(auctionsCompleted).append('\n');
+        appendHeader(sb, "auctions_failed_total", "counter", "Number of failed auctions.");
+        sb.append("auctions_failed_total ").append(auctionsFailed).append('\n');
+
+        appendHeader(sb, "auction_state_duration_seconds", "gauge", "Time spent in a state of the server-worker.");
+        for(AuctionMetrics auction : auctions.values()){
+            for(Map.Entry<String, Long> entry : auction.getStateDurations().entrySet()){
+                sb.append("auction_state_duration_seconds{auction_id=\"").append(auction.getAuctionId())
+                        .append("\",state=\"").append(entry.getKey()).append("\"} ")
+                        .append(toSeconds(entry.getValue())).append('\n');
+            }
+        }
+        appendHeader(sb, "auction_current_state", "gauge", "Current state of the server-worker (1 = active).");
+        for(AuctionMetrics auction : auctions.values()){
+            String state = auction.getCurrentState();
+            if(state != null) {
+                sb.append("auction_current_state{auction_id=\"").append(auction.getAuctionId())
+                        .append("\",state=\"").append(state).append("\"} 1\n");
+            }
+        }
+        appendHeader(sb, "auction_registered_clients", "gauge", "Number of registered clients.");
+        for(AuctionMetrics auction : auctions.values()){
+            appendAuctionValue(sb, "auction_registered_clients", auction, String.valueOf(auction.getRegisteredClients()));
+        }
+        appendHeader(sb, "auction_kryo_received_bytes_total", "counter", "Bytes received from the clients over kryo.");
+        for(AuctionMetrics auction : auctions.values()){
+            appendAuctionValue(sb, "auction_kryo_received_bytes_total", auction, String.valueOf(auction.getKryoBytesReceived()));
+        }
+        appendHeader(sb, "auction_kryo_sent_bytes_total", "counter", "Bytes sent to the clients over kryo.");
+        for(AuctionMetrics auction : auctions.values()){
+            appendAuctionValue(sb, "auction_kryo_sent_bytes_total", auction, String.valueOf(auction.getKryoBytesSent()));
+        }
+        appendHeader(sb, "auction_evaluation_duration_seconds", "gauge", "Duration of the smpc auction evaluation.");
+        for(AuctionMetrics auction : auctions.values()){
+            long duration = auction.getEvaluationDuration();
+            if(duration >= 0) appendAuctionValue(sb, "auction_evaluation_duration_seconds", auction, toSeconds(duration));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Exports all metrics as json. Durations are exported in milliseconds.
+     * @return metrics as json.
+     */
+    public synchronized String toJson(){
+        JsonObject root = new JsonObject();
+        root.addProperty("auctionsStarted", auctionsStarted);
+        root.addProperty("auctionsCompleted", auctionsCompleted);
+        root.addProperty("auctionsFailed", auctionsFailed);
+        JsonArray auctionArray = new JsonArray();
+        for(AuctionMetrics auction : auctions.values()){
+            JsonObject auctionObject = new JsonObject();
+            auctionObject.addProperty("auctionId", auction.getAuctionId());
+            auctionObject.addProperty("outcome", auction.getOutcome().name());
+            auctionObject.addProperty("currentState", auction.getCurrentState());
+            auctionObject.addProperty("registeredClients", auction.getRegisteredClients());
+            auctionObject.addProperty("kryoBytesReceived", auction.getKryoBytesReceived());
+            auctionObject.addProperty("kryoBytesSent", auction.getKryoBytesSent());
+            auctionObject.addProperty("evaluationDuration", auction.getEvaluationDuration());
+            JsonObject stateDurations = new JsonObject();
+            for(Map.Entry<String, Long> entry : auction.getStateDurations().entrySet()){
+                stateDurations.addProperty(entry.getKey(), entry.getValue());
+            }
+            auctionObject.add("stateDurations", stateDurations);
+            auctionArray.add(auctionObject);
+        }
+        root.add("auctions", auctionArray);
+        return new GsonBuilder().setPrettyPrinting().create().toJson(root);
+    }
+
+    private static void appendHeader(StringBuilder sb, String name, String type, String help){
+        sb.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void appendAuctionValue(StringBuilder sb, String name, AuctionMetrics auction, String value){
+        sb.append(name).append("{auction_id=\"").append(auction.getAuctionId()).append("\"} ").append(value).append('\n');
+    }
+
+    private static String toSeconds(long millis){
+        return String.valueOf(millis / 1000.0);
+    }
+}
@@ -1,13 +1,17 @@
 package auctionplatform.protocol;
 
 
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import frescoauction.util.EvaluationParameters;
 import frescoauction.util.Utils;
 
 /**
  * A message, which contains the configuration of an auction and is sent by a server-worker to a client-worker.
  * It contains all the necessary data to start a {@link frescoauction.util.AuctionEvaluation}.
+ * The message is serialized by {@link AuctionConfigurationSerializer}.
  */
-public class AuctionConfiguration {
+public class AuctionConfiguration extends AuctionMessage {
     /** Party id, which was assigned to the client-worker.*/
     public int partyId;
     /** Type of the auction which should be evaluated.*/
@@ -16,18 +20,94 @@ public class AuctionConfiguration {
     public Utils.ProtocolSuite protocolSuite;
     /** Preprocessing strategy, which should be used, if protocol suite is set to Spdz.*/
     public Utils.Preprocessing preprocessing;
-    /** Connection data of all parties (structure of an entry: [partyId]:[ip]:[port]).*/
-    public String[] connectionData;
+    /** Connection data of all parties (sorted in ascending order of the party ids).*/
+    public PartyDescriptor[] parties;
+    /** Evaluation strategy, which should be used by the protocol suite.*/
+    public EvaluationStrategy evaluationStrategy;
+    /** Batch size, which should be used by the protocol suite.*/
+    public int maxBatchSize;
+    /** Bit length, which should be used by the protocol suite.*/
+    public int maxBitLength;
+    /** Mod bit length, which should be used, if protocol suite is set to Spdz.*/
+    public int modBitLength;
+    /** Maximum bid, which is accepted by the auction (0, if any bid within the bit length is accepted).*/
+    public int maxBid;
+    /** Shared party table, whose serialized form is reused for all clients (only used by the sender).*/
+    private transient PartyTable partyTable;
 
     public AuctionConfiguration() {
     }
 
     public AuctionConfiguration(int partyId, Utils.AuctionType auctionType, Utils.ProtocolSuite protocolSuite,
-                                Utils.Preprocessing preprocessing, String[] connectionData) {
+                                Utils.Preprocessing preprocessing, PartyDescriptor[] parties) {
+        this(partyId, auctionType, protocolSuite, preprocessing, EvaluationParameters.builder().build(), parties);
+    }
+
+    public AuctionConfiguration(int partyId, Utils.AuctionType auctionType, Utils.ProtocolSuite protocolSuite,
+                                Utils.Preprocessing preprocessing, EvaluationParameters parameters,
+                                PartyDescriptor[] parties) {
         this.partyId = partyId;
         this.auctionType = auctionType;
         this.protocolSuite = protocolSuite;
         this.preprocessing = preprocessing;
-        this.connectionData = connectionData;
+        this.evaluationStrategy = parameters.getEvaluationStrategy();
+        this.maxBatchSize = parameters.getMaxBatchSize();
+        this.maxBitLength = parameters.getMaxBitLength();
+        this.modBitLength = parameters.getModBitLength();
+        this.parties = parties;
+    }
+
+    /**
+     * Creates a configuration, which shares the party table with the configurations of the other clients.
+     * The table is serialized only once for all clients.
+     */
+    public AuctionConfiguration(int partyId, Utils.AuctionType auctionType, Utils.ProtocolSuite protocolSuite,
+                                Utils.Preprocessing preprocessing, EvaluationParameters parameters,
+                                PartyTable partyTable) {
+        this(partyId, auctionType, protocolSuite, preprocessing, parameters, partyTable.getParties());
+        this.partyTable = partyTable;
+    }
+
+    public AuctionConfiguration(int auctionId, int partyId, Utils.AuctionType auctionType, Utils.ProtocolSuite protocolSuite,
+                                Utils.Preprocessing preprocessing, PartyDescriptor[] parties) {
+        this(partyId, auctionType, protocolSuite, preprocessing, parties);
+        this.auctionId = auctionId;
+    }
+
+    /**
+     * @return tuning parameters, which should be used for the auction evaluation.
+     * @throws IllegalArgumentException is thrown if the parameters are invalid.
+     */
+    public EvaluationParameters getEvaluationParameters() throws IllegalArgumentException {
+        return EvaluationParameters.builder()
+                .evaluationStrategy(evaluationStrategy)
+                .maxBatchSize(maxBatchSize)
+                .maxBitLength(maxBitLength)
+                .modBitLength(modBitLength)
+                .build();
+    }
+
+    /**
+     * Caps the bid at the maximum bid of the auction. A client, whose bid exceeds the maximum, takes part
+     * with the maximum bid instead of failing the evaluation, for which the other parties would wait.
+     * @param bid bid of the client.
+     * @return the bid or the maximum bid, if the bid exceeds it.
+     */
+    public int capBid(int bid) {
+        return maxBid > 0 ? Math.min(bid, maxBid) : bid;
+    }
+
+    /**
+     * @return shared party table (null, if the configuration was not created with a shared table).
+     */
+    public PartyTable getPartyTable() {
+        return partyTable;
+    }
+
+    /**
+     * @return network configuration of the auction evaluation from the view of the receiving party.
+     */
+    public NetworkConfiguration getNetworkConfiguration() {
+        return PartyDescriptor.toNetworkConfiguration(partyId, parties);
     }
 }
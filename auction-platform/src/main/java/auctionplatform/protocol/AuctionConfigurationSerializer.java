@@ -0,0 +1,95 @@
+package auctionplatform.protocol;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import frescoauction.util.Utils;
+
+/**
+ * Kryo serializer of {@link AuctionConfiguration} with a fixed layout, which starts with the auction id
+ * (so that the message can be routed without reading the rest of the frame):
+ * <pre>
+ * auction id, party id                     (var ints)
+ * auction type, protocol suite,
+ * preprocessing, evaluation strategy       (1 byte each: ordinal + 1, 0 = null)
+ * batch size, bit length, mod bit length,
+ * max bid                                  (var ints)
+ * number of parties + 1 (0 = null)         (var int)
+ * parties                                  (see {@link PartyDescriptorSerializer})
+ * </pre>
+ * The enums are written by their ordinals, so the server and the clients have to use the same versions of the enums.
+ */
+public class AuctionConfigurationSerializer extends Serializer<AuctionConfiguration> {
+    /** Serializer of the entries of the party table.*/
+    private static final PartyDescriptorSerializer PARTY_SERIALIZER = new PartyDescriptorSerializer();
+
+    @Override
+    public void write(Kryo kryo, Output output, AuctionConfiguration config) {
+        output.writeVarInt(config.auctionId, true);
+        output.writeVarInt(config.partyId, true);
+        writeEnum(output, config.auctionType);
+        writeEnum(output, config.protocolSuite);
+        writeEnum(output, config.preprocessing);
+        writeEnum(output, config.evaluationStrategy);
+        output.writeVarInt(config.maxBatchSize, true);
+        output.writeVarInt(config.maxBitLength, true);
+        output.writeVarInt(config.modBitLength, true);
+        output.writeVarInt(config.maxBid, true);
+        PartyTable table = config.getPartyTable();
+        if(table != null && table.getParties() == config.parties){
+            // the shared table was already serialized for another client
+            output.writeBytes(table.getSerialized());
+        }else{
+            writeParties(output, config.parties);
+        }
+    }
+
+    @Override
+    public AuctionConfiguration read(Kryo kryo, Input input, Class<AuctionConfiguration> type) {
+        AuctionConfiguration config = new AuctionConfiguration();
+        config.auctionId = input.readVarInt(true);
+        config.partyId = input.readVarInt(true);
+        config.auctionType = readEnum(input, Utils.AuctionType.values());
+        config.protocolSuite = readEnum(input, Utils.ProtocolSuite.values());
+        config.preprocessing = readEnum(input, Utils.Preprocessing.values());
+        config.evaluationStrategy = readEnum(input, EvaluationStrategy.values());
+        config.maxBatchSize = input.readVarInt(true);
+        config.maxBitLength = input.readVarInt(true);
+        config.modBitLength = input.readVarInt(true);
+        config.maxBid = input.readVarInt(true);
+        int length = input.readVarInt(true);
+        if(length > 0){
+            config.parties = new PartyDescriptor[length - 1];
+            for(int i = 0; i < config.parties.length; i++){
+                config.parties[i] = PARTY_SERIALIZER.read(kryo, input, PartyDescriptor.class);
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Writes the number of parties + 1 (0 = null) and the parties.
+     * @param output output.
+     * @param parties connection data of all parties (can be null).
+     */
+    static void writeParties(Output output, PartyDescriptor[] parties){
+        if(parties == null){
+            output.writeVarInt(0, true);
+        }else{
+            output.writeVarInt(parties.length + 1, true);
+            // the party serializer does not use the kryo instance
+            for(PartyDescriptor party : parties) PARTY_SERIALIZER.write(null, output, party);
+        }
+    }
+
+    private static void writeEnum(Output output, Enum<?> value){
+        output.writeByte(value == null ? 0 : value.ordinal() + 1);
+    }
+
+    private static <E extends Enum<E>> E readEnum(Input input, E[] values){
+        int ordinal = input.readByte();
+        return ordinal == 0 ? null : values[ordinal - 1];
+    }
+}
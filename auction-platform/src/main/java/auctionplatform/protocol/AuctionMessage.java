@@ -0,0 +1,18 @@
+package auctionplatform.protocol;
+
+/**
+ * Base class of all messages, which are exchanged between server-workers and client-workers.
+ * The auction id is used to route a message to the right server-worker, if several auctions
+ * are hosted on the same kryo server (see {@link auctionplatform.worker.AuctionHost}).
+ */
+public abstract class AuctionMessage {
+    /** Id of the auction, which the message belongs to.*/
+    public int auctionId;
+
+    public AuctionMessage() {
+    }
+
+    public AuctionMessage(int auctionId) {
+        this.auctionId = auctionId;
+    }
+}
@@ -1,8 +1,15 @@
 package auctionplatform.protocol;
 
 /**
- * An empty message, which is sent by a client-worker to a server-worker in order to
+ * A message without payload (apart from the auction id), which is sent by a client-worker to a server-worker in order to
  * signal readiness to start the auction evaluation.
  */
-public class AuctionReady {
+public class AuctionReady extends AuctionMessage {
+
+    public AuctionReady() {
+    }
+
+    public AuctionReady(int auctionId) {
+        super(auctionId);
+    }
 }
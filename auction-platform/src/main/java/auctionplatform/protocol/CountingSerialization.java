@@ -0,0 +1,77 @@
+package auctionplatform.protocol;
+
+import com.esotericsoftware.kryonet.Connection;
+import com.esotericsoftware.kryonet.KryoSerialization;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Kryo serialization, which counts the bytes read and written per connection (without the length prefix of the
+ * frames). The counters can be drained by the owner of the connection, e.g. to attribute the bytes to an auction.
+ * <pre>{@code
+ * // usage example
+ * Server kryoServer = new Server(WRITE_BUFFER_SIZE, OBJECT_BUFFER_SIZE, new CountingSerialization());
+ * }</pre>
+ */
+public class CountingSerialization extends KryoSerialization {
+    /** Default size of the write buffer of a kryo server.*/
+    public static final int WRITE_BUFFER_SIZE = 16384;
+    /** Default size of the object buffer of a kryo server.*/
+    public static final int OBJECT_BUFFER_SIZE = 2048;
+
+    /** Bytes read from the connections (mapped by the connection id).*/
+    private final Map<Integer, AtomicLong> bytesRead = new ConcurrentHashMap<>();
+    /** Bytes written to the connections (mapped by the connection id).*/
+    private final Map<Integer, AtomicLong> bytesWritten = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void write(Connection connection, ByteBuffer buffer, Object object) {
+        int start = buffer.position();
+        super.write(connection, buffer, object);
+        if(connection != null) count(bytesWritten, connection.getID(), buffer.position() - start);
+    }
+
+    @Override
+    public synchronized Object read(Connection connection, ByteBuffer buffer) {
+        int start = buffer.position();
+        Object object = super.read(connection, buffer);
+        if(connection != null) count(bytesRead, connection.getID(), buffer.position() - start);
+        return object;
+    }
+
+    /**
+     * Returns the bytes read from the connection since the last call and resets the counter.
+     * @param connectionId id of the connection.
+     * @return number of bytes.
+     */
+    public long drainBytesRead(int connectionId){
+        AtomicLong counter = bytesRead.get(connectionId);
+        return counter == null ? 0 : counter.getAndSet(0);
+    }
+
+    /**
+     * Returns the bytes written to the connection since the last call and resets the counter.
+     * @param connectionId id of the connection.
+     * @return number of bytes.
+     */
+    public long drainBytesWritten(int connectionId){
+        AtomicLong counter = bytesWritten.get(connectionId);
+        return counter == null ? 0 : counter.getAndSet(0);
+    }
+
+    /**
+     * Removes the counters of the connection (should be called, when the connection is closed).
+     * @param connectionId id of the connection.
+     */
+    public void remove(int connectionId){
+        bytesRead.remove(connectionId);
+        bytesWritten.remove(connectionId);
+    }
+
+    private static void count(Map<Integer, AtomicLong> counters, int connectionId, int bytes){
+        counters.computeIfAbsent(connectionId, id -> new AtomicLong()).addAndGet(bytes);
+    }
+}
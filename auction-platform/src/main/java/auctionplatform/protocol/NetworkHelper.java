@@ -2,6 +2,7 @@ package auctionplatform.protocol;
 
 import com.esotericsoftware.kryo.Kryo;
 import com.esotericsoftware.kryonet.EndPoint;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
 import frescoauction.util.Utils;
 
 /**
@@ -14,15 +15,24 @@ public class NetworkHelper {
      * @param endPoint kryo server/client.
      */
     public static void register(EndPoint endPoint){
-        Kryo kryo = endPoint.getKryo();
-        kryo.register(String[].class);
+        register(endPoint.getKryo());
+    }
+
+    /**
+     * Registers messages and their serializers. {@link AuctionConfiguration} and {@link PartyDescriptor}
+     * are written by custom serializers with a fixed layout (see {@link AuctionConfigurationSerializer}).
+     * @param kryo kryo instance.
+     */
+    public static void register(Kryo kryo){
         kryo.register(Utils.AuctionType.class);
         kryo.register(Utils.Preprocessing.class);
         kryo.register(Utils.ProtocolSuite.class);
+        kryo.register(EvaluationStrategy.class);
         kryo.register(Register.class);
         kryo.register(RequestConnectionData.class);
         kryo.register(ResponseConnectionData.class);
-        kryo.register(AuctionConfiguration.class);
+        kryo.register(PartyDescriptor.class, new PartyDescriptorSerializer());
+        kryo.register(AuctionConfiguration.class, new AuctionConfigurationSerializer());
         kryo.register(AuctionReady.class);
         kryo.register(RequestAuctionStart.class);
         kryo.register(ResponseAuctionStart.class);
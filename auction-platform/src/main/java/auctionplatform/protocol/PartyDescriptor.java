@@ -0,0 +1,84 @@
+package auctionplatform.protocol;
+
+import dk.alexandra.fresco.framework.Party;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.configuration.NetworkConfigurationImpl;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Connection data of a party of an auction evaluation (fresco application), which is sent by a server-worker
+ * to the client-workers as part of {@link AuctionConfiguration}. It is serialized by {@link PartyDescriptorSerializer},
+ * so that a full table of all parties can be broadcast cheaply and does not have to be parsed by the clients.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class PartyDescriptor {
+    /** Party id (should not be lower than 1).*/
+    private final int partyId;
+    /** IP address or host name of the party.*/
+    private final String host;
+    /** Port, at which the party accepts connections (between 0 and 65535).*/
+    private final int port;
+
+    /**
+     * @param partyId party id (should not be lower than 1).
+     * @param host IP address or host name of the party.
+     * @param port port, at which the party accepts connections (between 0 and 65535).
+     * @throws IllegalArgumentException is thrown if the party id is lower than 1, the host is missing
+     * or the port is out of range.
+     */
+    public PartyDescriptor(int partyId, String host, int port) throws IllegalArgumentException {
+        if(partyId < 1) throw new IllegalArgumentException("Party id cannot be lower than 1.");
+        if(host == null) throw new IllegalArgumentException("Host is missing.");
+        if(port < 0 || port > 0xFFFF) throw new IllegalArgumentException("Port is out of range.");
+        this.partyId = partyId;
+        this.host = host;
+        this.port = port;
+    }
+
+    /**
+     * @param party fresco party.
+     * @return connection data of the party.
+     */
+    public static PartyDescriptor of(Party party){
+        return new PartyDescriptor(party.getPartyId(), party.getHostname(), party.getPort());
+    }
+
+    /**
+     * @return fresco party.
+     */
+    public Party toParty(){
+        return new Party(partyId, host, port);
+    }
+
+    /**
+     * Creates the connection data of all parties of a network configuration.
+     * @param networkConfiguration network configuration.
+     * @return connection data, sorted in ascending order of the party ids.
+     */
+    public static PartyDescriptor[] of(NetworkConfiguration networkConfiguration){
+        PartyDescriptor[] parties = new PartyDescriptor[networkConfiguration.noOfParties()];
+        for(int i = 0; i < parties.length; i++){
+            parties[i] = of(networkConfiguration.getParty(i + 1));
+        }
+        return parties;
+    }
+
+    /**
+     * Creates a network configuration from the connection data of all parties.
+     * @param myId party id of the own party.
+     * @param parties connection data of all parties.
+     * @return network configuration.
+     */
+    public static NetworkConfiguration toNetworkConfiguration(int myId, PartyDescriptor[] parties){
+        Map<Integer, Party> partyMap = new HashMap<>();
+        for(PartyDescriptor party : parties) partyMap.put(party.partyId, party.toParty());
+        return new NetworkConfigurationImpl(myId, partyMap);
+    }
+}
@@ -0,0 +1,46 @@
+package auctionplatform.protocol;
+
+import com.esotericsoftware.kryo.io.Output;
+
+/**
+ * Connection data of all parties of an auction evaluation, which is shared by the {@link AuctionConfiguration}s
+ * of all client-workers of an auction. The table is serialized once (on first use) and the serialized bytes
+ * are copied into every configuration message by {@link AuctionConfigurationSerializer}, so a server-worker
+ * does not serialize the same table for every client again.
+ */
+public class PartyTable {
+    /** Connection data of all parties (sorted in ascending order of the party ids).*/
+    private final PartyDescriptor[] parties;
+    /** Serialized table (null, if the table was not serialized yet).*/
+    private volatile byte[] serialized;
+
+    /**
+     * @param parties connection data of all parties (should not be modified afterwards).
+     */
+    public PartyTable(PartyDescriptor[] parties) {
+        this.parties = parties;
+    }
+
+    /**
+     * @return connection data of all parties.
+     */
+    public PartyDescriptor[] getParties() {
+        return parties;
+    }
+
+    /**
+     * Returns the serialized table (see {@link AuctionConfigurationSerializer#writeParties}).
+     * The table is serialized on the first call only.
+     * @return serialized table (must not be modified).
+     */
+    public byte[] getSerialized() {
+        byte[] bytes = serialized;
+        if(bytes == null){
+            Output output = new Output(64, -1);
+            AuctionConfigurationSerializer.writeParties(output, parties);
+            bytes = output.toBytes();
+            serialized = bytes;
+        }
+        return bytes;
+    }
+}
@@ -3,9 +3,14 @@ package auctionplatform.protocol;
 /**
  * A Message, which is sent by a client-worker to a server-worker in order to register for an auction.
  */
-public class Register {
+public class Register extends AuctionMessage {
     /** The Id of the client, who sends the message.*/
     public int clientId;
+    /**
+     * Port, which is used by the client-worker during the auction evaluation (fresco application), or -1, if the port
+     * is not known yet. If the port is announced, the server-worker does not send a {@link RequestConnectionData}.
+     */
+    public int frescoPort = -1;
 
     public Register() {
     }
@@ -13,4 +18,14 @@ public class Register {
     public Register(int clientId) {
         this.clientId = clientId;
     }
+
+    public Register(int auctionId, int clientId) {
+        super(auctionId);
+        this.clientId = clientId;
+    }
+
+    public Register(int auctionId, int clientId, int frescoPort) {
+        this(auctionId, clientId);
+        this.frescoPort = frescoPort;
+    }
 }
@@ -1,8 +1,15 @@
 package auctionplatform.protocol;
 
 /**
- * An empty message, which is sent by a server-worker to a client-worker in order to
+ * A message without payload (apart from the auction id), which is sent by a server-worker to a client-worker in order to
  * request the start of the auction evaluation.
  */
-public class RequestAuctionStart {
+public class RequestAuctionStart extends AuctionMessage {
+
+    public RequestAuctionStart() {
+    }
+
+    public RequestAuctionStart(int auctionId) {
+        super(auctionId);
+    }
 }
@@ -1,8 +1,15 @@
 package auctionplatform.protocol;
 
 /**
- * An empty message, which is sent by a server-worker to a client-worker in order to request connection data,
+ * A message without payload (apart from the auction id), which is sent by a server-worker to a client-worker in order to request connection data,
  * which will be used for running the fresco application to evaluate the auction.
  */
-public class RequestConnectionData {
+public class RequestConnectionData extends AuctionMessage {
+
+    public RequestConnectionData() {
+    }
+
+    public RequestConnectionData(int auctionId) {
+        super(auctionId);
+    }
 }
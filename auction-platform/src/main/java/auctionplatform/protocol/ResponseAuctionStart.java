@@ -1,8 +1,15 @@
 package auctionplatform.protocol;
 
 /**
- * An empty message, which is sent by a client-worker to a server-worker in order to
+ * A message without payload (apart from the auction id), which is sent by a client-worker to a server-worker in order to
  * notify him that the auction evaluation was started.
  */
-public class ResponseAuctionStart {
+public class ResponseAuctionStart extends AuctionMessage {
+
+    public ResponseAuctionStart() {
+    }
+
+    public ResponseAuctionStart(int auctionId) {
+        super(auctionId);
+    }
 }
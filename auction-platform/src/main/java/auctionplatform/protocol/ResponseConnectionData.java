@@ -5,7 +5,7 @@ package auctionplatform.protocol;
  * A message, which is sent by a client-worker to the server-worker. It contains a port at which the client-worker
  * will be accepting connections (fresco application).
  */
-public class ResponseConnectionData {
+public class ResponseConnectionData extends AuctionMessage {
     /** Port, which is used by the client-worker during the auction evaluation (fresco application).*/
     public int frescoPort;
 
@@ -15,4 +15,9 @@ public class ResponseConnectionData {
     public ResponseConnectionData(int frescoPort) {
         this.frescoPort = frescoPort;
     }
+
+    public ResponseConnectionData(int auctionId, int frescoPort) {
+        super(auctionId);
+        this.frescoPort = frescoPort;
+    }
 }
@@ -0,0 +1,169 @@
+package auctionplatform.worker;
+
+import auctionplatform.metrics.MetricsExporter;
+import auctionplatform.metrics.MetricsRegistry;
+import auctionplatform.protocol.AuctionMessage;
+import auctionplatform.protocol.CountingSerialization;
+import auctionplatform.protocol.NetworkHelper;
+import auctionplatform.protocol.Register;
+import com.esotericsoftware.kryonet.Connection;
+import com.esotericsoftware.kryonet.Listener;
+import com.esotericsoftware.kryonet.Server;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * Hosts several auctions in one process. All server-workers share a single kryo server, which is bound to
+ * {@link HostConfiguration#getHostPort()}. Incoming messages are routed to the server-worker of the auction
+ * by {@link AuctionMessage#auctionId}. Every server-worker gets a fresco port from a pool of ports, which is
+ * returned to the pool as soon as the auction is over. The host can be configured with {@link HostConfiguration}.<br>
+ * The server-workers are event-driven: their timeouts are executed by a small shared scheduler and only the
+ * auction evaluations occupy a thread of the evaluation executor.<br>
+ * The metrics of all auctions are recorded in a shared {@link MetricsRegistry}, which can be exported over http
+ * and/or as a periodic json dump (see {@link HostConfiguration}).
+ */
+public class AuctionHost extends Listener {
+    /** Configuration of the host.*/
+    private final HostConfiguration config;
+    /** Ports, which are used by server-workers for auction evaluation (fresco application).*/
+    private final Deque<Integer> frescoPortPool = new ConcurrentLinkedDeque<>();
+    /** Server-workers mapped to their corresponding auctionIds.*/
+    private final Map<Integer, ServerWorker> workers = new ConcurrentHashMap<>();
+    /** Ids of the auctions, for which a connection has registered, mapped by the connection id.*/
+    private final Map<Integer, Set<Integer>> connectionAuctions = new ConcurrentHashMap<>();
+    /** Number of threads of the scheduler, which drives the state machines of all server-workers.*/
+    private static final int SCHEDULER_THREADS = 2;
+    /** Scheduler, which executes the timeouts of all server-workers.*/
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(SCHEDULER_THREADS);
+    /** Execution service, which runs the auction evaluations of the server-workers.*/
+    private final ExecutorService esEvaluations = Executors.newCachedThreadPool();
+    /** Shared kryo server, which is responsible for the communication with the client-workers of all auctions.*/
+    private Server kryoServer;
+    /** Execution service with a single executor, which is used to run the kryo server listener.*/
+    private ExecutorService esKryoServerListener;
+    /** Registry, which holds the metrics of all auctions.*/
+    private final MetricsRegistry metricsRegistry = new MetricsRegistry();
+    /** Exporter of the metrics.*/
+    private final MetricsExporter metricsExporter = new MetricsExporter(metricsRegistry);
+
+    /**
+     * @param config configuration of the host.
+     */
+    public AuctionHost(HostConfiguration config) {
+        this.config = config;
+        // set up fresco port pool
+        for (Integer port : config.getFrescoPortPool()) frescoPortPool.push(port);
+    }
+
+    /**
+     * Starts the shared kryo server and the export of the metrics (if configured).
+     * @return true if kryo server was started successfully or false otherwise.
+     */
+    public boolean start(){
+        kryoServer = new Server(CountingSerialization.WRITE_BUFFER_SIZE, CountingSerialization.OBJECT_BUFFER_SIZE,
+                new CountingSerialization());
+        NetworkHelper.register(kryoServer);
+        esKryoServerListener = Executors.newSingleThreadExecutor();
+        kryoServer.addListener(new ThreadedListener(this, esKryoServerListener));
+        boolean messageServerStarted = false;
+        try {
+            kryoServer.bind(config.getHostPort());
+            kryoServer.start();
+            if(config.getMetricsPort() > 0) metricsExporter.startHttpEndpoint(config.getMetricsPort());
+            if(config.getMetricsDumpFile() != null)
+                metricsExporter.startJsonDump(config.getMetricsDumpFile(), config.getMetricsDumpPeriod());
+            messageServerStarted = true;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return messageServerStarted;
+    }
+
+    /**
+     * Starts a new server-worker, which hosts the auction with the given configuration.
+     * Host ip, host port and fresco port of the configuration are replaced by the ones of the host.
+     * @param auctionConfig configuration of the auction.
+     * @param listener event listener of the auction.
+     * @return true, if the auction was started or false, if the host is not started, an auction with the same id
+     * is already hosted or no fresco port is available.
+     */
+    public synchronized boolean hostAuction(ServerConfiguration auctionConfig, WorkerListener listener){
+        int auctionId = auctionConfig.getAuctionId();
+        if(kryoServer == null || workers.containsKey(auctionId)) return false;
+        Integer frescoPort = frescoPortPool.poll();
+        if(frescoPort == null) return false;
+        ServerWorker worker = new ServerWorker(
+                auctionConfig.withPorts(config.getHostIp(), config.getHostPort(), frescoPort), listener, kryoServer,
+                scheduler, esEvaluations, metricsRegistry);
+        workers.put(auctionId, worker);
+        worker.start(() -> {
+            workers.remove(auctionId);
+            frescoPortPool.push(frescoPort);
+        });
+        return true;
+    }
+
+    /**
+     * @return number of auctions, which are hosted at the moment.
+     */
+    public int getNumberOfAuctions(){
+        return workers.size();
+    }
+
+    /**
+     * @return registry, which holds the metrics of all auctions.
+     */
+    public MetricsRegistry getMetricsRegistry(){
+        return metricsRegistry;
+    }
+
+    /**
+     * @return number of fresco ports, which are available for new auctions.
+     */
+    public int getNumberOfAvailablePorts(){
+        return frescoPortPool.size();
+    }
+
+    @Override
+    public void received(Connection c, Object msg) {
+        if(!(msg instanceof AuctionMessage)) return;
+        int auctionId = ((AuctionMessage) msg).auctionId;
+        ServerWorker worker = workers.get(auctionId);
+        if(worker == null){
+            // unknown auction: a connection, which is not part of any auction, is closed
+            if(msg instanceof Register && !connectionAuctions.containsKey(c.getID())) c.close();
+            return;
+        }
+        if(msg instanceof Register){
+            connectionAuctions.computeIfAbsent(c.getID(), id -> ConcurrentHashMap.newKeySet()).add(auctionId);
+        }
+        worker.received(c, msg);
+    }
+
+    @Override
+    public void disconnected(Connection c) {
+        Set<Integer> auctionIds = connectionAuctions.remove(c.getID());
+        if(auctionIds != null){
+            for(int auctionId : auctionIds){
+                ServerWorker worker = workers.get(auctionId);
+                if(worker != null) worker.disconnected(c);
+            }
+        }
+        ((CountingSerialization) kryoServer.getSerialization()).remove(c.getID());
+    }
+
+    /**
+     * Stops the host by stopping the kryo server, the corresponding listener and all running server-workers.
+     */
+    public void stop(){
+        metricsExporter.stop();
+        if(kryoServer != null) kryoServer.stop();
+        if(esKryoServerListener != null) esKryoServerListener.shutdown();
+        scheduler.shutdownNow();
+        esEvaluations.shutdownNow();
+    }
+}
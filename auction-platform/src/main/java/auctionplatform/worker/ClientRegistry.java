@@ -0,0 +1,187 @@
+package auctionplatform.worker;
+
+import com.esotericsoftware.kryonet.Connection;
+
+import java.net.InetSocketAddress;
+import java.util.*;
+
+/**
+ * Registered clients of a server-worker, which are indexed by their connection id, client id and party id.
+ * The number of clients, which provided a fresco port or are ready for the auction evaluation, are counted,
+ * so that every message of a client is handled in constant time (independent of the number of clients).<br>
+ * The registry is not thread-safe, it is guarded by the {@link ServerWorker}.
+ */
+public class ClientRegistry {
+    /** Data of all registered clients mapped by their connection id (in order of registration).*/
+    private final Map<Integer, ClientData> clients = new LinkedHashMap<>();
+    /** Connections of all registered clients mapped by their connection id.*/
+    private final Map<Integer, Connection> connections = new HashMap<>();
+    /** Connection ids of all registered clients mapped by their client id.*/
+    private final Map<Integer, Integer> connectionIdsByClientId = new HashMap<>();
+    /** Data of all clients with an assigned party id mapped by their party id.*/
+    private final Map<Integer, ClientData> clientsByPartyId = new HashMap<>();
+    /** Number of registered clients, which provided a fresco port.*/
+    private int frescoPortsAvailable = 0;
+    /** Number of registered clients, which are ready for the auction evaluation.*/
+    private int readyClients = 0;
+
+    /**
+     * Registers a client.
+     * @param connection connection of the client.
+     * @param clientId id of the client.
+     * @return data of the registered client or null, if a client with the same client id or
+     * the same connection is already registered.
+     */
+    public ClientData register(Connection connection, int clientId){
+        int connectionId = connection.getID();
+        if(connectionIdsByClientId.containsKey(clientId) || clients.containsKey(connectionId)) return null;
+        ClientData clientData = new ClientData(clientId);
+        clients.put(connectionId, clientData);
+        connections.put(connectionId, connection);
+        connectionIdsByClientId.put(clientId, connectionId);
+        return clientData;
+    }
+
+    /**
+     * Removes a client and updates all indexes and counters.
+     * @param connectionId connection id of the client.
+     * @return data of the removed client or null, if the client was not registered.
+     */
+    public ClientData remove(int connectionId){
+        ClientData clientData = clients.remove(connectionId);
+        if(clientData == null) return null;
+        connections.remove(connectionId);
+        connectionIdsByClientId.remove(clientData.getClientId());
+        if(clientData.getFrescoPartyId() > -1) clientsByPartyId.remove(clientData.getFrescoPartyId());
+        if(clientData.frescoPortAvailable()) frescoPortsAvailable--;
+        if(clientData.isReadyForAuctionEvaluation()) readyClients--;
+        return clientData;
+    }
+
+    /**
+     * @param connectionId connection id of the client.
+     * @return data of the client or null, if the client is not registered.
+     */
+    public ClientData get(int connectionId){
+        return clients.get(connectionId);
+    }
+
+    /**
+     * @param connectionId connection id of the client.
+     * @return true, if the client is registered or false otherwise.
+     */
+    public boolean contains(int connectionId){
+        return clients.containsKey(connectionId);
+    }
+
+    /**
+     * @param clientId id of the client.
+     * @return true, if a client with the given client id is registered or false otherwise.
+     */
+    public boolean containsClientId(int clientId){
+        return connectionIdsByClientId.containsKey(clientId);
+    }
+
+    /**
+     * @return number of registered clients.
+     */
+    public int size(){
+        return clients.size();
+    }
+
+    /**
+     * @return true, if no client is registered or false otherwise.
+     */
+    public boolean isEmpty(){
+        return clients.isEmpty();
+    }
+
+    /**
+     * @return connection ids of all registered clients (in order of registration, must not be modified).
+     */
+    public Set<Integer> getConnectionIds(){
+        return Collections.unmodifiableSet(clients.keySet());
+    }
+
+    /**
+     * @param connectionId connection id of the client.
+     * @return connection of the client or null, if the client is not registered.
+     */
+    public Connection getConnection(int connectionId){
+        return connections.get(connectionId);
+    }
+
+    /**
+     * @param connectionId connection id of the client.
+     * @return ip address of the client or an empty string, if the client is not registered or not connected.
+     */
+    public String getIpAddress(int connectionId){
+        Connection connection = connections.get(connectionId);
+        InetSocketAddress address = connection == null ? null : connection.getRemoteAddressTCP();
+        return address == null ? "" : address.getAddress().getHostAddress();
+    }
+
+    /**
+     * Stores the fresco port of a client.
+     * @param connectionId connection id of the client.
+     * @param frescoPort fresco port, which was specified by the client.
+     * @return true, if the client is registered or false otherwise.
+     */
+    public boolean setFrescoPort(int connectionId, int frescoPort){
+        ClientData clientData = clients.get(connectionId);
+        if(clientData == null) return false;
+        if(!clientData.frescoPortAvailable() && frescoPort > -1) frescoPortsAvailable++;
+        else if(clientData.frescoPortAvailable() && frescoPort < 0) frescoPortsAvailable--;
+        clientData.setFrescoPort(frescoPort);
+        return true;
+    }
+
+    /**
+     * Marks a client as ready for the auction evaluation.
+     * @param connectionId connection id of the client.
+     * @return true, if the client is registered or false otherwise.
+     */
+    public boolean setReady(int connectionId){
+        ClientData clientData = clients.get(connectionId);
+        if(clientData == null) return false;
+        if(!clientData.isReadyForAuctionEvaluation()) readyClients++;
+        clientData.setReadyForAuctionEvaluation(true);
+        return true;
+    }
+
+    /**
+     * Assigns a party id to a client.
+     * @param connectionId connection id of the client.
+     * @param partyId party id.
+     */
+    public void assignPartyId(int connectionId, int partyId){
+        ClientData clientData = clients.get(connectionId);
+        if(clientData == null) return;
+        if(clientData.getFrescoPartyId() > -1) clientsByPartyId.remove(clientData.getFrescoPartyId());
+        clientData.setFrescoPartyId(partyId);
+        clientsByPartyId.put(partyId, clientData);
+    }
+
+    /**
+     * @param partyId party id of the client.
+     * @return id of the client or -1, if no client with the given party id exists.
+     */
+    public int findClientIdByPartyId(int partyId){
+        ClientData clientData = clientsByPartyId.get(partyId);
+        return clientData == null ? -1 : clientData.getClientId();
+    }
+
+    /**
+     * @return true, if all registered clients provided a fresco port or false otherwise.
+     */
+    public boolean allFrescoPortsAvailable(){
+        return frescoPortsAvailable == clients.size();
+    }
+
+    /**
+     * @return true, if all registered clients are ready for the auction evaluation or false otherwise.
+     */
+    public boolean allReady(){
+        return readyClients == clients.size();
+    }
+}
@@ -0,0 +1,78 @@
+package auctionplatform.worker;
+
+import com.google.gson.Gson;
+import lombok.Getter;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Contains a set of parameters for configuring an {@link AuctionHost}.
+ */
+@Getter
+public class HostConfiguration {
+    /** Default period of the metrics dump (seconds).*/
+    public static final int DEFAULT_METRICS_DUMP_PERIOD = 10;
+
+    /** IP address of the host.*/
+    private String hostIp;
+    /** Port of the host (at which the shared kryo-server should be running).*/
+    private int hostPort;
+    /** Ports, which can be used by the server-workers during the auction evaluation (fresco application).*/
+    private List<Integer> frescoPortPool;
+    /** Port of the http endpoint, which serves the metrics in the prometheus text format (0, if disabled).*/
+    private int metricsPort;
+    /** File, into which the metrics are dumped periodically as json (null, if disabled).*/
+    private String metricsDumpFile;
+    /** Period of the metrics dump (seconds). Default: {@link #DEFAULT_METRICS_DUMP_PERIOD}.*/
+    private int metricsDumpPeriod;
+
+    /**
+     * @param hostIp IP address of the host.
+     * @param hostPort port of the host (at which the shared kryo-server should be running).
+     * @param frescoPortPool ports, which can be used by the server-workers during the auction evaluation.
+     */
+    public HostConfiguration(String hostIp, int hostPort, List<Integer> frescoPortPool) {
+        this(hostIp, hostPort, frescoPortPool, 0, null, DEFAULT_METRICS_DUMP_PERIOD);
+    }
+
+    /**
+     * @param hostIp IP address of the host.
+     * @param hostPort port of the host (at which the shared kryo-server should be running).
+     * @param frescoPortPool ports, which can be used by the server-workers during the auction evaluation.
+     * @param metricsPort port of the http endpoint, which serves the metrics (0, if disabled).
+     * @param metricsDumpFile file, into which the metrics are dumped periodically as json (null, if disabled).
+     * @param metricsDumpPeriod period of the metrics dump (seconds).
+     */
+    public HostConfiguration(String hostIp, int hostPort, List<Integer> frescoPortPool,
+                             int metricsPort, String metricsDumpFile, int metricsDumpPeriod) {
+        this.hostIp = hostIp;
+        this.hostPort = hostPort;
+        this.frescoPortPool = frescoPortPool;
+        this.metricsPort = metricsPort;
+        this.metricsDumpFile = metricsDumpFile;
+        this.metricsDumpPeriod = metricsDumpPeriod;
+    }
+
+    /**
+     * @return period of the metrics dump (seconds), {@link #DEFAULT_METRICS_DUMP_PERIOD} if not set.
+     */
+    public int getMetricsDumpPeriod() {
+        return metricsDumpPeriod > 0 ? metricsDumpPeriod : DEFAULT_METRICS_DUMP_PERIOD;
+    }
+
+    /**
+     * Loads the configuration from a json file.
+     * @param path path to the json file.
+     * @return an instance of {@link HostConfiguration}.
+     * @throws IOException
+     */
+    public static HostConfiguration loadFromJson(String path) throws IOException {
+        Gson gson = new Gson();
+        FileReader reader = new FileReader(path);
+        HostConfiguration config = gson.fromJson(reader, HostConfiguration.class);
+        reader.close();
+        return config;
+    }
+}
@@ -0,0 +1,35 @@
+package auctionplatform.worker;
+
+import frescoauction.auction.Auction;
+
+import java.io.IOException;
+
+public class MultiWorkerMain {
+    public static void main(String[] args) throws IOException {
+        HostConfiguration hostConfig = HostConfiguration.loadFromJson(args[0]);
+        AuctionHost host = new AuctionHost(hostConfig);
+        if(!host.start()){
+            System.out.println("Host: Server cannot be started.");
+            return;
+        }
+        for(int i = 1; i < args.length; i++){
+            ServerConfiguration config = ServerConfiguration.loadFromJson(args[i]);
+            WorkerListener listener = new WorkerListener() {
+                @Override
+                public void onCompletion(Auction.AuctionResult result, int clientId) {
+                    System.out.println(String.format("Listener[auctionId=%d]: Auction completed (Winner: clientId=%d (partyId=%d), final price=%d)",
+                            config.getAuctionId(), clientId, result.getWinnerId(), result.getFinalPrice()));
+                }
+
+                @Override
+                public void onError(String errorMessage) {
+                    System.out.println(String.format("Listener[auctionId=%d]: Auction aborted (Error: %s)",
+                            config.getAuctionId(), errorMessage));
+                }
+            };
+            if(!host.hostAuction(config, listener)){
+                System.out.println(String.format("Host: Auction[auctionId=%d] cannot be hosted.", config.getAuctionId()));
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package auctionplatform.worker;
 
 import com.google.gson.Gson;
 import lombok.Getter;
+import frescoauction.util.EvaluationParameters;
 import frescoauction.util.Utils;
 
 import java.io.FileReader;
@@ -36,6 +37,20 @@ public class ServerConfiguration {
     private Utils.ProtocolSuite protocolSuite;
     /** Pre processing strategy, which should be used, if the protocol suite set to spdz.*/
     private Utils.Preprocessing preprocessing;
+    /** Minimum number of clients, which have to register for the auction (0, if at least 1 client is sufficient).*/
+    private int minBidders;
+    /**
+     * Maximum number of clients, which can register for the auction (0, if unlimited). As soon as the maximum
+     * is reached, the registration state is closed without waiting for the end of the registration duration.
+     */
+    private int maxBidders;
+    /** Tuning parameters of the auction evaluation, which are sent to all clients (null, if defaults should be used).*/
+    private EvaluationParameters evaluationParameters;
+    /**
+     * Maximum bid, which is accepted by the auction (0, if any positive int is accepted). If set, the bit length
+     * and the mod bit length of the evaluation are derived from it, which shrinks the comparison circuits.
+     */
+    private int maxBid;
 
     /**
      * @param auctionId id of the auction.
@@ -56,6 +71,74 @@ public class ServerConfiguration {
                                String hostIp, int hostPort, int frescoPort,
                                int smpcSetUpDuration, int smpcSetUpFinishDuration,
                                Utils.ProtocolSuite protocolSuite, Utils.Preprocessing preprocessing) {
+        this(auctionId, startingPrice, auctionType,
+                registrationDuration, closureDuration,
+                hostIp, hostPort, frescoPort,
+                smpcSetUpDuration, smpcSetUpFinishDuration,
+                protocolSuite, preprocessing, 0, 0);
+    }
+
+    /**
+     * @param auctionId id of the auction.
+     * @param startingPrice starting price of the auction.
+     * @param auctionType auction type, which should be carried out by the server-worker.
+     * @param registrationDuration duration of the registration state (seconds).
+     * @param closureDuration duration of the closure state(seconds).
+     * @param hostIp IP address of the host.
+     * @param hostPort port of the host (at which kryo-server should be running).
+     * @param frescoPort port, which should be used during the auction evaluation (fresco application).
+     * @param smpcSetUpDuration duration of the smpc-set-up state (seconds).
+     * @param smpcSetUpFinishDuration duration of the smpc-set-up-finish state (seconds).
+     * @param protocolSuite protocol suite, which should be used for the action evaluation.
+     * @param preprocessing pre processing strategy, which should be used, if the protocol suite set to spdz.
+     * @param minBidders minimum number of clients, which have to register (0, if at least 1 client is sufficient).
+     * @param maxBidders maximum number of clients, which can register (0, if unlimited). The registration
+     *                   is closed early, as soon as the maximum is reached.
+     * @throws IllegalArgumentException is thrown if a bidder count is negative or the minimum exceeds the maximum.
+     */
+    public ServerConfiguration(int auctionId, int startingPrice, Utils.AuctionType auctionType,
+                               int registrationDuration, int closureDuration,
+                               String hostIp, int hostPort, int frescoPort,
+                               int smpcSetUpDuration, int smpcSetUpFinishDuration,
+                               Utils.ProtocolSuite protocolSuite, Utils.Preprocessing preprocessing,
+                               int minBidders, int maxBidders) throws IllegalArgumentException {
+        this(auctionId, startingPrice, auctionType,
+                registrationDuration, closureDuration,
+                hostIp, hostPort, frescoPort,
+                smpcSetUpDuration, smpcSetUpFinishDuration,
+                protocolSuite, preprocessing, minBidders, maxBidders, null, 0);
+    }
+
+    /**
+     * @param auctionId id of the auction.
+     * @param startingPrice starting price of the auction.
+     * @param auctionType auction type, which should be carried out by the server-worker.
+     * @param registrationDuration duration of the registration state (seconds).
+     * @param closureDuration duration of the closure state(seconds).
+     * @param hostIp IP address of the host.
+     * @param hostPort port of the host (at which kryo-server should be running).
+     * @param frescoPort port, which should be used during the auction evaluation (fresco application).
+     * @param smpcSetUpDuration duration of the smpc-set-up state (seconds).
+     * @param smpcSetUpFinishDuration duration of the smpc-set-up-finish state (seconds).
+     * @param protocolSuite protocol suite, which should be used for the action evaluation.
+     * @param preprocessing pre processing strategy, which should be used, if the protocol suite set to spdz.
+     * @param minBidders minimum number of clients, which have to register (0, if at least 1 client is sufficient).
+     * @param maxBidders maximum number of clients, which can register (0, if unlimited). The registration
+     *                   is closed early, as soon as the maximum is reached.
+     * @param evaluationParameters tuning parameters of the auction evaluation, which are sent to all clients
+     *                             (null, if defaults should be used).
+     * @param maxBid maximum bid, which is accepted by the auction (0, if any positive int is accepted).
+     *               The bit length and the mod bit length of the evaluation parameters are derived from it.
+     * @throws IllegalArgumentException is thrown if a bidder count is negative, the minimum exceeds the maximum,
+     * the maximum bid is negative or the starting price exceeds the maximum bid.
+     */
+    public ServerConfiguration(int auctionId, int startingPrice, Utils.AuctionType auctionType,
+                               int registrationDuration, int closureDuration,
+                               String hostIp, int hostPort, int frescoPort,
+                               int smpcSetUpDuration, int smpcSetUpFinishDuration,
+                               Utils.ProtocolSuite protocolSuite, Utils.Preprocessing preprocessing,
+                               int minBidders, int maxBidders,
+                               EvaluationParameters evaluationParameters, int maxBid) throws IllegalArgumentException {
         this.auctionId = auctionId;
         this.startingPrice = startingPrice;
         this.auctionType = auctionType;
@@ -68,6 +151,52 @@ public class ServerConfiguration {
         this.smpcSetUpFinishDuration = smpcSetUpFinishDuration;
         this.protocolSuite = protocolSuite;
         this.preprocessing = preprocessing;
+        this.minBidders = minBidders;
+        this.maxBidders = maxBidders;
+        this.evaluationParameters = evaluationParameters;
+        this.maxBid = maxBid;
+        validate();
+    }
+
+    /**
+     * Checks the bidder counts and the maximum bid (is called by the constructor and after loading from json).
+     * @throws IllegalArgumentException is thrown if a bidder count is negative, the minimum exceeds the maximum,
+     * the maximum bid is negative or the starting price exceeds the maximum bid.
+     */
+    private void validate() throws IllegalArgumentException {
+        if(minBidders < 0 || maxBidders < 0) throw new IllegalArgumentException("Bidder count cannot be negative.");
+        if(maxBidders > 0 && minBidders > maxBidders)
+            throw new IllegalArgumentException("Minimum bidder count cannot exceed the maximum bidder count.");
+        if(maxBid < 0) throw new IllegalArgumentException("Maximum bid cannot be negative.");
+        if(maxBid > 0 && startingPrice > maxBid)
+            throw new IllegalArgumentException("Starting price cannot exceed the maximum bid.");
+    }
+
+    /**
+     * @return tuning parameters of the auction evaluation (defaults, if not configured). If a maximum bid is set,
+     * the bit length and the mod bit length are derived from it.
+     */
+    public EvaluationParameters getEvaluationParameters() {
+        EvaluationParameters parameters = evaluationParameters == null
+                ? EvaluationParameters.builder().build()
+                : evaluationParameters;
+        return maxBid > 0 ? parameters.withMaxBid(maxBid) : parameters;
+    }
+
+    /**
+     * Creates a copy of the configuration, which uses the given host and fresco port
+     * (is used by {@link AuctionHost} to assign ports of the shared kryo server and of its port pool).
+     * @param hostIp IP address of the host.
+     * @param hostPort port of the host (at which kryo-server is running).
+     * @param frescoPort port, which should be used during the auction evaluation (fresco application).
+     * @return a new instance of {@link ServerConfiguration}.
+     */
+    public ServerConfiguration withPorts(String hostIp, int hostPort, int frescoPort){
+        return new ServerConfiguration(auctionId, startingPrice, auctionType,
+                registrationDuration, closureDuration,
+                hostIp, hostPort, frescoPort,
+                smpcSetUpDuration, smpcSetUpFinishDuration,
+                protocolSuite, preprocessing, minBidders, maxBidders, evaluationParameters, maxBid);
     }
 
     /**
@@ -75,12 +204,14 @@ public class ServerConfiguration {
      * @param path path to the json file.
      * @return an instance of {@link ServerConfiguration}.
      * @throws IOException
+     * @throws IllegalArgumentException is thrown if the configuration is invalid (see the constructor).
      */
-    public static ServerConfiguration loadFromJson(String path) throws IOException {
+    public static ServerConfiguration loadFromJson(String path) throws IOException, IllegalArgumentException {
         Gson gson = new Gson();
         FileReader reader = new FileReader(path);
         ServerConfiguration config = gson.fromJson(reader, ServerConfiguration.class);
         reader.close();
+        config.validate();
         return config;
     }
 }
@@ -6,34 +6,56 @@ import com.esotericsoftware.kryonet.Server;
 import dk.alexandra.fresco.framework.Party;
 import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
 import dk.alexandra.fresco.framework.configuration.NetworkConfigurationImpl;
+import auctionplatform.metrics.AuctionMetrics;
+import auctionplatform.metrics.MetricsRegistry;
 import auctionplatform.protocol.*;
 import frescoauction.auction.Auction;
 import frescoauction.util.AuctionEvaluation;
+import frescoauction.util.EvaluationParameters;
 
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of the server-worker, which is part of the auction service (of the auction-platform).
  * A server-worker is responsible for hosting and coordinating an auction. He also takes parts
  * in the auction evaluation with the starting price as his bid. The server-worker can be configured
- * with {@link ServerConfiguration}.
+ * with {@link ServerConfiguration}.<br>
+ * A server-worker either runs its own kryo server or uses a kryo server, which is shared with other
+ * server-workers (see {@link AuctionHost}). In the latter case the messages are dispatched by the owner
+ * of the kryo server.<br>
+ * The lifecycle is implemented as an event-driven state machine: incoming messages and timeouts
+ * (scheduled tasks of a {@link ScheduledExecutorService}) are events, which trigger the state transitions.
+ * No thread is blocked while waiting for the clients, so that a small scheduler can drive many server-workers.
+ * The blocking auction evaluation runs on a separate executor. Callbacks of the {@link WorkerListener} are run
+ * after the lock of the state machine is released.<br>
+ * Time spent in each state, number of registered clients, bytes exchanged over kryo and the duration of the
+ * auction evaluation are recorded in a {@link MetricsRegistry}.
  */
 public class ServerWorker extends Listener implements Runnable {
     /** Maximum waiting time for all clients to start (seconds).*/
     private static final int EVALUATION_START_TIMEOUT = 60;
     /** Kryo server, which is responsible for the communication with the client-workers during auction (their kryo clients).*/
     private Server kryoServer;
-    /** Single use signal, which is triggered at the end of {@link State#SMPC_SetUp}.*/
-    private CountDownLatch smpcSetUpComplete = new CountDownLatch(1);
-    /** Single use signal, which is triggered at the end of {@link State#SMPC_SetUpFinish}.*/
-    private CountDownLatch smpcSetupFinishComplete = new CountDownLatch(1);
-    /** Single use signal, which is triggered when the server-worker should start the auction evaluation.*/
-    private CountDownLatch auctionStartComplete = new CountDownLatch(1);
-    /** Contains data of all registered clients mapped by their connection id.*/
-    private Map<Integer, ClientData> registeredClients = new ConcurrentHashMap<>();
+    /** Indicates, if the kryo server is shared with other server-workers (is neither started nor stopped by this worker).*/
+    private final boolean sharedKryoServer;
+    /** Scheduler, which executes the timeouts of the states.*/
+    private final ScheduledExecutorService scheduler;
+    /** Executor, which runs the auction evaluation.*/
+    private final ExecutorService evaluationExecutor;
+    /** Indicates, if the scheduler and the evaluation executor are owned (and shut down) by this worker.*/
+    private final boolean ownsExecutors;
+    /** Timeout of the current state (null, if the current state has no timeout).*/
+    private ScheduledFuture<?> stateTimeout;
+    /** Single use signal, which is triggered when the server-worker has shut down.*/
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    /** Callback, which is run when the server-worker has shut down (may be null).*/
+    private Runnable onTermination;
+    /** Callbacks, which were triggered while holding the lock of the server-worker and are run after releasing it.*/
+    private final List<Runnable> pendingCallbacks = new ArrayList<>();
+    /** Contains data of all registered clients indexed by their connection id, client id and party id.*/
+    private final ClientRegistry registeredClients = new ClientRegistry();
     /** Current state of the server-worker.*/
     private volatile State state;
     /** Execution service with a single executor, which is used to run the kryo server listener.*/
@@ -45,72 +67,122 @@ public class ServerWorker extends Listener implements Runnable {
     private NetworkConfiguration networkConfig = new NetworkConfigurationImpl(1, Collections.EMPTY_MAP);
     /** Configuration of the server-worker.*/
     private ServerConfiguration config;
-    /**
-     * Deque used as a stack, which contains connection ids of all registered clients
-     * (in descending order of their party ids).
-     */
-    private Deque<Integer> startingOrder = new ConcurrentLinkedDeque<>();
+    /** Connection ids of all registered clients, which have not yet confirmed the start of the auction evaluation.*/
+    private Set<Integer> pendingAuctionStarts = ConcurrentHashMap.newKeySet();
     /** Event listener.*/
     private WorkerListener listener;
+    /** Registry, which holds the metrics of the auction.*/
+    private final MetricsRegistry metricsRegistry;
+    /** Metrics of the auction (null, if the server-worker was not started yet).*/
+    private AuctionMetrics metrics;
 
     /**
+     * Creates a server-worker, which runs its own kryo server, scheduler and evaluation executor.
      * @param config configuration of the server-worker.
      * @param listener event listener.
      */
     public ServerWorker(ServerConfiguration config, WorkerListener listener) {
+        this(config, listener, new MetricsRegistry());
+    }
+
+    /**
+     * Creates a server-worker, which runs its own kryo server, scheduler and evaluation executor.
+     * @param config configuration of the server-worker.
+     * @param listener event listener.
+     * @param metricsRegistry registry, in which the metrics of the auction should be recorded.
+     */
+    public ServerWorker(ServerConfiguration config, WorkerListener listener, MetricsRegistry metricsRegistry) {
+        this.config = config;
+        this.listener = listener;
+        this.metricsRegistry = metricsRegistry;
+        this.sharedKryoServer = false;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        this.evaluationExecutor = Executors.newSingleThreadExecutor();
+        this.ownsExecutors = true;
+    }
+
+    /**
+     * Creates a server-worker, which uses a shared kryo server. The shared kryo server has to be started
+     * beforehand and has to dispatch the messages of this auction to {@link #received(Connection, Object)}
+     * and {@link #disconnected(Connection)}.
+     * @param config configuration of the server-worker ({@link ServerConfiguration#getHostPort()} is ignored).
+     * @param listener event listener.
+     * @param kryoServer shared kryo server.
+     * @param scheduler shared scheduler, which executes the timeouts of the states.
+     * @param evaluationExecutor shared executor, which runs the auction evaluation.
+     * @param metricsRegistry registry, in which the metrics of the auction should be recorded.
+     */
+    public ServerWorker(ServerConfiguration config, WorkerListener listener, Server kryoServer,
+                        ScheduledExecutorService scheduler, ExecutorService evaluationExecutor,
+                        MetricsRegistry metricsRegistry) {
         this.config = config;
         this.listener = listener;
+        this.metricsRegistry = metricsRegistry;
+        this.kryoServer = kryoServer;
+        this.sharedKryoServer = true;
+        this.scheduler = scheduler;
+        this.evaluationExecutor = evaluationExecutor;
+        this.ownsExecutors = false;
     }
 
     @Override
     public void received(Connection c, Object msg) {
+        handleMessage(c, msg);
+        runPendingCallbacks();
+    }
+
+    /**
+     * Handles a message of a client depending on the current state.
+     * @param c connection of the client.
+     * @param msg received message.
+     */
+    private synchronized void handleMessage(Connection c, Object msg) {
         int connectionId = c.getID();
-        switch (state){
+        State previousState = state;
+        if(previousState == null) return;
+        switch (previousState){
             case Registration:
                 if(msg instanceof Register){
                     Register request = (Register) msg;
-                    ClientData clientData = new ClientData(request.clientId);
-                    if(clientAlreadyRegistered(clientData.getClientId())) {
+                    ClientData clientData = registeredClients.register(c, request.clientId);
+                    if(clientData == null) {
                         c.close();
                     } else {
-                        registeredClients.put(connectionId, clientData);
+                        if(isValidPort(request.frescoPort)) registeredClients.setFrescoPort(connectionId, request.frescoPort);
+                        metrics.setRegisteredClients(registeredClients.size());
                         log(String.format("Client[clientId=%d] entered the auction.", clientData.getClientId()));
+                        if(maxBiddersReached()) changeToState(State.SMPC_SetUp);
                     }
                 }
                 break;
             case SMPC_SetUp:
                 if(msg instanceof ResponseConnectionData){
-                    if(registeredClients.containsKey(connectionId)){
-                        ResponseConnectionData response = (ResponseConnectionData) msg;
-                        ClientData clientData = registeredClients.get(c.getID());
-                        clientData.setFrescoPort(response.frescoPort);
-                        if(allConnectionDataReceived()){
-                            smpcSetUpComplete.countDown();
+                    ResponseConnectionData response = (ResponseConnectionData) msg;
+                    if(isValidPort(response.frescoPort)
+                            && registeredClients.setFrescoPort(connectionId, response.frescoPort)){
+                        if(registeredClients.allFrescoPortsAvailable()){
+                            changeToState(State.SMPC_SetUpFinish);
                         }
                     }else c.close();
                 }
                 break;
             case SMPC_SetUpFinish:
                 if(msg instanceof AuctionReady){
-                    if(registeredClients.containsKey(connectionId)){
-                        registeredClients.get(c.getID()).setReadyForAuctionEvaluation(true);
-                        if(allClientsReady()){
-                            smpcSetupFinishComplete.countDown();
+                    if(registeredClients.setReady(connectionId)){
+                        if(registeredClients.allReady()){
+                            changeToState(State.SMPC_Running);
                         }
                     } else c.close();
                 }
                 break;
             case SMPC_Running:
                 if(msg instanceof ResponseAuctionStart){
-                    if(!startingOrder.isEmpty() && startingOrder.peek() == connectionId){
-                        startingOrder.pop();
+                    if(pendingAuctionStarts.remove(connectionId)){
                         ClientData clientData = registeredClients.get(connectionId);
                         log(String.format("Client[clientId=%d, partyId=%d] started the auction evaluation.",
                                 clientData.getClientId(), clientData.getFrescoPartyId()));
-                        if(startingOrder.isEmpty()){
-                            auctionStartComplete.countDown();
-                        } else {
-                            kryoServer.sendToTCP(startingOrder.peek(), new RequestAuctionStart());
+                        if(pendingAuctionStarts.isEmpty()){
+                            startEvaluation();
                         }
                     }
                 }
@@ -118,15 +190,23 @@ public class ServerWorker extends Listener implements Runnable {
             default:
                 break;
         }
+        // a state change sends messages to all clients, otherwise only the sender has exchanged bytes
+        if(state != previousState) updateKryoBytes();
+        else updateKryoBytes(connectionId);
     }
 
     @Override
-    public void disconnected(Connection c) {
-        if (state == State.Registration) {
-            ClientData clientData = registeredClients.remove(c.getID());
-            log(String.format("Client[clientId=%d] leaved the auction.",
-                    clientData.getClientId(), clientData.getFrescoPartyId()));
+    public synchronized void disconnected(Connection c) {
+        if(registeredClients.contains(c.getID())) {
+            updateKryoBytes(c.getID());
+            if (state == State.Registration) {
+                ClientData clientData = registeredClients.remove(c.getID());
+                metrics.setRegisteredClients(registeredClients.size());
+                log(String.format("Client[clientId=%d] leaved the auction.",
+                        clientData.getClientId(), clientData.getFrescoPartyId()));
+            }
         }
+        removeKryoCounters(c.getID());
     }
 
     /**
@@ -136,16 +216,16 @@ public class ServerWorker extends Listener implements Runnable {
         Map<Integer, Party> parties = new HashMap<>();
         Party serverParty = new Party(1, config.getHostIp(), config.getFrescoPort());
         parties.put(serverParty.getPartyId(), serverParty);
-        List<Integer> connectionIds = new ArrayList<>(registeredClients.keySet());
+        List<Integer> connectionIds = new ArrayList<>(registeredClients.getConnectionIds());
         Collections.shuffle(connectionIds);
         int nextPartyId = 2;
         for(int connectionId : connectionIds){
-            String clientIp = getClientIpAddress(connectionId);
+            String clientIp = registeredClients.getIpAddress(connectionId);
             if(!clientIp.isEmpty()){
                 int clientSMPCPort = registeredClients.get(connectionId).getFrescoPort();
                 Party party = new Party(nextPartyId, clientIp, clientSMPCPort);
                 parties.put(party.getPartyId(), party);
-                registeredClients.get(connectionId).setFrescoPartyId(party.getPartyId());
+                registeredClients.assignPartyId(connectionId, party.getPartyId());
                 nextPartyId++;
             }
         }
@@ -154,232 +234,322 @@ public class ServerWorker extends Listener implements Runnable {
     }
 
     /**
-     * Determines the ip address of the client by the given connection id.
-     * @param connectionId connection id of the client.
-     * @return the ip address as a string or null, if the given connection id does not exist.
+     * Sends {@link AuctionConfiguration} to all registered clients. All configurations share the same
+     * {@link PartyTable}, so the table is serialized once and only the party id differs per client.
+     * @param parties connection data of all parties.
      */
-    private String getClientIpAddress(int connectionId) {
-        for(Connection connection : kryoServer.getConnections()){
-            if(connection.getID() == connectionId) {
-                return  connection.getRemoteAddressTCP().getAddress().getHostAddress();
-            }
-        }
-        return "";
-    }
-
-    /**
-     * Sends {@link AuctionConfiguration} to all registered clients.
-     * @param mapping connection data as a string array.
-     */
-    private void sendConfig(String[] mapping){
-        for(int connectionId : registeredClients.keySet()){
+    private void sendConfig(PartyDescriptor[] parties){
+        PartyTable partyTable = new PartyTable(parties);
+        EvaluationParameters parameters = config.getEvaluationParameters();
+        for(int connectionId : registeredClients.getConnectionIds()){
             ClientData clientData = registeredClients.get(connectionId);
             AuctionConfiguration auctionConfig = new AuctionConfiguration(
                     clientData.getFrescoPartyId(),
                     config.getAuctionType(),
                     config.getProtocolSuite(),
                     config.getPreprocessing(),
-                    mapping);
-            kryoServer.sendToTCP(connectionId, auctionConfig);
+                    parameters,
+                    partyTable);
+            auctionConfig.maxBid = config.getMaxBid();
+            send(connectionId, auctionConfig);
         }
     }
 
     /**
-     * Extracts the connection data from the network configuration.
-     * @return connection data as array.
+     * Checks if the maximum number of clients is registered.
+     * @return true if the maximum is set and reached or false otherwise.
      */
-    private String[] configToStringArray(){
-        int numberOfParties = networkConfig.noOfParties();
-        String[] mapping = new String[numberOfParties];
-        for(int i = 0; i < numberOfParties; i++){
-            int partyId = i + 1;
-            Party party = networkConfig.getParty(partyId);
-            String entry = String.format("%d:%s:%d", party.getPartyId(), party.getHostname(), party.getPort());
-            mapping[i] = entry;
-        }
-        return mapping;
+    private boolean maxBiddersReached(){
+        return config.getMaxBidders() > 0 && registeredClients.size() >= config.getMaxBidders();
     }
 
     /**
-     * Checks if all clients transmitted their connection data.
-     * @return true if all clients transmitted their connection data or false otherwise.
+     * Sends the message to the client with the given connection id. The message is tagged with the id of the auction.
+     * @param connectionId connection id of the client.
+     * @param msg message, which should be sent.
      */
-    private boolean allConnectionDataReceived(){
-        return registeredClients.values().stream()
-                .allMatch(ClientData::frescoPortAvailable);
+    private void send(int connectionId, AuctionMessage msg){
+        msg.auctionId = config.getAuctionId();
+        Connection connection = registeredClients.getConnection(connectionId);
+        if(connection != null) connection.sendTCP(msg);
     }
 
     /**
-     * Checks if all clients are ready for auction evaluation.
-     * @return true if all clients ready or false otherwise.
+     * @return id of the auction, which is hosted by the server-worker.
      */
-    private boolean allClientsReady(){
-        return registeredClients.values().stream()
-                .allMatch(ClientData::isReadyForAuctionEvaluation);
+    public int getAuctionId(){
+        return config.getAuctionId();
     }
 
     /**
-     * Checks if a client is already registered.
-     * @param clientId id of the client.
-     * @return true if a client with the given id is already registered or false otherwise.
+     * @return metrics of the auction (null, if the server-worker was not started yet).
      */
-    private boolean clientAlreadyRegistered(int clientId){
-        return registeredClients.values().stream()
-                .anyMatch(c -> c.getClientId() == clientId);
+    public AuctionMetrics getMetrics(){
+        return metrics;
     }
 
+    /**
+     * Starts the server-worker and blocks until it has shut down.
+     */
     @Override
     public void run() {
-        if(startKryoServer()){
-            changeToState(State.Registration);
-        }else{
-            changeToErrorState("Server cannot be started.");
+        start();
+        try {
+            awaitTermination();
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Starts the server-worker without blocking the calling thread.
+     */
+    public void start() {
+        start(null);
+    }
+
+    /**
+     * Starts the server-worker without blocking the calling thread.
+     * @param onTermination callback, which is run when the server-worker has shut down (may be null).
+     */
+    void start(Runnable onTermination) {
+        synchronized (this){
+            this.onTermination = onTermination;
+            this.metrics = metricsRegistry.register(config.getAuctionId());
+            if(sharedKryoServer || startKryoServer()){
+                changeToState(State.Registration);
+            }else{
+                changeToErrorState("Server cannot be started.");
+            }
         }
+        runPendingCallbacks();
+    }
+
+    /**
+     * Blocks until the server-worker has shut down.
+     * @throws InterruptedException
+     */
+    public void awaitTermination() throws InterruptedException {
+        terminated.await();
     }
 
     /**
      * Executes state logic of {@link State#Registration}.
-     * Blocks until the registration phase is over. Changes state to {@link State#SMPC_SetUp} if at least 1
-     * client registered for the auction or calls {@link #changeToErrorState(String)} otherwise.
+     * Schedules the end of the registration phase. When the registration phase is over, the state changes to
+     * {@link State#SMPC_SetUp} if enough clients (at least 1 and at least {@link ServerConfiguration#getMinBidders()})
+     * registered for the auction or to the error state otherwise. The registration phase is closed early,
+     * as soon as {@link ServerConfiguration#getMaxBidders()} clients registered.
      */
     private void registration(){
-        try {
-            TimeUnit.SECONDS.sleep(config.getRegistrationDuration());
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        }
-        if(!registeredClients.isEmpty()) changeToState(State.SMPC_SetUp);
-        else changeToErrorState("No clients registered.");
+        scheduleTimeout(config.getRegistrationDuration(), () -> {
+            if(registeredClients.isEmpty()) changeToErrorState("No clients registered.");
+            else if(registeredClients.size() < config.getMinBidders())
+                changeToErrorState("Number of registered clients is below the minimum.");
+            else changeToState(State.SMPC_SetUp);
+        });
     }
 
     /**
      * Executes state logic of {@link State#SMPC_SetUp}.
-     * Sends {@link RequestConnectionData} to all registered clients and blocks until all clients respond with {@link ResponseConnectionData}.
-     * Changes state to {@link State#SMPC_SetUpFinish}, if all clients respond in a given time frame or calls
-     * {@link #changeToErrorState(String)} otherwise.
+     * Sends {@link RequestConnectionData} to all registered clients, which did not announce their fresco port
+     * with the {@link Register} message. The state changes to {@link State#SMPC_SetUpFinish}, as soon as all clients
+     * respond with {@link ResponseConnectionData} (immediately, if all clients announced their port), or to the
+     * error state, if not all clients respond in a given time frame.
      */
     private void smpcSetUp(){
-        requestSMPCPorts();
-        boolean isNotified = false;
-        try {
-            isNotified = smpcSetUpComplete.await(config.getSmpcSetUpDuration(), TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            e.printStackTrace();
+        if(registeredClients.allFrescoPortsAvailable()){
+            changeToState(State.SMPC_SetUpFinish);
+            return;
         }
-        if(isNotified) changeToState(State.SMPC_SetUpFinish);
-        else changeToErrorState("At least one client does not respond to RequestConnectionData.");
+        scheduleTimeout(config.getSmpcSetUpDuration(),
+                () -> changeToErrorState("At least one client does not respond to RequestConnectionData."));
+        requestSMPCPorts();
     }
 
     /**
-     * Sends a {@link RequestConnectionData} message to all registered clients.
+     * Sends a {@link RequestConnectionData} message to all registered clients, whose fresco port is not known.
      */
     private void requestSMPCPorts(){
-        for(int connectionId : registeredClients.keySet()){
-            kryoServer.sendToTCP(connectionId, new RequestConnectionData());
+        for(int connectionId : registeredClients.getConnectionIds()){
+            if(!registeredClients.get(connectionId).frescoPortAvailable()) send(connectionId, new RequestConnectionData());
         }
     }
 
+    /**
+     * @param port port, which was announced by a client.
+     * @return true, if the port is a valid tcp port (1 to 65535) or false otherwise. Port 0 is rejected,
+     * since the other parties cannot connect to it.
+     */
+    private static boolean isValidPort(int port){
+        return port > 0 && port <= 0xFFFF;
+    }
+
     /**
      * Executes state logic of {@link State#SMPC_SetUpFinish}.
-     * Sets up {@link AuctionConfiguration} and sends it to all registered clients and blocks until all clients respond
-     * with {@link AuctionReady}.
-     * Changes state to {@link State#SMPC_Running} if all clients respond in a given time frame or calls
-     * {@link #changeToErrorState(String)} otherwise.
+     * Sets up {@link AuctionConfiguration} and sends it to all registered clients. The state changes to
+     * {@link State#SMPC_Running}, as soon as all clients respond with {@link AuctionReady}, or to the error state,
+     * if not all clients respond in a given time frame.
      */
     private void smpcSetUpFinish() {
         setUpParties();
         if(networkConfig.noOfParties() > 1){
-            sendConfig(configToStringArray());
-            boolean isNotified = false;
-            try {
-                isNotified = smpcSetupFinishComplete.await(config.getSmpcSetUpFinishDuration(), TimeUnit.SECONDS);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-            if(isNotified) changeToState(State.SMPC_Running);
-            else changeToErrorState("At least one client is not ready for auction evaluation.");
+            scheduleTimeout(config.getSmpcSetUpFinishDuration(),
+                    () -> changeToErrorState("At least one client is not ready for auction evaluation."));
+            sendConfig(PartyDescriptor.of(networkConfig));
         } else changeToErrorState("Number of parties is below 2.");
     }
 
     /**
      * Executes state logic of {@link State#SMPC_Running}.
-     * Sets up the starting order of the auction evaluation and blocks until all clients started the evaluation and
-     * then starts himself.
-     * Changes state to {@link State#SMPC_SetUpFinish}, if the evaluation succeeds or calls
-     * {@link #changeToErrorState(String)} otherwise.
+     * Broadcasts a single {@link RequestAuctionStart} to all registered clients, so that all parties start
+     * the auction evaluation concurrently (the fresco network retries to connect to parties, which are not
+     * listening yet). The server-worker starts himself, as soon as all clients confirmed the start with
+     * {@link ResponseAuctionStart} (see {@link #startEvaluation()}).
+     * The state changes to the error state, if not all clients start in a given time frame.
      */
     private void smpcRunning(){
-        setUpStartingOrder();
-        if(!startingOrder.isEmpty()){
-            int connectionId = startingOrder.peek();
-            kryoServer.sendToTCP(connectionId, new RequestAuctionStart());
-            Auction.AuctionResult result = null;
-            ExecutorService singleSMPCExecutor = Executors.newSingleThreadExecutor();
-            boolean isNotified = false;
-            try {
-                isNotified = auctionStartComplete.await(EVALUATION_START_TIMEOUT, TimeUnit.SECONDS);
-                if(isNotified){
-                    Callable<Auction.AuctionResult> task = new AuctionEvaluation(config.getAuctionType(), config.getStartingPrice(),
-                            config.getProtocolSuite(), config.getPreprocessing(), networkConfig);
-                    Future<Auction.AuctionResult> r = singleSMPCExecutor.submit(task);
-                    result = r.get();
-                }
-            } catch (InterruptedException | ExecutionException e) {
-                e.printStackTrace();
-            } finally {
-                singleSMPCExecutor.shutdown();
+        pendingAuctionStarts.addAll(registeredClients.getConnectionIds());
+        if(!pendingAuctionStarts.isEmpty()){
+            scheduleTimeout(EVALUATION_START_TIMEOUT,
+                    () -> changeToErrorState("Auction evaluation is not started by all parties."));
+            for(int connectionId : pendingAuctionStarts){
+                send(connectionId, new RequestAuctionStart());
             }
-            if(result != null) {
-                listener.onCompletion(result, findClientIdByPartyId(result.getWinnerId()));
-                changeToState(State.Closure);
-            } else if(!isNotified) changeToErrorState("Auction evaluation is not started by all parties.");
-            else changeToErrorState("Auction evaluation aborted.");
         }else changeToErrorState("Auction evaluation cannot be started.");
     }
 
     /**
-     * Searches for the client by his party id.
-     * @param partyId party id otf the client.
-     * @return the id of the client if a client with the given party id exists or -1 otherwise.
+     * Starts the auction evaluation of the server-worker on the evaluation executor. The result is
+     * handled by {@link #evaluationFinished(Auction.AuctionResult)}.
      */
-    private int findClientIdByPartyId(int partyId){
-        for(ClientData clientData : registeredClients.values()){
-            if(clientData.getFrescoPartyId() == partyId) return clientData.getClientId();
-        }
-        return -1;
+    private void startEvaluation(){
+        cancelTimeout();
+        metrics.evaluationStarted();
+        Callable<Auction.AuctionResult> task = new AuctionEvaluation(config.getAuctionType(), config.getStartingPrice(),
+                config.getProtocolSuite(), config.getPreprocessing(), config.getEvaluationParameters(), networkConfig);
+        evaluationExecutor.execute(() -> {
+            Auction.AuctionResult result = null;
+            try {
+                result = task.call();
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+            evaluationFinished(result);
+        });
     }
 
     /**
-     * Sets up the starting order of the auction evaluation. Clients start in descending order of their party ids.
+     * Handles the result of the auction evaluation. Changes state to {@link State#Closure}, if the evaluation
+     * succeeds or to the error state otherwise.
+     * @param result result of the auction evaluation (null, if the evaluation failed).
      */
-    private void setUpStartingOrder(){
-        startingOrder = registeredClients.entrySet().stream()
-                .sorted((e1, e2) -> Integer.compare(e2.getValue().getFrescoPartyId(), e1.getValue().getFrescoPartyId()))
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toCollection(ConcurrentLinkedDeque::new));
+    private void evaluationFinished(Auction.AuctionResult result){
+        synchronized (this){
+            metrics.evaluationFinished();
+            if(state == State.SMPC_Running){
+                if(result != null) {
+                    int winnerClientId = registeredClients.findClientIdByPartyId(result.getWinnerId());
+                    runAfterUnlock(() -> listener.onCompletion(result, winnerClientId));
+                    changeToState(State.Closure);
+                } else changeToErrorState("Auction evaluation aborted.");
+            }
+        }
+        runPendingCallbacks();
     }
 
     /**
      * Executes state logic of {@link State#Closure}.
-     * Waits a certain amount of time and shuts down after.
+     * Schedules the shut down after a certain amount of time.
      */
     private void closure(){
-        try {
-            TimeUnit.SECONDS.sleep(config.getClosureDuration());
-        } catch (InterruptedException e) {
-            e.printStackTrace();
-        } finally {
-            shutdown();
-        }
+        scheduleTimeout(config.getClosureDuration(), this::shutdown);
     }
 
     /**
      * Shuts down the server-worker by stopping the kryo server and the corresponding listener.
+     * If the kryo server is shared, only the connections of the registered clients are closed.
      */
     private void shutdown(){
         log(String.format("Shutting down..."));
-        kryoServer.stop();
-        esKryoServerListener.shutdown();
+        updateKryoBytes();
+        for(int connectionId : registeredClients.getConnectionIds()){
+            removeKryoCounters(connectionId);
+        }
+        metricsRegistry.finish(metrics, state == State.Closure
+                ? AuctionMetrics.Outcome.Completed : AuctionMetrics.Outcome.Failed);
+        state = State.Terminated;
+        cancelTimeout();
+        if(sharedKryoServer){
+            for(int connectionId : new ArrayList<>(registeredClients.getConnectionIds())){
+                registeredClients.getConnection(connectionId).close();
+            }
+        }else{
+            kryoServer.stop();
+            esKryoServerListener.shutdown();
+        }
+        if(ownsExecutors){
+            scheduler.shutdown();
+            evaluationExecutor.shutdown();
+        }
+        Runnable terminationCallback = onTermination;
+        runAfterUnlock(() -> {
+            terminated.countDown();
+            if(terminationCallback != null) terminationCallback.run();
+        });
+    }
+
+    /**
+     * Queues a callback, which is run as soon as the lock of the server-worker is released
+     * (see {@link #runPendingCallbacks()}). Must be called while holding the lock.
+     * @param callback callback, which should be run.
+     */
+    private void runAfterUnlock(Runnable callback){
+        pendingCallbacks.add(callback);
+    }
+
+    /**
+     * Runs all queued callbacks in the order, in which they were queued. Must be called without holding
+     * the lock of the server-worker, so that listeners cannot block or deadlock the state machine.
+     */
+    private void runPendingCallbacks(){
+        List<Runnable> callbacks;
+        synchronized (this){
+            if(pendingCallbacks.isEmpty()) return;
+            callbacks = new ArrayList<>(pendingCallbacks);
+            pendingCallbacks.clear();
+        }
+        callbacks.forEach(Runnable::run);
+    }
+
+    /**
+     * Adds the bytes, which were exchanged with the registered clients since the last call, to the metrics
+     * (only if the kryo server counts the bytes, see {@link CountingSerialization}).
+     */
+    private void updateKryoBytes(){
+        for(int connectionId : registeredClients.getConnectionIds()){
+            updateKryoBytes(connectionId);
+        }
+    }
+
+    /**
+     * Adds the bytes, which were exchanged with the given client since the last call, to the metrics
+     * (only if the kryo server counts the bytes, see {@link CountingSerialization}).
+     * @param connectionId connection id of the client.
+     */
+    private void updateKryoBytes(int connectionId){
+        if(kryoServer == null || !(kryoServer.getSerialization() instanceof CountingSerialization)) return;
+        CountingSerialization serialization = (CountingSerialization) kryoServer.getSerialization();
+        metrics.addKryoBytes(serialization.drainBytesRead(connectionId), serialization.drainBytesWritten(connectionId));
+    }
+
+    /**
+     * Removes the byte counters of the given connection, if the kryo server is owned by this worker
+     * (the counters of a shared kryo server are removed by its owner, see {@link AuctionHost}).
+     * @param connectionId connection id of the client.
+     */
+    private void removeKryoCounters(int connectionId){
+        if(sharedKryoServer || kryoServer == null || !(kryoServer.getSerialization() instanceof CountingSerialization)) return;
+        ((CountingSerialization) kryoServer.getSerialization()).remove(connectionId);
     }
 
     /**
@@ -387,7 +557,8 @@ public class ServerWorker extends Listener implements Runnable {
      * @return true if kryo server was started successfully or false otherwise.
      */
     private boolean startKryoServer(){
-        kryoServer = new Server();
+        kryoServer = new Server(CountingSerialization.WRITE_BUFFER_SIZE, CountingSerialization.OBJECT_BUFFER_SIZE,
+                new CountingSerialization());
         NetworkHelper.register(kryoServer);
         esKryoServerListener = Executors.newSingleThreadExecutor();
         kryoServer.addListener(new ThreadedListener(this, esKryoServerListener));
@@ -403,14 +574,41 @@ public class ServerWorker extends Listener implements Runnable {
     }
 
     /**
-     * Changes the current state to given target state.
+     * Schedules a timeout for the current state. The task is only executed, if the state has not changed in the meantime.
+     * @param seconds delay of the timeout (seconds).
+     * @param task task, which should be executed on timeout.
+     */
+    private void scheduleTimeout(int seconds, Runnable task){
+        State timeoutState = state;
+        stateTimeout = scheduler.schedule(() -> {
+            synchronized (this){
+                if(state == timeoutState) task.run();
+            }
+            runPendingCallbacks();
+        }, seconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Cancels the timeout of the current state (if there is one).
+     */
+    private void cancelTimeout(){
+        if(stateTimeout != null){
+            stateTimeout.cancel(false);
+            stateTimeout = null;
+        }
+    }
+
+    /**
+     * Changes the current state to given target state and executes the state logic of the target state.
      * @param targetState target state.
      */
     private void changeToState(State targetState){
+        cancelTimeout();
         if(this.state != null) {
             log(String.format("leaves state: %s", this.state.name()));
         }
         this.state = targetState;
+        metrics.enterState(targetState.name());
         log(String.format("enters state: %s", this.state.name()));
         switch (this.state){
             case Registration:
@@ -440,7 +638,7 @@ public class ServerWorker extends Listener implements Runnable {
      */
     private void changeToErrorState(String errMsg){
         log(String.format("Error occurred: %s", errMsg));
-        listener.onError(errMsg);
+        runAfterUnlock(() -> listener.onError(errMsg));
         shutdown();
     }
 
@@ -451,5 +649,5 @@ public class ServerWorker extends Listener implements Runnable {
     /**
      * Represents the state of the server-worker.
      */
-    private enum State{Registration, SMPC_SetUp, SMPC_SetUpFinish, SMPC_Running, Closure}
+    private enum State{Registration, SMPC_SetUp, SMPC_SetUpFinish, SMPC_Running, Closure, Terminated}
 }
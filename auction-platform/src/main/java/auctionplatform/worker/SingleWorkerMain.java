@@ -1,5 +1,7 @@
 package auctionplatform.worker;
 
+import auctionplatform.metrics.MetricsExporter;
+import auctionplatform.metrics.MetricsRegistry;
 import frescoauction.auction.Auction;
 
 import java.io.IOException;
@@ -21,9 +23,16 @@ public class SingleWorkerMain {
                 System.out.println(String.format("Listener: Auction aborted (Error: %s)", errorMessage));
             }
         };
+        // optional: port of the metrics endpoint
+        MetricsRegistry metricsRegistry = new MetricsRegistry();
+        MetricsExporter metricsExporter = new MetricsExporter(metricsRegistry);
+        if(args.length > 1) metricsExporter.startHttpEndpoint(Integer.parseInt(args[1]));
         ExecutorService es = Executors.newSingleThreadExecutor();
-        ServerWorker server = new ServerWorker(config, listener);
-        es.submit(server);
+        ServerWorker server = new ServerWorker(config, listener, metricsRegistry);
+        es.submit(() -> {
+            server.run();
+            metricsExporter.stop();
+        });
         es.shutdown();
     }
 }
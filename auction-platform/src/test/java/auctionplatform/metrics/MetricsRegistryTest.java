@@ -0,0 +1,84 @@
+package auctionplatform.metrics;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testing {@link MetricsRegistry} and {@link AuctionMetrics}.
+ */
+public class MetricsRegistryTest {
+
+    /**
+     * Tests, if the time spent in the states is recorded in order of entering.
+     * @throws InterruptedException
+     */
+    @Test
+    public void testStateDurations() throws InterruptedException {
+        MetricsRegistry registry = new MetricsRegistry();
+        AuctionMetrics metrics = registry.register(1);
+        metrics.enterState("Registration");
+        TimeUnit.MILLISECONDS.sleep(50);
+        metrics.enterState("SMPC_SetUp");
+        assertEquals("SMPC_SetUp", metrics.getCurrentState());
+        registry.finish(metrics, AuctionMetrics.Outcome.Completed);
+        Map<String, Long> durations = metrics.getStateDurations();
+        assertArrayEquals(new String[]{"Registration", "SMPC_SetUp"}, durations.keySet().toArray());
+        assertTrue(durations.get("Registration") >= 50);
+        assertNull(metrics.getCurrentState());
+        assertEquals(AuctionMetrics.Outcome.Completed, metrics.getOutcome());
+    }
+
+    /**
+     * Tests the counters of the registry and the removal of the oldest finished auctions.
+     */
+    @Test
+    public void testCountersAndRetention() {
+        MetricsRegistry registry = new MetricsRegistry(1);
+        AuctionMetrics first = registry.register(1);
+        AuctionMetrics second = registry.register(2);
+        AuctionMetrics third = registry.register(3);
+        registry.finish(first, AuctionMetrics.Outcome.Completed);
+        registry.finish(second, AuctionMetrics.Outcome.Failed);
+        // finishing twice has no effect
+        registry.finish(second, AuctionMetrics.Outcome.Completed);
+        assertEquals(3, registry.getAuctionsStarted());
+        assertEquals(1, registry.getAuctionsCompleted());
+        assertEquals(1, registry.getAuctionsFailed());
+        assertNull(registry.get(1));
+        assertSame(second, registry.get(2));
+        assertSame(third, registry.get(3));
+    }
+
+    /**
+     * Tests the export in the prometheus text format and as json.
+     */
+    @Test
+    public void testExport() {
+        MetricsRegistry registry = new MetricsRegistry();
+        AuctionMetrics metrics = registry.register(7);
+        metrics.enterState("Registration");
+        metrics.setRegisteredClients(3);
+        metrics.addKryoBytes(100, 42);
+        String text = registry.toPrometheusText();
+        assertTrue(text.contains("auctions_started_total 1\n"));
+        assertTrue(text.contains("auction_current_state{auction_id=\"7\",state=\"Registration\"} 1\n"));
+        assertTrue(text.contains("auction_registered_clients{auction_id=\"7\"} 3\n"));
+        assertTrue(text.contains("auction_kryo_received_bytes_total{auction_id=\"7\"} 100\n"));
+        assertTrue(text.contains("auction_kryo_sent_bytes_total{auction_id=\"7\"} 42\n"));
+        assertTrue(text.contains("auction_state_duration_seconds{auction_id=\"7\",state=\"Registration\"} "));
+
+        JsonObject json = JsonParser.parseString(registry.toJson()).getAsJsonObject();
+        assertEquals(1, json.get("auctionsStarted").getAsLong());
+        JsonObject auction = json.getAsJsonArray("auctions").get(0).getAsJsonObject();
+        assertEquals(7, auction.get("auctionId").getAsInt());
+        assertEquals("Running", auction.get("outcome").getAsString());
+        assertEquals(100, auction.get("kryoBytesReceived").getAsLong());
+        assertTrue(auction.getAsJsonObject("stateDurations").has("Registration"));
+    }
+}
@@ -0,0 +1,137 @@
+package auctionplatform.protocol;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import frescoauction.util.EvaluationParameters;
+import frescoauction.util.Utils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testing {@link AuctionConfigurationSerializer} and {@link PartyDescriptorSerializer}.
+ */
+public class AuctionConfigurationSerializerTest {
+
+    /**
+     * Serializes and deserializes an object with the registrations of {@link NetworkHelper}.
+     * @param object object, which should be sent.
+     * @param size array, in which the number of written bytes is stored.
+     * @return received object.
+     */
+    private static Object sendAndReceive(Object object, int[] size){
+        Kryo kryo = new Kryo();
+        kryo.setRegistrationRequired(true);
+        NetworkHelper.register(kryo);
+        Output output = new Output(1024, -1);
+        kryo.writeClassAndObject(output, object);
+        size[0] = output.position();
+        return kryo.readClassAndObject(new Input(output.toBytes()));
+    }
+
+    /**
+     * Tests, if all fields and all kinds of addresses are transferred.
+     */
+    @Test
+    public void testRoundTrip(){
+        EvaluationParameters parameters = EvaluationParameters.builder()
+                .evaluationStrategy(EvaluationStrategy.SEQUENTIAL_BATCHED)
+                .maxBatchSize(128)
+                .build()
+                .withMaxBid(1000);
+        PartyDescriptor[] parties = {
+                new PartyDescriptor(1, "192.168.0.255", 65535),
+                new PartyDescriptor(2, "localhost", 0),
+                new PartyDescriptor(3, "fe80:0:0:0:0:0:0:1", 5000),
+                new PartyDescriptor(300, "256.1.1.1", 8080)
+        };
+        AuctionConfiguration config = new AuctionConfiguration(2, Utils.AuctionType.SealedSecondPrice,
+                Utils.ProtocolSuite.Spdz, Utils.Preprocessing.Dummy, parameters, parties);
+        config.auctionId = 42;
+        config.maxBid = 1000;
+
+        AuctionConfiguration received = (AuctionConfiguration) sendAndReceive(config, new int[1]);
+        assertEquals(42, received.auctionId);
+        assertEquals(2, received.partyId);
+        assertEquals(Utils.AuctionType.SealedSecondPrice, received.auctionType);
+        assertEquals(Utils.ProtocolSuite.Spdz, received.protocolSuite);
+        assertEquals(Utils.Preprocessing.Dummy, received.preprocessing);
+        assertEquals(EvaluationStrategy.SEQUENTIAL_BATCHED, received.evaluationStrategy);
+        assertEquals(128, received.maxBatchSize);
+        assertEquals(parameters.getMaxBitLength(), received.maxBitLength);
+        assertEquals(parameters.getModBitLength(), received.modBitLength);
+        assertEquals(1000, received.maxBid);
+        assertArrayEquals(parties, received.parties);
+        NetworkConfiguration networkConfig = received.getNetworkConfiguration();
+        assertEquals(2, networkConfig.getMyId());
+        assertEquals("localhost", networkConfig.getParty(2).getHostname());
+        assertEquals(65535, networkConfig.getParty(1).getPort());
+    }
+
+    /**
+     * Tests, if missing enums and a missing party table are transferred.
+     */
+    @Test
+    public void testNullFields(){
+        AuctionConfiguration received = (AuctionConfiguration) sendAndReceive(new AuctionConfiguration(), new int[1]);
+        assertNull(received.auctionType);
+        assertNull(received.preprocessing);
+        assertNull(received.evaluationStrategy);
+        assertNull(received.parties);
+    }
+
+    /**
+     * Tests, if the party table of 100 parties with IPv4 addresses is sent with a fixed size per party.
+     */
+    @Test
+    public void testCompactPartyTable(){
+        PartyDescriptor[] parties = new PartyDescriptor[100];
+        for(int i = 0; i < parties.length; i++){
+            parties[i] = new PartyDescriptor(i + 1, "10.0.1." + i, 20000 + i);
+        }
+        int[] size = new int[1];
+        AuctionConfiguration received = (AuctionConfiguration) sendAndReceive(new AuctionConfiguration(1,
+                Utils.AuctionType.SealedFirstPrice, Utils.ProtocolSuite.DummyArithmetic, null, parties), size);
+        assertArrayEquals(parties, received.parties);
+        // party id (1 byte), address kind (1 byte), address (4 bytes), port (2 bytes)
+        assertTrue(size[0] <= 100 * 8 + 32);
+    }
+
+    /**
+     * Tests, if configurations with a shared party table are serialized only once and
+     * are sent in the same format as configurations without a shared table.
+     */
+    @Test
+    public void testSharedPartyTable(){
+        PartyDescriptor[] parties = {new PartyDescriptor(1, "10.0.0.1", 5000), new PartyDescriptor(2, "localhost", 5001)};
+        PartyTable table = new PartyTable(parties);
+        EvaluationParameters parameters = EvaluationParameters.builder().build();
+        int[] sharedSize = new int[1];
+        int[] size = new int[1];
+        for(int partyId = 1; partyId <= parties.length; partyId++){
+            AuctionConfiguration shared = (AuctionConfiguration) sendAndReceive(new AuctionConfiguration(partyId,
+                    Utils.AuctionType.SealedFirstPrice, Utils.ProtocolSuite.DummyArithmetic, null, parameters, table),
+                    sharedSize);
+            sendAndReceive(new AuctionConfiguration(partyId, Utils.AuctionType.SealedFirstPrice,
+                    Utils.ProtocolSuite.DummyArithmetic, null, parameters, parties), size);
+            assertEquals(partyId, shared.partyId);
+            assertArrayEquals(parties, shared.parties);
+            assertNull(shared.getPartyTable());
+            assertEquals(size[0], sharedSize[0]);
+        }
+        assertSame(table.getSerialized(), table.getSerialized());
+    }
+
+    /**
+     * Tests, if invalid connection data is rejected.
+     */
+    @Test
+    public void testInvalidPartyDescriptor(){
+        assertThrows(IllegalArgumentException.class, () -> new PartyDescriptor(0, "localhost", 1));
+        assertThrows(IllegalArgumentException.class, () -> new PartyDescriptor(1, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new PartyDescriptor(1, "localhost", 65536));
+    }
+}
@@ -0,0 +1,120 @@
+package auctionplatform.worker;
+
+import auctionplatform.worker.mockedclients.ClientWorker;
+import frescoauction.util.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testing {@link AuctionHost} hosting several auctions at the same time.
+ * A mocked implementation of the client-worker is used for testing: {@link ClientWorker}.
+ */
+public class AuctionHostTest {
+    /** Number of available threads.*/
+    private static final int THREAD_POOL = 10;
+    private static final int STATE_DURATION = 5;
+    private static final String SERVER_IP = "localhost";
+    private static final int SERVER_PORT = 8889;
+
+    private ExecutorService executorService;
+    private AuctionHost host;
+
+    /**
+     * Sets up and configures mocked client-workers, which join the given auction.
+     * @param auctionId id of the auction.
+     * @param bids bids, which should be used by the client-workers.
+     * @param firstFrescoPort fresco port of the first client-worker (the following client-workers use the next ports).
+     * @return client-workers.
+     */
+    private static List<ClientWorker> setUpClients(int auctionId, int[] bids, int firstFrescoPort){
+        List<ClientWorker> clients = new ArrayList<>();
+        for (int i = 0; i < bids.length; i++){
+            int clientId = i + 1;
+            clients.add(new ClientWorker(auctionId, clientId, SERVER_IP, SERVER_PORT, bids[i], firstFrescoPort + i));
+        }
+        return clients;
+    }
+
+    private static ServerConfiguration getServerConfiguration(int auctionId, Utils.AuctionType auctionType){
+        return new ServerConfiguration(
+                auctionId, 1, auctionType,
+                STATE_DURATION, STATE_DURATION, SERVER_IP, 0, 0,
+                STATE_DURATION, STATE_DURATION, Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy);
+    }
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(THREAD_POOL);
+        host = new AuctionHost(new HostConfiguration(SERVER_IP, SERVER_PORT, Arrays.asList(9000, 9001)));
+        assertTrue(host.start());
+    }
+
+    @AfterEach
+    void tearDown() {
+        host.stop();
+        host = null;
+        executorService.shutdownNow();
+        executorService = null;
+    }
+
+    /**
+     * Tests the host running two auctions at the same time with {@link Utils.ProtocolSuite#DummyArithmetic}.
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    @Test
+    public void testHostRunsConcurrentAuctions() throws ExecutionException, InterruptedException {
+        ServerWorkerTestListener firstListener = new ServerWorkerTestListener();
+        ServerWorkerTestListener secondListener = new ServerWorkerTestListener();
+        assertTrue(host.hostAuction(getServerConfiguration(1, Utils.AuctionType.SealedFirstPrice), firstListener));
+        assertTrue(host.hostAuction(getServerConfiguration(2, Utils.AuctionType.SealedSecondPrice), secondListener));
+        assertEquals(2, host.getNumberOfAuctions());
+        assertEquals(0, host.getNumberOfAvailablePorts());
+        TimeUnit.SECONDS.sleep(1);
+        List<ClientWorker> clients = new ArrayList<>();
+        clients.addAll(setUpClients(1, new int[]{42, 7, 13}, 5000));
+        clients.addAll(setUpClients(2, new int[]{42, 7, 13}, 5100));
+        List<Future<ClientWorker>> fClients = clients.stream()
+                .map(client -> executorService.submit(client, client))
+                .collect(Collectors.toList());
+
+        for(int i = 0; i < fClients.size(); i++){
+            ClientWorker c = fClients.get(i).get();
+            assertNotNull(c.getResult());
+            assertEquals(i < 3 ? 42 : 13, c.getResult().getFinalPrice());
+        }
+        // waiting for both auctions to be closed
+        for(int i = 0; i < 4 * STATE_DURATION && host.getNumberOfAuctions() > 0; i++){
+            TimeUnit.SECONDS.sleep(1);
+        }
+        assertEquals(0, host.getNumberOfAuctions());
+        assertEquals(2, host.getNumberOfAvailablePorts());
+        assertTrue(firstListener.completedSuccessfully());
+        assertEquals(1, firstListener.getClientId());
+        assertEquals(42, firstListener.getAuctionResult().getFinalPrice());
+        assertTrue(secondListener.completedSuccessfully());
+        assertEquals(1, secondListener.getClientId());
+        assertEquals(13, secondListener.getAuctionResult().getFinalPrice());
+    }
+
+    /**
+     * Tests, if the host rejects auctions with an id, which is already hosted, or if no fresco port is available.
+     */
+    @Test
+    public void testHostRejectsAuctions() {
+        ServerWorkerTestListener listener = new ServerWorkerTestListener();
+        assertTrue(host.hostAuction(getServerConfiguration(1, Utils.AuctionType.SealedFirstPrice), listener));
+        assertFalse(host.hostAuction(getServerConfiguration(1, Utils.AuctionType.SealedFirstPrice), listener));
+        assertTrue(host.hostAuction(getServerConfiguration(2, Utils.AuctionType.SealedFirstPrice), listener));
+        assertFalse(host.hostAuction(getServerConfiguration(3, Utils.AuctionType.SealedFirstPrice), listener));
+    }
+}
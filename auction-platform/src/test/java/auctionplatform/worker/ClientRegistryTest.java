@@ -0,0 +1,153 @@
+package auctionplatform.worker;
+
+import com.esotericsoftware.kryonet.Connection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testing {@link ClientRegistry}.
+ */
+public class ClientRegistryTest {
+    /** Number of clients, which are registered in the stress test.*/
+    private static final int NO_OF_CLIENTS = 5000;
+    private ClientRegistry registry;
+
+    /**
+     * Creates a connection, which is not connected to a remote host.
+     * @param connectionId id of the connection.
+     * @param address remote address of the connection (may be null).
+     * @return connection.
+     */
+    private static Connection connection(int connectionId, InetSocketAddress address){
+        return new Connection(){
+            @Override
+            public int getID() {
+                return connectionId;
+            }
+
+            @Override
+            public InetSocketAddress getRemoteAddressTCP() {
+                return address;
+            }
+        };
+    }
+
+    @BeforeEach
+    void setUp() {
+        registry = new ClientRegistry();
+    }
+
+    /**
+     * Tests, if a client id or a connection cannot be registered twice.
+     */
+    @Test
+    public void testDuplicateRegistration(){
+        assertNotNull(registry.register(connection(1, null), 10));
+        assertNull(registry.register(connection(2, null), 10));
+        assertNull(registry.register(connection(1, null), 11));
+        assertEquals(1, registry.size());
+        assertTrue(registry.containsClientId(10));
+        assertFalse(registry.containsClientId(11));
+    }
+
+    /**
+     * Tests, if the fresco ports and the ready clients are counted and if the counters are updated on removal.
+     */
+    @Test
+    public void testCounters(){
+        assertTrue(registry.allFrescoPortsAvailable());
+        registry.register(connection(1, null), 10);
+        registry.register(connection(2, null), 20);
+        assertFalse(registry.allFrescoPortsAvailable());
+        assertTrue(registry.setFrescoPort(1, 5000));
+        assertTrue(registry.setFrescoPort(1, 5001));
+        assertFalse(registry.allFrescoPortsAvailable());
+        assertFalse(registry.setFrescoPort(3, 5000));
+        assertTrue(registry.setFrescoPort(2, 5000));
+        assertTrue(registry.allFrescoPortsAvailable());
+
+        assertTrue(registry.setReady(1));
+        assertTrue(registry.setReady(1));
+        assertFalse(registry.allReady());
+        registry.remove(2);
+        assertTrue(registry.allReady());
+        assertTrue(registry.allFrescoPortsAvailable());
+        registry.register(connection(3, null), 30);
+        assertFalse(registry.allReady());
+        assertFalse(registry.allFrescoPortsAvailable());
+    }
+
+    /**
+     * Tests, if clients are found by their party id and if the indexes are updated on removal.
+     */
+    @Test
+    public void testPartyIdLookupAndRemoval(){
+        registry.register(connection(1, null), 10);
+        registry.register(connection(2, null), 20);
+        registry.assignPartyId(1, 2);
+        registry.assignPartyId(2, 3);
+        assertEquals(10, registry.findClientIdByPartyId(2));
+        assertEquals(20, registry.findClientIdByPartyId(3));
+        assertEquals(-1, registry.findClientIdByPartyId(1));
+
+        assertEquals(10, registry.remove(1).getClientId());
+        assertNull(registry.remove(1));
+        assertEquals(-1, registry.findClientIdByPartyId(2));
+        assertFalse(registry.containsClientId(10));
+        assertNull(registry.getConnection(1));
+        assertNotNull(registry.register(connection(4, null), 10));
+    }
+
+    /**
+     * Tests, if the ip address of a client is determined.
+     */
+    @Test
+    public void testIpAddress(){
+        registry.register(connection(1, new InetSocketAddress("127.0.0.1", 5000)), 10);
+        registry.register(connection(2, null), 20);
+        assertEquals("127.0.0.1", registry.getIpAddress(1));
+        assertEquals("", registry.getIpAddress(2));
+        assertEquals("", registry.getIpAddress(3));
+    }
+
+    /**
+     * Registers thousands of clients and runs through all states of an auction, in which every client
+     * sends one message per state. Every message has to be handled without scanning all clients.
+     */
+    @Test
+    public void testStressRegistration(){
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for(int i = 0; i < NO_OF_CLIENTS; i++){
+                assertNotNull(registry.register(connection(i, null), NO_OF_CLIENTS + i));
+                assertNull(registry.register(connection(NO_OF_CLIENTS + i, null), NO_OF_CLIENTS + i));
+            }
+            assertEquals(NO_OF_CLIENTS, registry.size());
+            int partyId = 2;
+            for(int connectionId : registry.getConnectionIds()){
+                registry.assignPartyId(connectionId, partyId++);
+            }
+            for(int i = 0; i < NO_OF_CLIENTS; i++){
+                assertEquals(i == NO_OF_CLIENTS - 1, registry.setFrescoPort(i, 5000 + i)
+                        && registry.allFrescoPortsAvailable());
+            }
+            for(int i = 0; i < NO_OF_CLIENTS; i++){
+                assertEquals(i == NO_OF_CLIENTS - 1, registry.setReady(i) && registry.allReady());
+            }
+            for(int i = 0; i < NO_OF_CLIENTS; i++){
+                assertEquals(NO_OF_CLIENTS + i, registry.findClientIdByPartyId(i + 2));
+            }
+            for(int i = 0; i < NO_OF_CLIENTS; i += 2){
+                registry.remove(i);
+            }
+            assertEquals(NO_OF_CLIENTS / 2, registry.size());
+            assertTrue(registry.allReady());
+            assertEquals(-1, registry.findClientIdByPartyId(2));
+            assertEquals(NO_OF_CLIENTS + 1, registry.findClientIdByPartyId(3));
+        });
+    }
+}
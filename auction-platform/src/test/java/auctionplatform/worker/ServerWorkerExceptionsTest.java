@@ -10,6 +10,10 @@ import auctionplatform.protocol.RequestConnectionData;
 import auctionplatform.protocol.ResponseAuctionStart;
 import auctionplatform.worker.mockedclients.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.concurrent.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -67,10 +71,87 @@ public class ServerWorkerExceptionsTest {
     @Test
     public void testServerWorkerAuctionWithNoClientWorkers() throws ExecutionException, InterruptedException {
         ServerWorker serverWorker = new ServerWorker(SERVER_CONFIG, workerListener);
+        workerListener.observe(serverWorker);
         executorService.submit(serverWorker).get();
         assertFalse(workerListener.completedSuccessfully());
         assertTrue(workerListener.errorOccurred());
         assertEquals("No clients registered.", workerListener.getErrorMessage());
+        assertFalse(workerListener.calledWithLock());
+    }
+
+    /**
+     * Tests server-workers' behavior, when less clients than the configured minimum join the auction.<br>
+     * Uses mocked client-worker: {@link ClientWorkerNoResponseConnectionData}
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    @Test
+    public void testServerWorkerMinimumBiddersNotReached() throws ExecutionException, InterruptedException {
+        ServerConfiguration serverConfig = new ServerConfiguration(
+                1, 1, Utils.AuctionType.SealedFirstPrice,
+                5, 5, SERVER_IP, SERVER_PORT, SERVER_FRESCO_PORT,
+                5, 5, Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy, 2, 0);
+        ServerWorker serverWorker = new ServerWorker(serverConfig, workerListener);
+        AbstractTestClientWorker clientWorker = new ClientWorkerNoResponseConnectionData(1, SERVER_IP, SERVER_PORT);
+        startAndWait(serverWorker, clientWorker);
+        assertFalse(workerListener.completedSuccessfully());
+        assertTrue(workerListener.errorOccurred());
+        assertEquals("Number of registered clients is below the minimum.", workerListener.getErrorMessage());
+    }
+
+    /**
+     * Tests, if invalid bidder counts are rejected.
+     */
+    @Test
+    public void testInvalidBidderCounts(){
+        assertThrows(IllegalArgumentException.class, () -> new ServerConfiguration(
+                1, 1, Utils.AuctionType.SealedFirstPrice,
+                5, 5, SERVER_IP, SERVER_PORT, SERVER_FRESCO_PORT,
+                5, 5, Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ServerConfiguration(
+                1, 1, Utils.AuctionType.SealedFirstPrice,
+                5, 5, SERVER_IP, SERVER_PORT, SERVER_FRESCO_PORT,
+                5, 5, Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy, 3, 2));
+    }
+
+    /**
+     * Tests, if the server configuration rejects a negative maximum bid or a starting price, which exceeds
+     * the maximum bid.
+     */
+    @Test
+    public void testInvalidMaxBid(){
+        assertThrows(IllegalArgumentException.class, () -> new ServerConfiguration(
+                1, 1, Utils.AuctionType.SealedFirstPrice,
+                5, 5, SERVER_IP, SERVER_PORT, SERVER_FRESCO_PORT,
+                5, 5, Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy, 0, 0, null, -1));
+        assertThrows(IllegalArgumentException.class, () -> new ServerConfiguration(
+                1, 101, Utils.AuctionType.SealedFirstPrice,
+                5, 5, SERVER_IP, SERVER_PORT, SERVER_FRESCO_PORT,
+                5, 5, Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy, 0, 0, null, 100));
+    }
+
+    /**
+     * Tests, if a server configuration, which is loaded from json, is validated like a constructed one.
+     * @throws IOException
+     */
+    @Test
+    public void testInvalidJsonConfiguration() throws IOException {
+        Path file = Files.createTempFile("server-config", ".json");
+        try {
+            Files.write(file, "{\"auctionId\": 1, \"startingPrice\": 1, \"minBidders\": 2, \"maxBidders\": 3}"
+                    .getBytes(StandardCharsets.UTF_8));
+            ServerConfiguration config = ServerConfiguration.loadFromJson(file.toString());
+            assertEquals(2, config.getMinBidders());
+            assertEquals(3, config.getMaxBidders());
+            Files.write(file, "{\"auctionId\": 1, \"startingPrice\": 1, \"minBidders\": 3, \"maxBidders\": 2}"
+                    .getBytes(StandardCharsets.UTF_8));
+            assertThrows(IllegalArgumentException.class, () -> ServerConfiguration.loadFromJson(file.toString()));
+            Files.write(file, "{\"auctionId\": 1, \"startingPrice\": 101, \"maxBid\": 100}"
+                    .getBytes(StandardCharsets.UTF_8));
+            assertThrows(IllegalArgumentException.class, () -> ServerConfiguration.loadFromJson(file.toString()));
+        } finally {
+            Files.delete(file);
+        }
     }
 
     /**
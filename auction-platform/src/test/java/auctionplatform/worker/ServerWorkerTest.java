@@ -1,15 +1,29 @@
 package auctionplatform.worker;
 
+import auctionplatform.metrics.AuctionMetrics;
+import auctionplatform.metrics.MetricsRegistry;
+import auctionplatform.protocol.*;
+import com.esotericsoftware.kryonet.Connection;
+import com.esotericsoftware.kryonet.Server;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import frescoauction.util.EvaluationParameters;
 import frescoauction.util.Utils;
 import auctionplatform.worker.mockedclients.ClientWorker;
 
+import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
@@ -28,6 +42,8 @@ public class ServerWorkerTest {
     private static final String SERVER_IP = "localhost";
     private static final int SERVER_PORT = 8888;
     private static final int FRESCO_PORT = 9000;
+    /** Number of clients, which are simulated in the stress test.*/
+    private static final int NO_OF_STRESS_CLIENTS = 5000;
 
     private ExecutorService executorService;
     private ServerWorkerTestListener workerListener;
@@ -130,6 +146,194 @@ public class ServerWorkerTest {
         assertEquals(expectedBid, workerListener.getAuctionResult().getFinalPrice());
     }
 
+    /**
+     * Tests, if the server-worker closes the registration as soon as the maximum number of clients registered,
+     * instead of waiting for the end of the (long) registration duration.
+     * @throws ExecutionException
+     * @throws InterruptedException
+     * @throws TimeoutException
+     */
+    @Test
+    public void testServerWorkerClosesRegistrationEarly() throws ExecutionException, InterruptedException, TimeoutException {
+        int[] bids = new int[]{1, 42, 2};
+        ServerConfiguration serverConfig = new ServerConfiguration(
+                AUCTION_ID, 1, Utils.AuctionType.SealedFirstPrice,
+                12 * STATE_DURATION, STATE_DURATION, SERVER_IP, SERVER_PORT, FRESCO_PORT,
+                STATE_DURATION, STATE_DURATION, Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy,
+                bids.length, bids.length);
+        ServerWorker serverWorker = new ServerWorker(serverConfig, workerListener);
+        workerListener.observe(serverWorker);
+        Future<?> server = executorService.submit(serverWorker);
+        TimeUnit.SECONDS.sleep(1);
+        List<Future<ClientWorker>> clients = setUpClients(bids).stream()
+                .map(client -> executorService.submit(client, client))
+                .collect(Collectors.toList());
+
+        // the auction has to be finished long before the end of the registration duration
+        server.get(6 * STATE_DURATION, TimeUnit.SECONDS);
+        for(Future<ClientWorker> client : clients){
+            ClientWorker c = client.get();
+            assertNotNull(c.getResult());
+            assertEquals(42, c.getResult().getFinalPrice());
+        }
+        assertTrue(workerListener.completedSuccessfully());
+        assertEquals(2, workerListener.getClientId());
+        assertFalse(workerListener.calledWithLock());
+        // metrics of the auction
+        AuctionMetrics metrics = serverWorker.getMetrics();
+        assertEquals(AuctionMetrics.Outcome.Completed, metrics.getOutcome());
+        assertEquals(bids.length, metrics.getRegisteredClients());
+        assertTrue(metrics.getKryoBytesReceived() > 0);
+        assertTrue(metrics.getKryoBytesSent() > 0);
+        assertTrue(metrics.getEvaluationDuration() >= 0);
+        assertArrayEquals(new String[]{"Registration", "SMPC_SetUp", "SMPC_SetUpFinish", "SMPC_Running", "Closure"},
+                metrics.getStateDurations().keySet().toArray());
+    }
+
+    /**
+     * Provides the clients, which announce their fresco port with the registration.
+     * @return array, which indicates for every client, if it announces its fresco port.
+     */
+    private static List<Arguments> dataAnnouncedPorts(){
+        return List.of(
+                Arguments.of((Object) new boolean[]{true, false, true}),
+                Arguments.of((Object) new boolean[]{true, true, true})
+        );
+    }
+
+    /**
+     * Tests, if the connection data is only requested from clients, which did not announce their fresco port
+     * with the registration.
+     * @param announced indicates for every client, if it announces its fresco port.
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    @ParameterizedTest
+    @MethodSource("dataAnnouncedPorts")
+    public void testServerWorkerSkipsConnectionDataRequest(boolean[] announced) throws ExecutionException, InterruptedException {
+        int[] bids = new int[]{1, 42, 2};
+        ServerConfiguration serverConfig = new ServerConfiguration(
+                AUCTION_ID, 1, Utils.AuctionType.SealedFirstPrice,
+                STATE_DURATION, STATE_DURATION, SERVER_IP, SERVER_PORT, FRESCO_PORT,
+                STATE_DURATION, STATE_DURATION, Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy,
+                bids.length, bids.length);
+        ServerWorker serverWorker = new ServerWorker(serverConfig, workerListener);
+        Future<?> server = executorService.submit(serverWorker);
+        TimeUnit.SECONDS.sleep(1);
+        List<ClientWorker> clientWorkers = setUpClients(bids);
+        for(int i = 0; i < bids.length; i++){
+            if(announced[i]) clientWorkers.get(i).announceFrescoPort();
+        }
+        List<Future<ClientWorker>> clients = clientWorkers.stream()
+                .map(client -> executorService.submit(client, client))
+                .collect(Collectors.toList());
+
+        for(int i = 0; i < bids.length; i++){
+            ClientWorker c = clients.get(i).get();
+            assertNotNull(c.getResult());
+            assertEquals(42, c.getResult().getFinalPrice());
+            assertEquals(!announced[i], c.isConnectionDataRequested());
+        }
+        server.get();
+        assertTrue(workerListener.completedSuccessfully());
+        assertEquals(2, workerListener.getClientId());
+    }
+
+    /**
+     * Tests, if the evaluation parameters of the server configuration are sent to all clients and used
+     * for the auction evaluation.
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    @Test
+    public void testServerWorkerSendsEvaluationParameters() throws ExecutionException, InterruptedException {
+        int[] bids = new int[]{1, 42, 2};
+        EvaluationParameters parameters = EvaluationParameters.builder()
+                .evaluationStrategy(EvaluationStrategy.SEQUENTIAL_BATCHED)
+                .maxBatchSize(128)
+                .maxBitLength(40)
+                .modBitLength(104)
+                .build();
+        ServerConfiguration serverConfig = new ServerConfiguration(
+                AUCTION_ID, 1, Utils.AuctionType.SealedSecondPrice,
+                STATE_DURATION, STATE_DURATION, SERVER_IP, SERVER_PORT, FRESCO_PORT,
+                STATE_DURATION, STATE_DURATION, Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy,
+                0, 0, parameters, 0);
+        ServerWorker serverWorker = new ServerWorker(serverConfig, workerListener);
+        Future<?> server = executorService.submit(serverWorker);
+        TimeUnit.SECONDS.sleep(1);
+        List<Future<ClientWorker>> clients = setUpClients(bids).stream()
+                .map(client -> executorService.submit(client, client))
+                .collect(Collectors.toList());
+
+        for(Future<ClientWorker> client : clients){
+            ClientWorker c = client.get();
+            assertNotNull(c.getResult());
+            assertEquals(2, c.getResult().getFinalPrice());
+            EvaluationParameters received = c.getConfiguration().getEvaluationParameters();
+            assertEquals(EvaluationStrategy.SEQUENTIAL_BATCHED, received.getEvaluationStrategy());
+            assertEquals(128, received.getMaxBatchSize());
+            assertEquals(40, received.getMaxBitLength());
+            assertEquals(104, received.getModBitLength());
+        }
+        server.get();
+        assertTrue(workerListener.completedSuccessfully());
+        assertEquals(2, workerListener.getClientId());
+    }
+
+    /**
+     * Provides the protocol suites and bids for the auctions with a maximum bid of 100. Bids above the maximum
+     * are capped by the clients.<br>
+     * Order: protocol suite, array of bids
+     * @return protocol suites with bids.
+     */
+    private static List<Arguments> dataMaxBid(){
+        return List.of(
+                Arguments.of(Utils.ProtocolSuite.DummyArithmetic, new int[]{1, 100, 99}),
+                Arguments.of(Utils.ProtocolSuite.DummyArithmetic, new int[]{1, 150, 99}),
+                Arguments.of(Utils.ProtocolSuite.Spdz, new int[]{1, 100, 99}),
+                Arguments.of(Utils.ProtocolSuite.Spdz, new int[]{1, 150, 99})
+        );
+    }
+
+    /**
+     * Tests, if the bit length and the mod bit length of the evaluation are derived from the maximum bid
+     * and if the auction is evaluated correctly with the reduced bit length (and the derived modulus, if
+     * {@link Utils.ProtocolSuite#Spdz} is used with {@link Utils.Preprocessing#Dummy}).
+     * @param protocolSuite protocol suite, which should be used.
+     * @param bids array of bids, which should be used by the clients.
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    @ParameterizedTest
+    @MethodSource("dataMaxBid")
+    public void testServerWorkerDerivesBitLengthFromMaxBid(Utils.ProtocolSuite protocolSuite, int[] bids) throws ExecutionException, InterruptedException {
+        ServerConfiguration serverConfig = new ServerConfiguration(
+                AUCTION_ID, 1, Utils.AuctionType.SealedSecondPrice,
+                STATE_DURATION, STATE_DURATION, SERVER_IP, SERVER_PORT, FRESCO_PORT,
+                STATE_DURATION, STATE_DURATION, protocolSuite, Utils.Preprocessing.Dummy,
+                0, 0, null, 100);
+        ServerWorker serverWorker = new ServerWorker(serverConfig, workerListener);
+        Future<?> server = executorService.submit(serverWorker);
+        TimeUnit.SECONDS.sleep(1);
+        List<Future<ClientWorker>> clients = setUpClients(bids).stream()
+                .map(client -> executorService.submit(client, client))
+                .collect(Collectors.toList());
+
+        for(Future<ClientWorker> client : clients){
+            ClientWorker c = client.get();
+            assertNotNull(c.getResult());
+            assertEquals(99, c.getResult().getFinalPrice());
+            EvaluationParameters received = c.getConfiguration().getEvaluationParameters();
+            assertEquals(7, received.getMaxBitLength());
+            assertEquals(72, received.getModBitLength());
+            assertEquals(100, c.getConfiguration().maxBid);
+        }
+        server.get();
+        assertTrue(workerListener.completedSuccessfully());
+        assertEquals(2, workerListener.getClientId());
+    }
+
     /**
      * Tests the server-worker running the auction evaluation with {@link Utils.ProtocolSuite#Spdz}, which uses
      * {@link Utils.Preprocessing#Dummy}.
@@ -205,4 +409,178 @@ public class ServerWorkerTest {
         assertEquals(expectedClientId, workerListener.getClientId());
         assertEquals(expectedBid, workerListener.getAuctionResult().getFinalPrice());
     }
+
+    /**
+     * Drives a server-worker with thousands of clients through all states up to the start of the evaluation
+     * by passing {@link Register}, {@link ResponseConnectionData}, {@link AuctionReady} and
+     * {@link ResponseAuctionStart} messages
+     * directly to {@link ServerWorker#received(Connection, Object)}. Every client has to receive exactly one
+     * message per state change and no client may be rejected. The auction evaluation is submitted,
+     * but not run (the clients are not connected to a fresco network).
+     */
+    @Test
+    public void testServerWorkerStressMessages() {
+        ServerConfiguration serverConfig = new ServerConfiguration(
+                AUCTION_ID, 1, Utils.AuctionType.SealedFirstPrice,
+                600, 600, SERVER_IP, SERVER_PORT, FRESCO_PORT,
+                600, 600, Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy,
+                NO_OF_STRESS_CLIENTS, NO_OF_STRESS_CLIENTS);
+        Server kryoServer = new Server(CountingSerialization.WRITE_BUFFER_SIZE, CountingSerialization.OBJECT_BUFFER_SIZE,
+                new CountingSerialization());
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        RecordingExecutor evaluationExecutor = new RecordingExecutor();
+        ServerWorker serverWorker = new ServerWorker(serverConfig, workerListener, kryoServer,
+                scheduler, evaluationExecutor, new MetricsRegistry());
+        List<RecordingConnection> connections = new ArrayList<>(NO_OF_STRESS_CLIENTS);
+        for(int i = 0; i < NO_OF_STRESS_CLIENTS; i++) connections.add(new RecordingConnection(i));
+        try {
+            assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+                serverWorker.start();
+                for(RecordingConnection c : connections){
+                    serverWorker.received(c, new Register(AUCTION_ID, c.getID() + 1));
+                }
+                for(RecordingConnection c : connections){
+                    serverWorker.received(c, new ResponseConnectionData(AUCTION_ID, 5000 + c.getID()));
+                }
+                for(RecordingConnection c : connections){
+                    serverWorker.received(c, new AuctionReady(AUCTION_ID));
+                }
+                for(RecordingConnection c : connections){
+                    serverWorker.received(c, new ResponseAuctionStart(AUCTION_ID));
+                }
+            });
+            assertEquals(NO_OF_STRESS_CLIENTS, serverWorker.getMetrics().getRegisteredClients());
+            Set<Integer> partyIds = new HashSet<>();
+            for(RecordingConnection c : connections){
+                assertFalse(c.closed);
+                assertEquals(3, c.received.size());
+                assertTrue(c.received.get(0) instanceof RequestConnectionData);
+                assertTrue(c.received.get(1) instanceof AuctionConfiguration);
+                assertTrue(c.received.get(2) instanceof RequestAuctionStart);
+                AuctionConfiguration config = (AuctionConfiguration) c.received.get(1);
+                assertEquals(NO_OF_STRESS_CLIENTS + 1, config.parties.length);
+                partyIds.add(config.partyId);
+            }
+            // every client got its own party id (party id 1 is the server-worker)
+            assertEquals(NO_OF_STRESS_CLIENTS, partyIds.size());
+            assertFalse(partyIds.contains(1));
+            assertEquals(1, evaluationExecutor.submitted.size());
+        } finally {
+            scheduler.shutdownNow();
+            evaluationExecutor.shutdownNow();
+            kryoServer.close();
+        }
+    }
+
+    /**
+     * Tests, if a server-worker ignores an invalid fresco port, which is announced with {@link Register}, and
+     * requests the port again, and if it closes the connection of a client, which responds with an invalid port.
+     * @param port invalid fresco port.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 0x10000})
+    public void testServerWorkerRejectsInvalidFrescoPort(int port) {
+        ServerConfiguration serverConfig = new ServerConfiguration(
+                AUCTION_ID, 1, Utils.AuctionType.SealedFirstPrice,
+                600, 600, SERVER_IP, SERVER_PORT, FRESCO_PORT,
+                600, 600, Utils.ProtocolSuite.DummyArithmetic, Utils.Preprocessing.Dummy,
+                2, 2);
+        Server kryoServer = new Server(CountingSerialization.WRITE_BUFFER_SIZE, CountingSerialization.OBJECT_BUFFER_SIZE,
+                new CountingSerialization());
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        ExecutorService evaluationExecutor = Executors.newSingleThreadExecutor();
+        ServerWorker serverWorker = new ServerWorker(serverConfig, workerListener, kryoServer,
+                scheduler, evaluationExecutor, new MetricsRegistry());
+        RecordingConnection invalid = new RecordingConnection(0);
+        RecordingConnection valid = new RecordingConnection(1);
+        try {
+            serverWorker.start();
+            serverWorker.received(invalid, new Register(AUCTION_ID, 1, port));
+            serverWorker.received(valid, new Register(AUCTION_ID, 2, 5001));
+            assertEquals(1, invalid.received.size());
+            assertTrue(invalid.received.get(0) instanceof RequestConnectionData);
+            assertTrue(valid.received.isEmpty());
+            serverWorker.received(invalid, new ResponseConnectionData(AUCTION_ID, port));
+            assertTrue(invalid.closed);
+            assertFalse(valid.closed);
+        } finally {
+            scheduler.shutdownNow();
+            evaluationExecutor.shutdownNow();
+            kryoServer.close();
+        }
+    }
+
+    /**
+     * Executor, which records the submitted tasks without running them.
+     */
+    private static class RecordingExecutor extends AbstractExecutorService {
+        private final List<Runnable> submitted = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            if(shutdown) throw new RejectedExecutionException("Executor is shut down.");
+            submitted.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return new ArrayList<>(submitted);
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return shutdown;
+        }
+    }
+
+    /**
+     * Connection, which is not connected to a remote host and records the messages, which are sent to it.
+     */
+    private static class RecordingConnection extends Connection {
+        private final int connectionId;
+        private final List<Object> received = new ArrayList<>();
+        private boolean closed;
+
+        private RecordingConnection(int connectionId) {
+            this.connectionId = connectionId;
+        }
+
+        @Override
+        public int getID() {
+            return connectionId;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddressTCP() {
+            return new InetSocketAddress("127.0.0.1", 0);
+        }
+
+        @Override
+        public int sendTCP(Object object) {
+            received.add(object);
+            return 0;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
 }
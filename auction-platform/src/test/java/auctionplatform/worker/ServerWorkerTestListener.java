@@ -4,12 +4,26 @@ import frescoauction.auction.Auction;
 
 /**
  * A mocked worker listener, which is used for testing {@link ServerWorker}.
- * The listener safes the result or the error message, in case one occurs.
+ * The listener safes the result or the error message, in case one occurs. If a server-worker is observed,
+ * the listener also records, if it was called while the lock of the server-worker was held.
  */
 public class ServerWorkerTestListener implements WorkerListener{
     private int clientId;
     private Auction.AuctionResult result;
     private String errorMessage;
+    private ServerWorker observedWorker;
+    private volatile boolean calledWithLock;
+
+    /**
+     * @param worker server-worker, whose lock should be checked, when the listener is called.
+     */
+    protected void observe(ServerWorker worker){
+        this.observedWorker = worker;
+    }
+
+    protected boolean calledWithLock(){
+        return calledWithLock;
+    }
 
     protected Auction.AuctionResult getAuctionResult(){
         return result;
@@ -31,12 +45,18 @@ public class ServerWorkerTestListener implements WorkerListener{
 
     @Override
     public void onCompletion(Auction.AuctionResult result, int clientId) {
+        checkLock();
         this.result = result;
         this.clientId = clientId;
     }
 
     @Override
     public void onError(String errorMessage) {
+        checkLock();
         this.errorMessage = errorMessage;
     }
+
+    private void checkLock(){
+        if(observedWorker != null && Thread.holdsLock(observedWorker)) calledWithLock = true;
+    }
 }
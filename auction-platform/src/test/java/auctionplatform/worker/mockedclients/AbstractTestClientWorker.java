@@ -17,9 +17,13 @@ import java.util.concurrent.Executors;
  * A {@link Register} is send after the initialization.
  */
 public abstract class AbstractTestClientWorker extends Listener implements Runnable{
+    /** Id of the auction, which should be joined (is used for routing, if the auction is hosted by an AuctionHost).*/
+    protected int auctionId;
     private int clientId;
     private String hostIp;
     private int hostPort;
+    /** Fresco port, which is announced with the {@link Register} message (-1, if not announced).*/
+    protected int announcedFrescoPort = -1;
     /** Kryo-client, which receives messages from the server-worker (his kryo-server).*/
     private Client kryoClient;
     /** Single use signal for notifying the running thread to shutdown.*/
@@ -31,6 +35,11 @@ public abstract class AbstractTestClientWorker extends Listener implements Runna
         this.hostPort = hostPort;
     }
 
+    public AbstractTestClientWorker(int auctionId, int clientId, String hostIp, int hostPort) {
+        this(clientId, hostIp, hostPort);
+        this.auctionId = auctionId;
+    }
+
     @Override
     public void disconnected(Connection connection) {
         signal.countDown();
@@ -45,7 +54,7 @@ public abstract class AbstractTestClientWorker extends Listener implements Runna
             NetworkHelper.register(kryoClient);
             kryoClient.connect(5000, hostIp, hostPort);
             kryoClient.addListener(new ThreadedListener(this, es));
-            kryoClient.sendTCP(new Register(clientId));
+            kryoClient.sendTCP(new Register(auctionId, clientId, announcedFrescoPort));
             // blocks until the signal is triggered
             signal.await();
         } catch (InterruptedException | IOException e) {
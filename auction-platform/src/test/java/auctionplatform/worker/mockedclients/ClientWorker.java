@@ -1,15 +1,11 @@
 package auctionplatform.worker.mockedclients;
 
 import com.esotericsoftware.kryonet.Connection;
-import dk.alexandra.fresco.framework.Party;
 import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
-import dk.alexandra.fresco.framework.configuration.NetworkConfigurationImpl;
 import frescoauction.auction.Auction;
 import auctionplatform.protocol.*;
 import frescoauction.util.AuctionEvaluation;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.concurrent.*;
 
 /**
@@ -21,6 +17,7 @@ public class ClientWorker extends AbstractTestClientWorker {
     private AuctionConfiguration configuration;
     private NetworkConfiguration networkConfiguration;
     private Auction.AuctionResult result;
+    private volatile boolean connectionDataRequested = false;
 
     public ClientWorker(int clientId, String hostIp, int hostPort, int bid, int frescoPort) {
         super(clientId, hostIp, hostPort);
@@ -28,24 +25,30 @@ public class ClientWorker extends AbstractTestClientWorker {
         this.frescoPort = frescoPort;
     }
 
+    public ClientWorker(int auctionId, int clientId, String hostIp, int hostPort, int bid, int frescoPort) {
+        super(auctionId, clientId, hostIp, hostPort);
+        this.bid = bid;
+        this.frescoPort = frescoPort;
+    }
+
     @Override
     public void received(Connection connection, Object object) {
         if(object instanceof RequestConnectionData){
-            connection.sendTCP(new ResponseConnectionData(frescoPort));
+            connectionDataRequested = true;
+            connection.sendTCP(new ResponseConnectionData(auctionId, frescoPort));
         }else if(object instanceof AuctionConfiguration){
             AuctionConfiguration config = (AuctionConfiguration) object;
             setUpParties(config);
-            connection.sendTCP(new AuctionReady());
+            connection.sendTCP(new AuctionReady(auctionId));
         }else if(object instanceof RequestAuctionStart){
-            connection.sendTCP(new ResponseAuctionStart());
             ExecutorService es = Executors.newSingleThreadExecutor();
             AuctionEvaluation task = new AuctionEvaluation(
-                    configuration.auctionType, bid,
-                    configuration.protocolSuite, configuration.preprocessing, networkConfiguration);
+                    configuration.auctionType, configuration.capBid(bid),
+                    configuration.protocolSuite, configuration.preprocessing,
+                    configuration.getEvaluationParameters(), networkConfiguration);
             Future<Auction.AuctionResult> futureResult = es.submit(task);
             try {
-                TimeUnit.SECONDS.sleep(1);
-                connection.sendTCP(new ResponseAuctionStart());
+                connection.sendTCP(new ResponseAuctionStart(auctionId));
                 result = futureResult.get();
             } catch (InterruptedException | ExecutionException e) {
                 e.printStackTrace();
@@ -58,16 +61,24 @@ public class ClientWorker extends AbstractTestClientWorker {
 
     private void setUpParties(AuctionConfiguration config){
         configuration = config;
-        Map<Integer, Party> parties = new HashMap<>();
-        for(String string : config.connectionData){
-            String[] data = string.split(":");
-            int id = Integer.parseInt(data[0]);
-            String ip = data[1];
-            int port = Integer.parseInt(data[2]);
-            Party party = new Party(id, ip, port);
-            parties.put(id, party);
-        }
-        networkConfiguration = new NetworkConfigurationImpl(config.partyId, parties);
+        networkConfiguration = config.getNetworkConfiguration();
+    }
+
+    /**
+     * Announces the fresco port with the registration, so that the connection data is not requested.
+     * @return this client-worker.
+     */
+    public ClientWorker announceFrescoPort(){
+        announcedFrescoPort = frescoPort;
+        return this;
+    }
+
+    public boolean isConnectionDataRequested(){
+        return connectionDataRequested;
+    }
+
+    public AuctionConfiguration getConfiguration(){
+        return configuration;
     }
 
     public Auction.AuctionResult getResult(){
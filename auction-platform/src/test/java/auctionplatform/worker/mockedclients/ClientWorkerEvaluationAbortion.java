@@ -1,13 +1,9 @@
 package auctionplatform.worker.mockedclients;
 
 import com.esotericsoftware.kryonet.Connection;
-import dk.alexandra.fresco.framework.Party;
 import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
-import dk.alexandra.fresco.framework.configuration.NetworkConfigurationImpl;
 import auctionplatform.protocol.*;
 
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Client-worker, which follows the protocol to the phase, where smpc should be started. After receiving {@link RequestAuctionStart},
@@ -38,15 +34,6 @@ public class ClientWorkerEvaluationAbortion extends AbstractTestClientWorker {
 
     private void setUpParties(AuctionConfiguration config){
         configuration = config;
-        Map<Integer, Party> parties = new HashMap<>();
-        for(String string : config.connectionData){
-            String[] data = string.split(":");
-            int id = Integer.parseInt(data[0]);
-            String ip = data[1];
-            int port = Integer.parseInt(data[2]);
-            Party party = new Party(id, ip, port);
-            parties.put(id, party);
-        }
-        networkConfiguration = new NetworkConfigurationImpl(config.partyId, parties);
+        networkConfiguration = config.getNetworkConfiguration();
     }
 }
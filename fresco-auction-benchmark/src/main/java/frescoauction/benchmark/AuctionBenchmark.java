@@ -0,0 +1,119 @@
+package frescoauction.benchmark;
+
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import frescoauction.auction.Auction;
+import frescoauction.auction.AuctionFactory;
+import frescoauction.configuration.ProtocolConfiguration;
+import frescoauction.configuration.dummy.DummyArithmeticConfiguration;
+import frescoauction.configuration.network.InMemoryNetworkHub;
+import frescoauction.configuration.network.InstrumentedNetwork;
+import frescoauction.configuration.network.NetworkFactory;
+import frescoauction.configuration.network.NetworkStatistics;
+import frescoauction.configuration.spdz.SpdzConfiguration;
+import frescoauction.util.Utils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmarks the auction evaluation with N parties, which run in the same process.
+ * The latency of a whole evaluation is measured by JMH. The bytes sent and the communication rounds per party
+ * are recorded by {@link InstrumentedNetwork} and printed at the end of every trial.<br>
+ * The network and the protocol suite are set up once per trial, so the connection set up is not measured.
+ * {@link Utils.ProtocolSuite#Spdz} uses {@link Utils.Preprocessing#Dummy} (no offline phase).
+ * The parties communicate either over sockets or over an {@link InMemoryNetworkHub}.
+ * <pre>{@code
+ * // usage example (in the project directory)
+ * gradlew jmh -PjmhArgs="AuctionBenchmark -p protocolSuite=DummyArithmetic -p noOfParties=2,10"
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AuctionBenchmark {
+    /** Max bit length, which is used by the suites (same as in the auction evaluation).*/
+    private static final int BIT_LENGTH = 31;
+    /** Next free port (every trial uses new ports, so that closed sockets of previous trials do not interfere).*/
+    private static final AtomicInteger NEXT_PORT = new AtomicInteger(20000);
+
+    @Param({"DummyArithmetic", "Spdz"})
+    public Utils.ProtocolSuite protocolSuite;
+
+    @Param({"SealedFirstPrice", "SealedSecondPrice", "CalcSum"})
+    public Utils.AuctionType auctionType;
+
+    @Param({"2", "5", "10", "25", "50", "100"})
+    public int noOfParties;
+
+    /** Network, which is used by the parties ("Socket" or "InMemory").*/
+    @Param({"Socket", "InMemory"})
+    public String network;
+
+    private LocalParties parties;
+    /** Number of evaluations in the current trial.*/
+    private long runs;
+    /** Sum of the bytes sent by all parties in the current trial.*/
+    private long bytesSent;
+    /** Sum of the maximum rounds of a party per evaluation in the current trial.*/
+    private long rounds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ExecutionException, InterruptedException {
+        NetworkFactory networkFactory = network.equals("InMemory")
+                ? new InMemoryNetworkHub(noOfParties)
+                : NetworkFactory.SOCKET;
+        ProtocolConfiguration config;
+        if(protocolSuite == Utils.ProtocolSuite.Spdz){
+            config = SpdzConfiguration.builder()
+                    .preprocessingStrategy(Utils.Preprocessing.Dummy)
+                    .maxBitLength(BIT_LENGTH)
+                    .networkFactory(networkFactory)
+                    .build();
+        }else{
+            config = DummyArithmeticConfiguration.builder()
+                    .maxBitLength(BIT_LENGTH)
+                    .networkFactory(networkFactory)
+                    .build();
+        }
+        parties = new LocalParties(config, noOfParties, NEXT_PORT.getAndAdd(noOfParties));
+        runs = 0;
+        bytesSent = 0;
+        rounds = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        parties.close();
+        if(runs > 0){
+            System.out.println(String.format("%n[%s, %s, %d parties, %s] bytes sent per party: %d, rounds: %d (average of %d runs)",
+                    protocolSuite, auctionType, noOfParties, network,
+                    bytesSent / (runs * noOfParties), rounds / runs, runs));
+        }
+    }
+
+    /**
+     * Evaluates the auction on all parties. Every party bids a different value.
+     * @return results of all parties.
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    @Benchmark
+    public List<Auction.AuctionResult> evaluateAuction() throws ExecutionException, InterruptedException {
+        List<Auction.AuctionResult> results = parties.run((NetworkConfiguration networkConfig) ->
+                AuctionFactory.getAuction(auctionType, 3 * networkConfig.getMyId() + 1, networkConfig));
+        long maxRounds = 0;
+        for(NetworkStatistics statistics : parties.getLastStatistics()){
+            bytesSent += statistics.getTotalBytesSent();
+            maxRounds = Math.max(maxRounds, statistics.getRounds());
+        }
+        rounds += maxRounds;
+        runs++;
+        return results;
+    }
+}
@@ -0,0 +1,133 @@
+package frescoauction.benchmark;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.Party;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.configuration.NetworkConfigurationImpl;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import frescoauction.configuration.ProtocolAssembler;
+import frescoauction.configuration.ProtocolAssemblerFactory;
+import frescoauction.configuration.ProtocolConfiguration;
+import frescoauction.configuration.network.InstrumentedNetwork;
+import frescoauction.configuration.network.NetworkStatistics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * A set of parties, which run in the same process and communicate over loopback. The components of all
+ * parties are assembled once, so that several applications can be run without setting up the network again.
+ * The traffic of every party is recorded by the {@link InstrumentedNetwork} of its assembler.
+ */
+public class LocalParties implements Closeable {
+    /** Timeout of a single application run.*/
+    private static final Duration TIMEOUT = Duration.ofMinutes(10);
+
+    /** Assemblers of the parties (index = party id - 1).*/
+    private final List<ProtocolAssembler<ResourcePool, ProtocolBuilderNumeric>> assemblers = new ArrayList<>();
+    /** Networks of the parties (index = party id - 1).*/
+    private final List<InstrumentedNetwork> networks = new ArrayList<>();
+    /** Network statistics of the last run (index = party id - 1).*/
+    private final List<NetworkStatistics> lastStatistics = new ArrayList<>();
+    /** Network configurations of the parties (index = party id - 1).*/
+    private final List<NetworkConfiguration> networkConfigurations = new ArrayList<>();
+    /** Execution service, which runs one thread per party.*/
+    private final ExecutorService executorService;
+
+    /**
+     * Sets up and assembles all parties.
+     * @param protocolConfig protocol suite configuration, which is used by all parties.
+     * @param noOfParties number of parties (should not be lower than 2).
+     * @param firstPort port of the first party (the following parties use the next ports).
+     * @throws ExecutionException is thrown if a party cannot be assembled.
+     * @throws InterruptedException
+     */
+    public LocalParties(ProtocolConfiguration protocolConfig, int noOfParties, int firstPort)
+            throws ExecutionException, InterruptedException {
+        executorService = Executors.newFixedThreadPool(noOfParties);
+        Map<Integer, Party> parties = new HashMap<>();
+        for(int partyId = 1; partyId <= noOfParties; partyId++){
+            parties.put(partyId, new Party(partyId, "localhost", firstPort + partyId - 1));
+        }
+        List<Future<ProtocolAssembler<ResourcePool, ProtocolBuilderNumeric>>> fAssemblers = new ArrayList<>();
+        for(int partyId = 1; partyId <= noOfParties; partyId++){
+            NetworkConfiguration networkConfig = new NetworkConfigurationImpl(partyId, parties);
+            networkConfigurations.add(networkConfig);
+            // the networks of all parties connect to each other, so they have to be assembled concurrently
+            fAssemblers.add(executorService.submit(() -> {
+                ProtocolAssembler<ResourcePool, ProtocolBuilderNumeric> assembler =
+                        ProtocolAssemblerFactory.getAssembler(protocolConfig, networkConfig);
+                assembler.assemble();
+                return assembler;
+            }));
+        }
+        for(Future<ProtocolAssembler<ResourcePool, ProtocolBuilderNumeric>> fAssembler : fAssemblers){
+            ProtocolAssembler<ResourcePool, ProtocolBuilderNumeric> assembler = fAssembler.get();
+            assemblers.add(assembler);
+            networks.add((InstrumentedNetwork) assembler.getNetwork());
+        }
+    }
+
+    /**
+     * Runs the application on all parties concurrently and blocks until all parties have finished.
+     * The network statistics of the run can be read afterwards by {@link #getLastStatistics()}.
+     * @param applicationFactory creates the application of a party from its network configuration.
+     * @param <OutputT> output type of the application.
+     * @return outputs of all parties (index = party id - 1).
+     * @throws ExecutionException is thrown if the computation of a party fails.
+     * @throws InterruptedException
+     */
+    public <OutputT> List<OutputT> run(
+            Function<NetworkConfiguration, Application<OutputT, ProtocolBuilderNumeric>> applicationFactory)
+            throws ExecutionException, InterruptedException {
+        List<Future<OutputT>> fOutputs = new ArrayList<>();
+        List<NetworkStatistics> before = new ArrayList<>();
+        for(InstrumentedNetwork network : networks) before.add(network.getStatistics());
+        for(int i = 0; i < assemblers.size(); i++){
+            ProtocolAssembler<ResourcePool, ProtocolBuilderNumeric> assembler = assemblers.get(i);
+            InstrumentedNetwork network = networks.get(i);
+            Application<OutputT, ProtocolBuilderNumeric> application =
+                    applicationFactory.apply(networkConfigurations.get(i));
+            fOutputs.add(executorService.submit(() -> assembler.getSecureComputationEngine()
+                    .runApplication(application, assembler.getResourcePool(), network, TIMEOUT)));
+        }
+        List<OutputT> outputs = new ArrayList<>();
+        for(Future<OutputT> fOutput : fOutputs) outputs.add(fOutput.get());
+        lastStatistics.clear();
+        for(int i = 0; i < networks.size(); i++){
+            lastStatistics.add(networks.get(i).getStatistics().minus(before.get(i)));
+        }
+        return outputs;
+    }
+
+    /**
+     * @return network statistics of all parties of the last run (index = party id - 1).
+     */
+    public List<NetworkStatistics> getLastStatistics() {
+        return lastStatistics;
+    }
+
+    /**
+     * Shuts down the secure computation engines and closes the networks of all parties.
+     */
+    @Override
+    public void close() {
+        for(int i = 0; i < assemblers.size(); i++){
+            assemblers.get(i).getSecureComputationEngine().shutdownSCE();
+            try {
+                networks.get(i).close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        executorService.shutdownNow();
+    }
+}
@@ -0,0 +1,184 @@
+package frescoauction.benchmark;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.value.SInt;
+import frescoauction.auction.Auction;
+import frescoauction.auction.AuctionFactory;
+import frescoauction.auction.SortingNetwork;
+import frescoauction.configuration.ProtocolConfiguration;
+import frescoauction.configuration.dummy.DummyArithmeticConfiguration;
+import frescoauction.configuration.network.InMemoryNetworkHub;
+import frescoauction.configuration.network.NetworkStatistics;
+import frescoauction.configuration.spdz.SpdzConfiguration;
+import frescoauction.util.Utils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the oblivious sorting networks of {@link SortingNetwork} against the linear scans of the auctions.
+ * Every party inputs a bid with its party id as payload and all parties learn the highest bidder:
+ * <ul>
+ *     <li>MaxScan: {@link frescoauction.auction.SealedFirstPriceAuction} (highest bid and bidder)</li>
+ *     <li>SecondPriceScan: {@link frescoauction.auction.SealedSecondPriceAuction} (highest bidder and second highest bid)</li>
+ *     <li>SelectHighest: {@link SortingNetwork#selectHighest} of the 2 highest bids</li>
+ *     <li>Sort: {@link SortingNetwork#sort} of all bids (full ranking)</li>
+ * </ul>
+ * The parties run in the same process and communicate over an {@link InMemoryNetworkHub}. The bytes sent and the
+ * communication rounds per party are printed at the end of every trial.
+ * <pre>{@code
+ * // usage example (in the project directory)
+ * gradlew jmh -PjmhArgs="SortingBenchmark -p protocolSuite=DummyArithmetic -p noOfParties=5,10"
+ * }</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class SortingBenchmark {
+    /** Max bit length, which is used by the suites (same as in the auction evaluation).*/
+    private static final int BIT_LENGTH = 31;
+
+    @Param({"DummyArithmetic", "Spdz"})
+    public Utils.ProtocolSuite protocolSuite;
+
+    /** Algorithm ("MaxScan", "SecondPriceScan", "SelectHighest" or "Sort").*/
+    @Param({"MaxScan", "SecondPriceScan", "SelectHighest", "Sort"})
+    public String algorithm;
+
+    @Param({"2", "5", "10", "25", "50"})
+    public int noOfParties;
+
+    private LocalParties parties;
+    /** Number of evaluations in the current trial.*/
+    private long runs;
+    /** Sum of the bytes sent by all parties in the current trial.*/
+    private long bytesSent;
+    /** Sum of the maximum rounds of a party per evaluation in the current trial.*/
+    private long rounds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ExecutionException, InterruptedException {
+        InMemoryNetworkHub hub = new InMemoryNetworkHub(noOfParties);
+        ProtocolConfiguration config;
+        if(protocolSuite == Utils.ProtocolSuite.Spdz){
+            config = SpdzConfiguration.builder()
+                    .preprocessingStrategy(Utils.Preprocessing.Dummy)
+                    .maxBitLength(BIT_LENGTH)
+                    .networkFactory(hub)
+                    .build();
+        }else{
+            config = DummyArithmeticConfiguration.builder()
+                    .maxBitLength(BIT_LENGTH)
+                    .networkFactory(hub)
+                    .build();
+        }
+        // the ports are not used by the in-memory network
+        parties = new LocalParties(config, noOfParties, 0);
+        runs = 0;
+        bytesSent = 0;
+        rounds = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        parties.close();
+        if(runs > 0){
+            System.out.println(String.format("%n[%s, %s, %d parties] bytes sent per party: %d, rounds: %d (average of %d runs)",
+                    protocolSuite, algorithm, noOfParties,
+                    bytesSent / (runs * noOfParties), rounds / runs, runs));
+        }
+    }
+
+    /**
+     * Evaluates the algorithm on all parties. Every party bids a different value.
+     * @return party id of the highest bidder (opened by all parties).
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    @Benchmark
+    public List<Integer> evaluate() throws ExecutionException, InterruptedException {
+        List<Integer> results;
+        switch (algorithm){
+            case "MaxScan":
+                results = parties.run((NetworkConfiguration networkConfig) -> highestBidder(
+                        AuctionFactory.getAuction(Utils.AuctionType.SealedFirstPrice, getBid(networkConfig), networkConfig)));
+                break;
+            case "SecondPriceScan":
+                results = parties.run((NetworkConfiguration networkConfig) -> highestBidder(
+                        AuctionFactory.getAuction(Utils.AuctionType.SealedSecondPrice, getBid(networkConfig), networkConfig)));
+                break;
+            default:
+                results = parties.run((NetworkConfiguration networkConfig) -> new SortingApplication(
+                        algorithm.equals("Sort") ? 0 : 2, getBid(networkConfig), networkConfig));
+        }
+        long maxRounds = 0;
+        for(NetworkStatistics statistics : parties.getLastStatistics()){
+            bytesSent += statistics.getTotalBytesSent();
+            maxRounds = Math.max(maxRounds, statistics.getRounds());
+        }
+        rounds += maxRounds;
+        runs++;
+        return results;
+    }
+
+    /**
+     * @param networkConfig network configuration of the party.
+     * @return bid of the party (the bids are not ordered by the party ids).
+     */
+    private static int getBid(NetworkConfiguration networkConfig){
+        return (7 * networkConfig.getMyId()) % 101 + 1;
+    }
+
+    /**
+     * @param auction auction.
+     * @return application, which outputs the winner of the auction.
+     */
+    private static Application<Integer, ProtocolBuilderNumeric> highestBidder(
+            Application<Auction.AuctionResult, ProtocolBuilderNumeric> auction){
+        return builder -> builder.seq(auction).seq((seq, result) -> result::getWinnerId);
+    }
+
+    /**
+     * Inputs a bid with the party id as payload, sorts (or selects) the entries and opens the highest bidder.
+     */
+    private static class SortingApplication implements Application<Integer, ProtocolBuilderNumeric> {
+        /** Number of entries, which are selected (0 sorts all entries).*/
+        private final int count;
+        private final int bid;
+        private final NetworkConfiguration networkConfiguration;
+
+        private SortingApplication(int count, int bid, NetworkConfiguration networkConfiguration) {
+            this.count = count;
+            this.bid = bid;
+            this.networkConfiguration = networkConfiguration;
+        }
+
+        @Override
+        public DRes<Integer> buildComputation(ProtocolBuilderNumeric builder) {
+            return builder.seq(seq -> {
+                Numeric numeric = seq.numeric();
+                List<SortingNetwork.Entry> entries = new ArrayList<>(networkConfiguration.noOfParties());
+                for(int otherId = 1; otherId <= networkConfiguration.noOfParties(); otherId++){
+                    boolean isMe = otherId == networkConfiguration.getMyId();
+                    DRes<SInt> key = numeric.input(isMe ? BigInteger.valueOf(bid) : null, otherId);
+                    DRes<SInt> payload = numeric.input(isMe ? BigInteger.valueOf(otherId) : null, otherId);
+                    entries.add(new SortingNetwork.Entry(key, payload));
+                }
+                return count == 0 ? SortingNetwork.sort(seq, entries)
+                        : SortingNetwork.selectHighest(seq, entries, Math.min(count, entries.size()));
+            }).seq((seq, sorted) -> seq.numeric().open(sorted.get(0).getPayload()))
+                    .seq((seq, winnerId) -> winnerId::intValue);
+        }
+    }
+}
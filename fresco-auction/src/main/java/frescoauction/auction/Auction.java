@@ -4,7 +4,9 @@ import dk.alexandra.fresco.framework.Application;
 import dk.alexandra.fresco.framework.builder.ProtocolBuilder;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import frescoauction.configuration.network.NetworkStatistics;
 import lombok.Getter;
+import lombok.Setter;
 
 /**
  * A fresco application for running secure auctions.
@@ -37,6 +39,8 @@ public abstract class Auction implements Application<Auction.AuctionResult, Prot
         @Getter private final int winnerId;
         /** Final price, which the highest bidder has to pay.*/
         @Getter private final int finalPrice;
+        /** Network statistics of the party, which computed this result (null, if not recorded).*/
+        @Getter @Setter private NetworkStatistics networkStatistics;
 
         /**
          * @param winnerId partyId of the highest bidder.
@@ -5,6 +5,8 @@ import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
 import frescoauction.util.Utils;
 
+import java.util.List;
+
 /**
  * Contains helper methods for constructing auctions.
  */
@@ -33,4 +35,28 @@ public class AuctionFactory {
         return auction;
     }
 
+    /**
+     * Constructs a fresco application, which evaluates one auction per item within a single computation.
+     * @param auctionType auction type, which should be used for each item
+     *                    ({@link Utils.AuctionType#SealedFirstPrice} or {@link Utils.AuctionType#SealedSecondPrice}).
+     * @param noOfItems number of items, which was agreed on by all parties.
+     * @param bids secret bids, one per item (no bid should be lower than 1).
+     * @param networkConfiguration network configuration (number of parties should not be lower than 2).
+     * @return a new instance of the fresco application.
+     */
+    public static Application<List<Auction.AuctionResult>, ProtocolBuilderNumeric> getMultiItemAuction(Utils.AuctionType auctionType, int noOfItems, int[] bids, NetworkConfiguration networkConfiguration){
+        return new MultiItemAuction(auctionType, noOfItems, bids, networkConfiguration);
+    }
+
+    /**
+     * Constructs a fresco application of the k-unit uniform price auction, which determines all winners
+     * and the uniform price within a single computation.
+     * @param units number of units, which are sold (should not be lower than 1).
+     * @param bid secret bid (should not be lower than 1).
+     * @param networkConfiguration network configuration (number of parties should exceed the number of units).
+     * @return a new instance of the fresco application.
+     */
+    public static Application<List<Auction.AuctionResult>, ProtocolBuilderNumeric> getUniformPriceAuction(int units, int bid, NetworkConfiguration networkConfiguration){
+        return new UniformPriceAuction(units, bid, networkConfiguration);
+    }
 }
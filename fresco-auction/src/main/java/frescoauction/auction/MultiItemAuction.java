@@ -0,0 +1,105 @@
+package frescoauction.auction;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import frescoauction.util.Utils;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A fresco application, which evaluates several auctions (one per item) with the same set of bidders
+ * within a single computation. Every party provides one secret bid per item. The auctions of all items
+ * are evaluated in parallel, so that the number of network rounds equals the number of rounds of a single auction.
+ * All items are auctioned with the same auction type ({@link Utils.AuctionType#SealedFirstPrice}
+ * or {@link Utils.AuctionType#SealedSecondPrice}). The results are returned in the order of the items.
+ */
+public class MultiItemAuction implements Application<List<Auction.AuctionResult>, ProtocolBuilderNumeric> {
+    /** Auction type, which is used for each item.*/
+    private final Utils.AuctionType auctionType;
+    /** Secret bids provided by the user (one per item).*/
+    private final int[] secretBids;
+    /** Network configuration used by the fresco application. */
+    private final NetworkConfiguration networkConfiguration;
+
+    /**
+     * @param auctionType auction type, which should be used for each item
+     *                    ({@link Utils.AuctionType#SealedFirstPrice} or {@link Utils.AuctionType#SealedSecondPrice}).
+     * @param noOfItems number of items, which was agreed on by all parties (determines the shape of the circuit).
+     * @param secretBids secret bids, one per item (no bid should be lower than 1).
+     * @param networkConfiguration network configuration (number of parties should not be lower than 2).
+     * @throws IllegalArgumentException is thrown if the auction type is not supported, there is no item,
+     * the number of bids differs from the number of items, a bid is lower than 1 or number of parties is lower than 2.
+     */
+    public MultiItemAuction(Utils.AuctionType auctionType, int noOfItems, int[] secretBids,
+                            NetworkConfiguration networkConfiguration) throws IllegalArgumentException {
+        if(auctionType != Utils.AuctionType.SealedFirstPrice && auctionType != Utils.AuctionType.SealedSecondPrice)
+            throw new IllegalArgumentException("Unsupported auction type: " + auctionType);
+        if(noOfItems < 1) throw new IllegalArgumentException("There must be at least 1 item.");
+        // a party with another number of bids would build a circuit of another shape than the other parties
+        if(secretBids.length != noOfItems)
+            throw new IllegalArgumentException(String.format("Expected %d bids, but got %d.", noOfItems, secretBids.length));
+        for(int secretBid : secretBids){
+            if(secretBid < 1) throw new IllegalArgumentException("Bid cannot be lower than 1.");
+        }
+        if(networkConfiguration.noOfParties() < 2) throw new IllegalArgumentException("There must be at least 2 parties.");
+        this.auctionType = auctionType;
+        this.secretBids = secretBids.clone();
+        this.networkConfiguration = networkConfiguration;
+    }
+
+    @Override
+    public DRes<List<Auction.AuctionResult>> buildComputation(ProtocolBuilderNumeric builder) {
+        int noOfItems = secretBids.length;
+        return builder.seq(seq -> {
+            Numeric numeric = seq.numeric();
+            List<List<Pair<DRes<SInt>, DRes<SInt>>>> closedInputs = new ArrayList<>(noOfItems);
+            for(int item = 0; item < noOfItems; item++){
+                closedInputs.add(new ArrayList<>(networkConfiguration.noOfParties()));
+            }
+            // close inputs and gather inputs of other parties (the party id is shared by all items)
+            for(int otherId = 1; otherId <= networkConfiguration.noOfParties(); otherId++){
+                boolean isMe = otherId == networkConfiguration.getMyId();
+                DRes<SInt> partyId = numeric.input(isMe ? BigInteger.valueOf(otherId) : null, otherId);
+                for(int item = 0; item < noOfItems; item++){
+                    DRes<SInt> secretBid = numeric.input(isMe ? BigInteger.valueOf(secretBids[item]) : null, otherId);
+                    closedInputs.get(item).add(new Pair<>(partyId, secretBid));
+                }
+            }
+            return () -> closedInputs;
+        }).par((par, inputs) -> {
+            // evaluate the auctions of all items in parallel
+            List<DRes<Pair<DRes<SInt>, DRes<SInt>>>> results = new ArrayList<>(noOfItems);
+            for(List<Pair<DRes<SInt>, DRes<SInt>>> bidders : inputs){
+                if(auctionType == Utils.AuctionType.SealedFirstPrice){
+                    results.add(par.seq(seq -> SealedFirstPriceAuction.findHighestBid(seq, bidders)));
+                }else{
+                    results.add(par.seq(seq -> SealedSecondPriceAuction.findHighestBidderAndSecondHighestBid(seq, bidders)));
+                }
+            }
+            return () -> results;
+        }).par((par, results) -> {
+            Numeric numeric = par.numeric();
+            // open results of all items for all parties
+            List<Pair<DRes<BigInteger>, DRes<BigInteger>>> openedResults = new ArrayList<>(noOfItems);
+            for(DRes<Pair<DRes<SInt>, DRes<SInt>>> result : results){
+                Pair<DRes<SInt>, DRes<SInt>> resultPair = result.out();
+                openedResults.add(new Pair<>(numeric.open(resultPair.getFirst()), numeric.open(resultPair.getSecond())));
+            }
+            return () -> openedResults;
+        }).seq((seq, openedResults) -> {
+            List<Auction.AuctionResult> auctionResults = new ArrayList<>(noOfItems);
+            for(Pair<DRes<BigInteger>, DRes<BigInteger>> openedResultPair : openedResults){
+                auctionResults.add(new Auction.AuctionResult(openedResultPair.getFirst().out().intValue(),
+                        openedResultPair.getSecond().out().intValue()));
+            }
+            return () -> auctionResults;
+        });
+    }
+}
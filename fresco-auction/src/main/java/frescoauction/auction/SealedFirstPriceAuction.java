@@ -2,7 +2,6 @@ package frescoauction.auction;
 
 import dk.alexandra.fresco.framework.DRes;
 import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric;
-import dk.alexandra.fresco.framework.builder.numeric.Comparison;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
 import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
@@ -47,22 +46,8 @@ public class SealedFirstPriceAuction extends Auction{
             }
             return () -> closedInputs;
         }).seq((seq, inputs) -> {
-            AdvancedNumeric advancedNumeric = seq.advancedNumeric();
-            Comparison comparison = seq.comparison();
-            // party id of the highest bidder
-            DRes<SInt> highBidderId = inputs.get(0).getFirst();
-            // highest bid
-            DRes<SInt> highBid = inputs.get(0).getSecond();
             // find highest bid and the party id of the corresponding bidder
-            for (int i = 1; i < inputs.size(); i++) {
-                DRes<SInt> inputPartyId = inputs.get(i).getFirst();
-                DRes<SInt> inputBid = inputs.get(i).getSecond();
-                DRes<SInt> highBidIsLowerEquals = comparison.compareLEQ(highBid, inputBid);
-                highBid = advancedNumeric.condSelect(highBidIsLowerEquals, inputBid, highBid);
-                highBidderId = advancedNumeric.condSelect(highBidIsLowerEquals, inputPartyId, highBidderId);
-            }
-            Pair<DRes<SInt>, DRes<SInt>> resultPair = new Pair(highBidderId, highBid);
-            return () -> resultPair;
+            return findHighestBid(seq, inputs);
         }).seq((seq, resultPair) -> {
             Numeric numeric = seq.numeric();
             // open results for all parties
@@ -74,4 +59,48 @@ public class SealedFirstPriceAuction extends Auction{
             return () -> new AuctionResult(openedResultPair.getFirst().out().intValue(), openedResultPair.getSecond().out().intValue());
         });
     }
+
+    /**
+     * Finds the highest bid and the party id of the corresponding bidder with a tournament reduction.
+     * In each round the remaining bidders are compared pairwise in parallel, so that the number of
+     * sequential comparisons is logarithmic in the number of parties. A bidder without an opponent advances
+     * to the next round. Since the order of the bidders is preserved in each round, the bidder with the
+     * highest partyId wins in case of a tie.
+     * @param builder protocol builder.
+     * @param bidders pairs of party id and bid, sorted in ascending order of the party ids.
+     * @return pair of the party id of the highest bidder and the highest bid.
+     */
+    static DRes<Pair<DRes<SInt>, DRes<SInt>>> findHighestBid(ProtocolBuilderNumeric builder,
+                                                               List<Pair<DRes<SInt>, DRes<SInt>>> bidders) {
+        if (bidders.size() == 1) {
+            Pair<DRes<SInt>, DRes<SInt>> winner = bidders.get(0);
+            return () -> winner;
+        }
+        return builder.par(par -> {
+            List<DRes<Pair<DRes<SInt>, DRes<SInt>>>> winners = new ArrayList<>((bidders.size() + 1) / 2);
+            for (int i = 0; i + 1 < bidders.size(); i += 2) {
+                Pair<DRes<SInt>, DRes<SInt>> left = bidders.get(i);
+                Pair<DRes<SInt>, DRes<SInt>> right = bidders.get(i + 1);
+                winners.add(par.seq(seq -> seq.comparison().compareLEQ(left.getSecond(), right.getSecond())
+                ).par((innerPar, leftIsLowerEquals) -> {
+                    AdvancedNumeric advancedNumeric = innerPar.advancedNumeric();
+                    DRes<SInt> highBidderId = advancedNumeric.condSelect(leftIsLowerEquals, right.getFirst(), left.getFirst());
+                    DRes<SInt> highBid = advancedNumeric.condSelect(leftIsLowerEquals, right.getSecond(), left.getSecond());
+                    Pair<DRes<SInt>, DRes<SInt>> winner = new Pair<>(highBidderId, highBid);
+                    return () -> winner;
+                }));
+            }
+            if (bidders.size() % 2 == 1) {
+                Pair<DRes<SInt>, DRes<SInt>> bye = bidders.get(bidders.size() - 1);
+                winners.add(() -> bye);
+            }
+            return () -> winners;
+        }).seq((seq, winners) -> {
+            List<Pair<DRes<SInt>, DRes<SInt>>> nextRound = new ArrayList<>(winners.size());
+            for (DRes<Pair<DRes<SInt>, DRes<SInt>>> winner : winners) {
+                nextRound.add(winner.out());
+            }
+            return findHighestBid(seq, nextRound);
+        });
+    }
 }
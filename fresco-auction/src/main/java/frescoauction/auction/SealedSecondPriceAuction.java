@@ -1,6 +1,7 @@
 package frescoauction.auction;
 
 import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.Computation;
 import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric;
 import dk.alexandra.fresco.framework.builder.numeric.Comparison;
 import dk.alexandra.fresco.framework.builder.numeric.Numeric;
@@ -11,6 +12,7 @@ import dk.alexandra.fresco.framework.value.SInt;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -48,27 +50,8 @@ public class SealedSecondPriceAuction extends Auction{
             }
             return () -> closedInputs;
         }).seq((seq, inputs) -> {
-            AdvancedNumeric advancedNumeric = seq.advancedNumeric();
-            Comparison comparison = seq.comparison();
-            // party id of the highest bidder
-            DRes<SInt> highBidderId = inputs.get(0).getFirst();
-            // highest bid
-            DRes<SInt> highBid = inputs.get(0).getSecond();
-            // second highest bid
-            DRes<SInt> secHighBid = seq.numeric().known(0);
-            // find highest bid and the party id of the corresponding bidder
-            for(int i = 1; i < inputs.size(); i++){
-                DRes<SInt> inputPartyId = inputs.get(i).getFirst();
-                DRes<SInt> inputBid = inputs.get(i).getSecond();
-                DRes<SInt> highBidIsLowerEquals = comparison.compareLEQ(highBid, inputBid);
-                DRes<SInt> secHighBidIsLowerEquals = comparison.compareLEQ(secHighBid, inputBid);
-                secHighBid = advancedNumeric.condSelect(highBidIsLowerEquals, highBid,
-                        advancedNumeric.condSelect(secHighBidIsLowerEquals, inputBid, secHighBid));
-                highBid = advancedNumeric.condSelect(highBidIsLowerEquals, inputBid, highBid);
-                highBidderId = advancedNumeric.condSelect(highBidIsLowerEquals, inputPartyId, highBidderId);
-            }
-            Pair<DRes<SInt>, DRes<SInt>> resultPair = new Pair(highBidderId, secHighBid);
-            return () -> resultPair;
+            // find the party id of the highest bidder and the second highest bid
+            return findHighestBidderAndSecondHighestBid(seq, inputs);
         }).seq((seq, resultPair) -> {
             Numeric numeric = seq.numeric();
             // open results for all parties
@@ -80,4 +63,115 @@ public class SealedSecondPriceAuction extends Auction{
             return () -> new AuctionResult(openedResultPair.getFirst().out().intValue(), openedResultPair.getSecond().out().intValue());
         });
     }
+
+    /**
+     * Finds the party id of the highest bidder and the second highest bid with a tournament reduction.
+     * Each bidder enters the tournament as an entry without a second highest bid. In each round the remaining
+     * entries are merged pairwise in parallel, so that the number of sequential comparisons is logarithmic
+     * in the number of parties. Since the order of the entries is preserved in each round, the bidder with
+     * the highest partyId wins in case of a tie (the second highest bid is then equal to the highest bid).
+     * @param builder protocol builder.
+     * @param bidders pairs of party id and bid, sorted in ascending order of the party ids (at least 2 bidders).
+     * @return pair of the party id of the highest bidder and the second highest bid.
+     */
+    static DRes<Pair<DRes<SInt>, DRes<SInt>>> findHighestBidderAndSecondHighestBid(
+            ProtocolBuilderNumeric builder, List<Pair<DRes<SInt>, DRes<SInt>>> bidders) {
+        List<TournamentEntry> entries = new ArrayList<>(bidders.size());
+        for (Pair<DRes<SInt>, DRes<SInt>> bidder : bidders) {
+            entries.add(new TournamentEntry(bidder.getFirst(), bidder.getSecond(), null));
+        }
+        return builder.seq(seq -> runTournament(seq, entries))
+                .seq((seq, winner) -> {
+                    Pair<DRes<SInt>, DRes<SInt>> resultPair = new Pair<>(winner.highBidderId, winner.secHighBid);
+                    return () -> resultPair;
+                });
+    }
+
+    /**
+     * Merges the entries pairwise (in parallel) until a single entry remains.
+     * An entry without an opponent advances to the next round.
+     * @param builder protocol builder.
+     * @param entries entries of the current round.
+     * @return the remaining entry.
+     */
+    private static DRes<TournamentEntry> runTournament(ProtocolBuilderNumeric builder, List<TournamentEntry> entries) {
+        if (entries.size() == 1) {
+            TournamentEntry winner = entries.get(0);
+            return () -> winner;
+        }
+        return builder.par(par -> {
+            List<DRes<TournamentEntry>> winners = new ArrayList<>((entries.size() + 1) / 2);
+            for (int i = 0; i + 1 < entries.size(); i += 2) {
+                winners.add(par.seq(merge(entries.get(i), entries.get(i + 1))));
+            }
+            if (entries.size() % 2 == 1) {
+                TournamentEntry bye = entries.get(entries.size() - 1);
+                winners.add(() -> bye);
+            }
+            return () -> winners;
+        }).seq((seq, winners) -> {
+            List<TournamentEntry> nextRound = new ArrayList<>(winners.size());
+            for (DRes<TournamentEntry> winner : winners) {
+                nextRound.add(winner.out());
+            }
+            return runTournament(seq, nextRound);
+        });
+    }
+
+    /**
+     * Merges two entries. All comparisons are evaluated in parallel, followed by the selections.
+     * If the right entry wins, the new second highest bid is the maximum of the highest bid of the left entry
+     * and the second highest bid of the right entry (and vice versa).
+     * @param left entry, which contains bidders with lower party ids.
+     * @param right entry, which contains bidders with higher party ids.
+     * @return computation of the merged entry.
+     */
+    private static Computation<TournamentEntry, ProtocolBuilderNumeric> merge(TournamentEntry left, TournamentEntry right) {
+        return builder -> builder.par(par -> {
+            Comparison comparison = par.comparison();
+            DRes<SInt> leftIsLowerEquals = comparison.compareLEQ(left.highBid, right.highBid);
+            DRes<SInt> leftIsLowerEqualsRightSec = right.secHighBid == null ? null
+                    : comparison.compareLEQ(left.highBid, right.secHighBid);
+            DRes<SInt> rightIsLowerEqualsLeftSec = left.secHighBid == null ? null
+                    : comparison.compareLEQ(right.highBid, left.secHighBid);
+            List<DRes<SInt>> comparisons = Arrays.asList(leftIsLowerEquals, leftIsLowerEqualsRightSec, rightIsLowerEqualsLeftSec);
+            return () -> comparisons;
+        }).par((par, comparisons) -> {
+            AdvancedNumeric advancedNumeric = par.advancedNumeric();
+            DRes<SInt> leftIsLowerEquals = comparisons.get(0);
+            DRes<SInt> highBidderId = advancedNumeric.condSelect(leftIsLowerEquals, right.highBidderId, left.highBidderId);
+            DRes<SInt> highBid = advancedNumeric.condSelect(leftIsLowerEquals, right.highBid, left.highBid);
+            // second highest bid, if the right entry wins
+            DRes<SInt> secHighBidRightWins = right.secHighBid == null ? left.highBid
+                    : advancedNumeric.condSelect(comparisons.get(1), right.secHighBid, left.highBid);
+            // second highest bid, if the left entry wins
+            DRes<SInt> secHighBidLeftWins = left.secHighBid == null ? right.highBid
+                    : advancedNumeric.condSelect(comparisons.get(2), left.secHighBid, right.highBid);
+            List<DRes<SInt>> selections = Arrays.asList(leftIsLowerEquals, highBidderId, highBid,
+                    secHighBidRightWins, secHighBidLeftWins);
+            return () -> selections;
+        }).seq((seq, selections) -> {
+            DRes<SInt> secHighBid = seq.advancedNumeric().condSelect(selections.get(0), selections.get(3), selections.get(4));
+            TournamentEntry merged = new TournamentEntry(selections.get(1), selections.get(2), secHighBid);
+            return () -> merged;
+        });
+    }
+
+    /**
+     * Intermediate result of the tournament, which represents the winner of a group of bidders.
+     */
+    private static final class TournamentEntry {
+        /** Party id of the highest bidder of the group.*/
+        private final DRes<SInt> highBidderId;
+        /** Highest bid of the group.*/
+        private final DRes<SInt> highBid;
+        /** Second highest bid of the group (null, if the group consists of a single bidder).*/
+        private final DRes<SInt> secHighBid;
+
+        private TournamentEntry(DRes<SInt> highBidderId, DRes<SInt> highBid, DRes<SInt> secHighBid) {
+            this.highBidderId = highBidderId;
+            this.highBid = highBid;
+            this.secHighBid = secHighBid;
+        }
+    }
 }
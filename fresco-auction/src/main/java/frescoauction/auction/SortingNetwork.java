@@ -0,0 +1,292 @@
+package frescoauction.auction;
+
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.AdvancedNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Oblivious sorting networks for secret values, which can be used by auctions, that need a (partial) ranking
+ * of the bids. The sequence of comparisons of a sorting network does not depend on the values, so the parties
+ * learn nothing about the values while sorting. All entries are sorted in descending order of their keys and
+ * each key can carry a payload (e.g. the party id of a bidder), which is moved together with the key. Either all
+ * or none of the entries have to carry a payload.<br>
+ * Every comparator is built from {@link dk.alexandra.fresco.framework.builder.numeric.Comparison#compareLEQ} and
+ * {@link AdvancedNumeric#condSelect} and all comparators of a layer are evaluated in parallel, so the number of
+ * sequential comparisons is logarithmic (selection) or squared logarithmic (full sort) in the number of entries.
+ * Entries with equal keys are ordered deterministically by the network, but the sort is not stable.
+ * <pre>{@code
+ * // usage example (within a fresco application)
+ * builder.seq(seq -> SortingNetwork.sort(seq, entries))
+ *        .seq((seq, sorted) -> ...);
+ * }</pre>
+ */
+public final class SortingNetwork {
+
+    private SortingNetwork() {
+    }
+
+    /**
+     * Sorts the values in descending order by Batcher's odd-even merge sort.
+     * @param builder protocol builder.
+     * @param values secret values.
+     * @return sorted values.
+     */
+    public static DRes<List<DRes<SInt>>> sortValues(ProtocolBuilderNumeric builder, List<DRes<SInt>> values) {
+        List<Entry> entries = new ArrayList<>(values.size());
+        for(DRes<SInt> value : values) entries.add(new Entry(value, null));
+        return builder.seq(seq -> sort(seq, entries)).seq((seq, sorted) -> {
+            List<DRes<SInt>> sortedValues = new ArrayList<>(sorted.size());
+            for(Entry entry : sorted) sortedValues.add(entry.getKey());
+            return () -> sortedValues;
+        });
+    }
+
+    /**
+     * Sorts the entries in descending order of the keys by Batcher's odd-even merge sort. The network of a power of 2
+     * is used for any number of entries by dropping all comparators with a missing entry (treated as lowest key).
+     * @param builder protocol builder.
+     * @param entries entries.
+     * @return sorted entries.
+     * @throws IllegalArgumentException is thrown if only some of the entries carry a payload.
+     */
+    public static DRes<List<Entry>> sort(ProtocolBuilderNumeric builder, List<Entry> entries)
+            throws IllegalArgumentException {
+        checkPayloads(entries);
+        List<List<int[]>> layers = new ArrayList<>();
+        int size = entries.size();
+        for(int p = 1; p < size; p <<= 1){
+            for(int k = p; k >= 1; k >>= 1){
+                List<int[]> layer = new ArrayList<>();
+                for(int j = k % p; j + k < size; j += 2 * k){
+                    for(int i = 0; i < Math.min(k, size - j - k); i++){
+                        // compare only entries, which belong to the same merged block of size 2p
+                        if((i + j) / (2 * p) == (i + j + k) / (2 * p)) layer.add(new int[]{i + j, i + j + k});
+                    }
+                }
+                if(!layer.isEmpty()) layers.add(layer);
+            }
+        }
+        return applyLayers(builder, new ArrayList<>(entries), layers, 0);
+    }
+
+    /**
+     * Selects the entries with the highest keys by a partial sorting network. The entries are divided into blocks
+     * of M entries (M = count rounded up to a power of 2), the blocks are sorted in parallel and merged pairwise
+     * in parallel, until a single block remains. Every merge only keeps the M highest entries, which is cheaper
+     * than sorting all entries, if the count is small.
+     * @param builder protocol builder.
+     * @param entries entries.
+     * @param count number of entries, which should be selected (between 1 and the number of entries).
+     * @return the selected entries in descending order of the keys.
+     * @throws IllegalArgumentException is thrown if the count is lower than 1 or exceeds the number of entries or
+     * if only some of the entries carry a payload.
+     */
+    public static DRes<List<Entry>> selectHighest(ProtocolBuilderNumeric builder, List<Entry> entries, int count)
+            throws IllegalArgumentException {
+        if(count < 1 || count > entries.size())
+            throw new IllegalArgumentException("Count has to be between 1 and the number of entries.");
+        checkPayloads(entries);
+        int blockSize = Integer.highestOneBit(count * 2 - 1);
+        return builder.par(par -> {
+            List<DRes<List<Entry>>> blocks = new ArrayList<>();
+            for(int start = 0; start < entries.size(); start += blockSize){
+                List<Entry> block = entries.subList(start, Math.min(start + blockSize, entries.size()));
+                blocks.add(par.seq(seq -> sort(seq, block)));
+            }
+            return () -> blocks;
+        }).seq((seq, blocks) -> {
+            List<List<Entry>> sortedBlocks = new ArrayList<>(blocks.size());
+            for(DRes<List<Entry>> block : blocks){
+                // a missing entry has the lowest key, so padding keeps the block sorted
+                List<Entry> sortedBlock = new ArrayList<>(block.out());
+                while(sortedBlock.size() < blockSize) sortedBlock.add(null);
+                sortedBlocks.add(sortedBlock);
+            }
+            return mergeBlocks(seq, sortedBlocks);
+        }).seq((seq, highest) -> {
+            List<Entry> selected = new ArrayList<>(highest.subList(0, count));
+            return () -> selected;
+        });
+    }
+
+    /**
+     * Merges the sorted blocks pairwise (in parallel) until a single block remains.
+     * A block without an opponent advances to the next round.
+     * @param builder protocol builder.
+     * @param blocks blocks of the current round (sorted in descending order, all blocks have the same size).
+     * @return the block with the highest entries of all blocks.
+     */
+    private static DRes<List<Entry>> mergeBlocks(ProtocolBuilderNumeric builder, List<List<Entry>> blocks) {
+        if(blocks.size() == 1){
+            List<Entry> highest = blocks.get(0);
+            return () -> highest;
+        }
+        return builder.par(par -> {
+            List<DRes<List<Entry>>> merged = new ArrayList<>((blocks.size() + 1) / 2);
+            for(int i = 0; i + 1 < blocks.size(); i += 2){
+                List<Entry> left = blocks.get(i);
+                List<Entry> right = blocks.get(i + 1);
+                merged.add(par.seq(seq -> mergeHighest(seq, left, right)));
+            }
+            if(blocks.size() % 2 == 1){
+                List<Entry> bye = blocks.get(blocks.size() - 1);
+                merged.add(() -> bye);
+            }
+            return () -> merged;
+        }).seq((seq, merged) -> {
+            List<List<Entry>> nextRound = new ArrayList<>(merged.size());
+            for(DRes<List<Entry>> block : merged) nextRound.add(block.out());
+            return mergeBlocks(seq, nextRound);
+        });
+    }
+
+    /**
+     * Merges two sorted blocks of the same size M (a power of 2) and keeps the M highest entries. The maximum of the
+     * i-th entry of the left block and the (M-1-i)-th entry of the right block forms a bitonic sequence, which contains
+     * the M highest entries of both blocks and is sorted by a bitonic merge.
+     * @param builder protocol builder.
+     * @param left block sorted in descending order.
+     * @param right block sorted in descending order.
+     * @return the M highest entries in descending order.
+     */
+    private static DRes<List<Entry>> mergeHighest(ProtocolBuilderNumeric builder, List<Entry> left, List<Entry> right) {
+        int size = left.size();
+        return builder.par(par -> {
+            List<DRes<Pair<Entry, Entry>>> exchanged = new ArrayList<>(size);
+            for(int i = 0; i < size; i++) exchanged.add(compareExchange(par, left.get(i), right.get(size - 1 - i)));
+            return () -> exchanged;
+        }).seq((seq, exchanged) -> {
+            List<Entry> bitonic = new ArrayList<>(size);
+            for(DRes<Pair<Entry, Entry>> pair : exchanged) bitonic.add(pair.out().getFirst());
+            List<List<int[]>> layers = new ArrayList<>();
+            for(int half = size / 2; half >= 1; half /= 2){
+                List<int[]> layer = new ArrayList<>(size / 2);
+                for(int i = 0; i < size; i++){
+                    if((i & half) == 0) layer.add(new int[]{i, i + half});
+                }
+                layers.add(layer);
+            }
+            return applyLayers(seq, bitonic, layers, 0);
+        });
+    }
+
+    /**
+     * Applies the layers of a sorting network one after another. All comparators of a layer are evaluated in parallel.
+     * @param builder protocol builder.
+     * @param entries current entries (are replaced by the results of the layer).
+     * @param layers layers of comparators (pairs of indices, the higher key is moved to the first index).
+     * @param layer index of the current layer.
+     * @return entries after the last layer.
+     */
+    private static DRes<List<Entry>> applyLayers(ProtocolBuilderNumeric builder, List<Entry> entries,
+                                                 List<List<int[]>> layers, int layer) {
+        if(layer == layers.size()) return () -> entries;
+        List<int[]> comparators = layers.get(layer);
+        return builder.par(par -> {
+            List<DRes<Pair<Entry, Entry>>> exchanged = new ArrayList<>(comparators.size());
+            for(int[] comparator : comparators){
+                exchanged.add(compareExchange(par, entries.get(comparator[0]), entries.get(comparator[1])));
+            }
+            return () -> exchanged;
+        }).seq((seq, exchanged) -> {
+            for(int i = 0; i < comparators.size(); i++){
+                Pair<Entry, Entry> pair = exchanged.get(i).out();
+                entries.set(comparators.get(i)[0], pair.getFirst());
+                entries.set(comparators.get(i)[1], pair.getSecond());
+            }
+            return applyLayers(seq, entries, layers, layer + 1);
+        });
+    }
+
+    /**
+     * Compares two entries and exchanges them, if the key of the first entry is lower than or equal to the key of
+     * the second entry. The higher entry is selected by {@link AdvancedNumeric#condSelect} and the lower entry is
+     * the sum of both entries minus the higher entry, so only one selection per field is needed.
+     * A missing entry (null) is treated as lowest key and is exchanged without any computation.
+     * @param builder protocol builder.
+     * @param first first entry.
+     * @param second second entry.
+     * @return pair of the entry with the higher key and the entry with the lower key.
+     * @throws IllegalArgumentException is thrown if only one of the entries carries a payload.
+     */
+    private static DRes<Pair<Entry, Entry>> compareExchange(ProtocolBuilderNumeric builder, Entry first, Entry second)
+            throws IllegalArgumentException {
+        if(second == null) return () -> new Pair<>(first, null);
+        if(first == null) return () -> new Pair<>(second, null);
+        if((first.payload == null) != (second.payload == null))
+            throw new IllegalArgumentException("Either both or none of the entries have to carry a payload.");
+        boolean hasPayload = first.payload != null;
+        return builder.par(par -> {
+            Numeric numeric = par.numeric();
+            DRes<SInt> isLowerEquals = par.comparison().compareLEQ(first.key, second.key);
+            DRes<SInt> keySum = numeric.add(first.key, second.key);
+            DRes<SInt> payloadSum = hasPayload ? numeric.add(first.payload, second.payload) : null;
+            return () -> new Pair<>(isLowerEquals, new Pair<>(keySum, payloadSum));
+        }).par((par, compared) -> {
+            AdvancedNumeric advancedNumeric = par.advancedNumeric();
+            DRes<SInt> isLowerEquals = compared.getFirst();
+            DRes<SInt> higherKey = advancedNumeric.condSelect(isLowerEquals, second.key, first.key);
+            DRes<SInt> higherPayload = hasPayload
+                    ? advancedNumeric.condSelect(isLowerEquals, second.payload, first.payload) : null;
+            Entry higher = new Entry(higherKey, higherPayload);
+            return () -> new Pair<>(higher, compared.getSecond());
+        }).par((par, selected) -> {
+            Numeric numeric = par.numeric();
+            Entry higher = selected.getFirst();
+            Pair<DRes<SInt>, DRes<SInt>> sums = selected.getSecond();
+            Entry lower = new Entry(numeric.sub(sums.getFirst(), higher.key),
+                    hasPayload ? numeric.sub(sums.getSecond(), higher.payload) : null);
+            return () -> new Pair<>(higher, lower);
+        });
+    }
+
+    /**
+     * Checks, if either all or none of the entries carry a payload (a payload would be dropped otherwise).
+     * @param entries entries.
+     * @throws IllegalArgumentException is thrown if only some of the entries carry a payload.
+     */
+    private static void checkPayloads(List<Entry> entries) throws IllegalArgumentException {
+        long withPayload = entries.stream().filter(entry -> entry.payload != null).count();
+        if(withPayload != 0 && withPayload != entries.size())
+            throw new IllegalArgumentException("Either all or none of the entries have to carry a payload.");
+    }
+
+    /**
+     * Secret sort key with an optional secret payload, which is moved together with the key.
+     */
+    public static final class Entry {
+        /** Key, which is used for comparisons (e.g. a bid).*/
+        private final DRes<SInt> key;
+        /** Payload (e.g. a party id, null if the entry has no payload).*/
+        private final DRes<SInt> payload;
+
+        /**
+         * @param key secret key.
+         * @param payload secret payload (null, if the entry has no payload).
+         */
+        public Entry(DRes<SInt> key, DRes<SInt> payload) {
+            this.key = key;
+            this.payload = payload;
+        }
+
+        /**
+         * @return secret key.
+         */
+        public DRes<SInt> getKey() {
+            return key;
+        }
+
+        /**
+         * @return secret payload (null, if the entry has no payload).
+         */
+        public DRes<SInt> getPayload() {
+            return payload;
+        }
+    }
+}
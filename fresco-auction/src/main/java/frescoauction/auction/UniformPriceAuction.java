@@ -0,0 +1,108 @@
+package frescoauction.auction;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.value.SInt;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Implementation of the k-unit uniform price auction, in which k identical units are sold to the k highest bidders
+ * (one unit per bidder). All winners pay the same price: the (k+1)-th highest bid, which is the price of the
+ * Vickrey-Clarke-Groves mechanism for bidders demanding a single unit. For k = 1 the auction is equivalent to
+ * {@link SealedSecondPriceAuction}.<br>
+ * The k + 1 highest bids are selected by an oblivious partial sorting network
+ * (see {@link SortingNetwork#selectHighest}). Thereby all winners are determined within a single evaluation,
+ * which is cheaper than k separate second price auctions.<br>
+ * The winners are sorted by their party ids before they are opened, so that the ranking of the winners is not revealed.
+ * Thereby the party ids are compared with the bit length of the protocol suite, which has to cover the number of parties.
+ * Ties at the k-th place are resolved by the sorting network (deterministically for the same inputs).
+ * The results (one per winner with the uniform price) are returned in ascending order of the party ids.
+ */
+public class UniformPriceAuction implements Application<List<Auction.AuctionResult>, ProtocolBuilderNumeric> {
+    /** Number of units, which are sold.*/
+    private final int units;
+    /** Secret bid provided by the user.*/
+    private final int secretBid;
+    /** Network configuration used by the fresco application. */
+    private final NetworkConfiguration networkConfiguration;
+
+    /**
+     * @param units number of units, which are sold (should be lower than the number of parties).
+     * @param secretBid secret bid (should not be lower than 1).
+     * @param networkConfiguration network configuration (number of parties should exceed the number of units).
+     * @throws IllegalArgumentException is thrown if the number of units is lower than 1, the bid is lower than 1 or
+     * the number of parties does not exceed the number of units.
+     */
+    public UniformPriceAuction(int units, int secretBid, NetworkConfiguration networkConfiguration)
+            throws IllegalArgumentException {
+        if(units < 1) throw new IllegalArgumentException("There must be at least 1 unit.");
+        if(secretBid < 1) throw new IllegalArgumentException("Bid cannot be lower than 1.");
+        if(networkConfiguration.noOfParties() <= units)
+            throw new IllegalArgumentException("Number of parties has to exceed the number of units.");
+        this.units = units;
+        this.secretBid = secretBid;
+        this.networkConfiguration = networkConfiguration;
+    }
+
+    @Override
+    public DRes<List<Auction.AuctionResult>> buildComputation(ProtocolBuilderNumeric builder) {
+        int partyIdBitLength = Integer.SIZE - Integer.numberOfLeadingZeros(networkConfiguration.noOfParties());
+        if(builder.getBasicNumericContext().getMaxBitLength() < partyIdBitLength)
+            throw new IllegalArgumentException("Bit length of the protocol suite is too small for the party ids.");
+        return builder.seq(seq -> {
+            Numeric numeric = seq.numeric();
+            List<SortingNetwork.Entry> closedInputs = new ArrayList<>(networkConfiguration.noOfParties());
+            // close inputs and gather inputs of other parties
+            for(int otherId = 1; otherId <= networkConfiguration.noOfParties(); otherId++){
+                boolean isMe = otherId == networkConfiguration.getMyId();
+                DRes<SInt> partyId = numeric.input(isMe ? BigInteger.valueOf(otherId) : null, otherId);
+                DRes<SInt> bid = numeric.input(isMe ? BigInteger.valueOf(secretBid) : null, otherId);
+                closedInputs.add(new SortingNetwork.Entry(bid, partyId));
+            }
+            return () -> closedInputs;
+        }).seq((seq, bidders) -> {
+            // select the k + 1 highest bids in descending order
+            return SortingNetwork.selectHighest(seq, bidders, units + 1);
+        }).seq((seq, highest) -> {
+            // sort the winners by party id, so that opening them does not reveal their ranking
+            List<DRes<SInt>> winnerIds = new ArrayList<>(units);
+            for(SortingNetwork.Entry winner : highest.subList(0, units)) winnerIds.add(winner.getPayload());
+            DRes<SInt> price = highest.get(units).getKey();
+            return seq.seq(sub -> SortingNetwork.sortValues(sub, winnerIds)).seq((sub, sortedIds) -> {
+                Numeric numeric = sub.numeric();
+                List<DRes<BigInteger>> openedIds = new ArrayList<>(units);
+                for(DRes<SInt> winnerId : sortedIds) openedIds.add(numeric.open(winnerId));
+                DRes<BigInteger> openedPrice = numeric.open(price);
+                return () -> new OpenedResult(openedIds, openedPrice);
+            });
+        }).seq((seq, opened) -> {
+            List<Auction.AuctionResult> results = new ArrayList<>(units);
+            int finalPrice = opened.price.out().intValue();
+            for(DRes<BigInteger> winnerId : opened.winnerIds){
+                results.add(new Auction.AuctionResult(winnerId.out().intValue(), finalPrice));
+            }
+            Collections.reverse(results);
+            return () -> results;
+        });
+    }
+
+    /**
+     * Opened winner ids and opened uniform price.
+     */
+    private static final class OpenedResult {
+        private final List<DRes<BigInteger>> winnerIds;
+        private final DRes<BigInteger> price;
+
+        private OpenedResult(List<DRes<BigInteger>> winnerIds, DRes<BigInteger> price) {
+            this.winnerIds = winnerIds;
+            this.price = price;
+        }
+    }
+}
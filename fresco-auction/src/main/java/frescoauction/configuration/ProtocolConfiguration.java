@@ -1,6 +1,7 @@
 package frescoauction.configuration;
 
 import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import frescoauction.configuration.network.NetworkFactory;
 
 /**
  * Interface for configuration implementations,
@@ -12,4 +13,8 @@ public interface ProtocolConfiguration {
      */
     public static final int DEFAULT_MAX_BATCH_SIZE = 4096;
     public EvaluationStrategy getEvaluationStrategy();
+    /**
+     * @return factory of the network, which is used by the protocol suite.
+     */
+    public NetworkFactory getNetworkFactory();
 }
@@ -5,7 +5,6 @@ import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
 import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefinition;
 import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
 import dk.alexandra.fresco.framework.network.Network;
-import dk.alexandra.fresco.framework.network.socket.SocketNetwork;
 import dk.alexandra.fresco.framework.sce.SecureComputationEngine;
 import dk.alexandra.fresco.framework.sce.SecureComputationEngineImpl;
 import dk.alexandra.fresco.framework.sce.evaluator.BatchEvaluationStrategy;
@@ -15,6 +14,7 @@ import dk.alexandra.fresco.suite.dummy.arithmetic.DummyArithmeticProtocolSuite;
 import dk.alexandra.fresco.suite.dummy.arithmetic.DummyArithmeticResourcePool;
 import dk.alexandra.fresco.suite.dummy.arithmetic.DummyArithmeticResourcePoolImpl;
 import frescoauction.configuration.ProtocolAssembler;
+import frescoauction.configuration.network.InstrumentedNetwork;
 import frescoauction.util.Utils;
 
 /**
@@ -42,7 +42,7 @@ public class DummyArithmeticAssembler implements ProtocolAssembler<DummyArithmet
 
     @Override
     public void assemble() {
-        network = new SocketNetwork(networkConfiguration);
+        network = new InstrumentedNetwork(dummyArithmeticConfiguration.getNetworkFactory().createNetwork(networkConfiguration));
         BigIntegerFieldDefinition fieldDefinition = new BigIntegerFieldDefinition(dummyArithmeticConfiguration.getModulus());
         protocolSuite = new DummyArithmeticProtocolSuite(fieldDefinition,
                                 dummyArithmeticConfiguration.getMaxBitLength(),
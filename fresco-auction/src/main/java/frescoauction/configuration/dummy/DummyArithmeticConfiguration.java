@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
 import frescoauction.configuration.ProtocolConfiguration;
+import frescoauction.configuration.network.NetworkFactory;
 import frescoauction.util.Utils;
 
 /**
@@ -18,6 +19,7 @@ import frescoauction.util.Utils;
  *         .fixedPointPrecision(DEFAULT_FIXED_POINT_PRECISION)
  *         .evaluationStrategy(EvaluationStrategy.SEQUENTIAL)
  *         .modulus(DEFAULT_MODULUS)
+ *         .networkFactory(NetworkFactory.SOCKET)
  *         .build();
  * // is same as:
  * ProtocolConfiguration config = DummyArithmeticConfiguration.builder()
@@ -56,12 +58,18 @@ public class DummyArithmeticConfiguration implements ProtocolConfiguration {
     @Builder.Default
     private String modulus = DEFAULT_MODULUS;
 
+    /** Factory of the network. Default configuration: {@link NetworkFactory#SOCKET}.*/
+    @Builder.Default
+    private NetworkFactory networkFactory = NetworkFactory.SOCKET;
+
     private DummyArithmeticConfiguration(int maxBatchSize, int maxBitLength, int fixedPointPrecision,
-                                         EvaluationStrategy evaluationStrategy, String modulus) {
+                                         EvaluationStrategy evaluationStrategy, String modulus,
+                                         NetworkFactory networkFactory) {
         this.maxBatchSize = maxBatchSize;
         this.maxBitLength = maxBitLength;
         this.fixedPointPrecision = fixedPointPrecision;
         this.evaluationStrategy = evaluationStrategy;
         this.modulus = modulus;
+        this.networkFactory = networkFactory;
     }
 }
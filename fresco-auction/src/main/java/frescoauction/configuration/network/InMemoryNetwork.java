@@ -0,0 +1,71 @@
+package frescoauction.configuration.network;
+
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Network of a party, which passes messages through the queues of an {@link InMemoryNetworkHub}
+ * instead of sockets. Should be created by {@link InMemoryNetworkHub#createNetwork}.<br>
+ * Receiving blocks until a message arrives. It fails, if this network or the network of the sender is closed
+ * and no message is pending.
+ */
+public class InMemoryNetwork implements CloseableNetwork {
+    /** Interval, in which a blocked receiver checks, if the networks are still open (milliseconds).*/
+    private static final long POLL_INTERVAL = 100;
+
+    /** Hub, which holds the message queues.*/
+    private final InMemoryNetworkHub hub;
+    /** Id of the party, which owns the network.*/
+    private final int myId;
+
+    /**
+     * @param hub hub, which holds the message queues.
+     * @param myId id of the party, which owns the network.
+     */
+    InMemoryNetwork(InMemoryNetworkHub hub, int myId) {
+        this.hub = hub;
+        this.myId = myId;
+    }
+
+    /**
+     * @throws IllegalStateException is thrown if the network is closed.
+     */
+    @Override
+    public void send(int partyId, byte[] data) throws IllegalStateException {
+        if(hub.isClosed(myId)) throw new IllegalStateException("Network is closed.");
+        hub.getQueue(myId, partyId).put(data);
+    }
+
+    /**
+     * @throws IllegalStateException is thrown if this network or the network of the sender is closed
+     * (and no message is pending) or the receiving thread is interrupted.
+     */
+    @Override
+    public byte[] receive(int partyId) throws IllegalStateException {
+        LinkedTransferQueue<byte[]> queue = hub.getQueue(partyId, myId);
+        try {
+            while (true){
+                byte[] data = queue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if(data != null) return data;
+                if(hub.isClosed(myId)) throw new IllegalStateException("Network is closed.");
+                if(partyId != myId && hub.isClosed(partyId) && queue.isEmpty())
+                    throw new IllegalStateException("Network of party " + partyId + " is closed.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Receiving was interrupted.", e);
+        }
+    }
+
+    @Override
+    public int getNoOfParties() {
+        return hub.getNoOfParties();
+    }
+
+    @Override
+    public void close() {
+        hub.close(myId);
+    }
+}
@@ -0,0 +1,110 @@
+package frescoauction.configuration.network;
+
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Connects parties, which run in the same JVM, without sockets. For every ordered pair of parties the hub holds
+ * a lock-free queue, over which the messages are passed by reference. All parties of a computation have to use
+ * the same hub as {@link NetworkFactory} (e.g. by setting it in the configuration of the protocol suite).
+ * A hub can be used for exactly one network per party.
+ * <pre>{@code
+ * // usage example (the same configuration is used by all parties)
+ * InMemoryNetworkHub hub = new InMemoryNetworkHub(noOfParties);
+ * ProtocolConfiguration config = DummyArithmeticConfiguration.builder()
+ *         .networkFactory(hub)
+ *         .build();
+ * }</pre>
+ */
+public class InMemoryNetworkHub implements NetworkFactory {
+    /** Number of parties, which are connected by the hub.*/
+    private final int noOfParties;
+    /** Message queues (first index = id of the sender - 1, second index = id of the receiver - 1).*/
+    private final LinkedTransferQueue<byte[]>[][] queues;
+    /** Indicates, if a network was created for the party (index = party id - 1).*/
+    private final AtomicBoolean[] created;
+    /** Indicates, if the network of the party is closed (index = party id - 1).*/
+    private final AtomicBoolean[] closed;
+
+    /**
+     * @param noOfParties number of parties, which should be connected by the hub.
+     * @throws IllegalArgumentException is thrown if the number of parties is lower than 1.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public InMemoryNetworkHub(int noOfParties) throws IllegalArgumentException {
+        if(noOfParties < 1) throw new IllegalArgumentException("There must be at least 1 party.");
+        this.noOfParties = noOfParties;
+        queues = new LinkedTransferQueue[noOfParties][noOfParties];
+        created = new AtomicBoolean[noOfParties];
+        closed = new AtomicBoolean[noOfParties];
+        for(int i = 0; i < noOfParties; i++){
+            for(int j = 0; j < noOfParties; j++){
+                queues[i][j] = new LinkedTransferQueue<>();
+            }
+            created[i] = new AtomicBoolean(false);
+            closed[i] = new AtomicBoolean(false);
+        }
+    }
+
+    /**
+     * Creates the in-memory network of the party. The network is connected to the other parties immediately.
+     * @param networkConfiguration network configuration of the party (only the party id and
+     *                             the number of parties are used).
+     * @return network of the party.
+     * @throws IllegalArgumentException is thrown if the number of parties does not match the hub.
+     * @throws IllegalStateException is thrown if a network was already created for the party.
+     */
+    @Override
+    public CloseableNetwork createNetwork(NetworkConfiguration networkConfiguration)
+            throws IllegalArgumentException, IllegalStateException {
+        if(networkConfiguration.noOfParties() != noOfParties)
+            throw new IllegalArgumentException("Number of parties does not match the hub.");
+        int myId = networkConfiguration.getMyId();
+        checkPartyId(myId);
+        if(!created[myId - 1].compareAndSet(false, true))
+            throw new IllegalStateException("Network of party " + myId + " was already created.");
+        return new InMemoryNetwork(this, myId);
+    }
+
+    /**
+     * @return number of parties, which are connected by the hub.
+     */
+    public int getNoOfParties() {
+        return noOfParties;
+    }
+
+    /**
+     * @param fromId id of the sender.
+     * @param toId id of the receiver.
+     * @return queue, which contains the messages from the sender to the receiver.
+     */
+    LinkedTransferQueue<byte[]> getQueue(int fromId, int toId){
+        checkPartyId(fromId);
+        checkPartyId(toId);
+        return queues[fromId - 1][toId - 1];
+    }
+
+    /**
+     * @param partyId id of the party.
+     * @return true, if the network of the party is closed or false otherwise.
+     */
+    boolean isClosed(int partyId){
+        return closed[partyId - 1].get();
+    }
+
+    /**
+     * Marks the network of the party as closed.
+     * @param partyId id of the party.
+     */
+    void close(int partyId){
+        closed[partyId - 1].set(true);
+    }
+
+    private void checkPartyId(int partyId){
+        if(partyId < 1 || partyId > noOfParties)
+            throw new IllegalArgumentException("Party id " + partyId + " is out of range.");
+    }
+}
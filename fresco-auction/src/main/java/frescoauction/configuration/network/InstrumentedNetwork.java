@@ -0,0 +1,86 @@
+package frescoauction.configuration.network;
+
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A network decorator, which records the traffic of a party per peer (bytes, messages and time spent blocking
+ * in receive) and the number of communication rounds. A round is counted each time the party starts receiving
+ * after it has sent data since the last receive. The recorded values can be read with {@link #getStatistics()}.
+ * Is used by the assemblers of all protocol suites.
+ */
+public class InstrumentedNetwork implements CloseableNetwork {
+    /** Network, which is used for the actual communication.*/
+    private final CloseableNetwork delegate;
+    private final AtomicLongArray bytesSent;
+    private final AtomicLongArray messagesSent;
+    private final AtomicLongArray bytesReceived;
+    private final AtomicLongArray messagesReceived;
+    /** Time spent blocking in receive (nanoseconds).*/
+    private final AtomicLongArray receiveTime;
+    private final AtomicLong rounds = new AtomicLong();
+    /** Indicates, if data was sent since the last receive.*/
+    private volatile boolean sentSinceLastReceive;
+
+    /**
+     * @param delegate network, which is used for the actual communication.
+     */
+    public InstrumentedNetwork(CloseableNetwork delegate) {
+        this.delegate = delegate;
+        int noOfParties = delegate.getNoOfParties();
+        bytesSent = new AtomicLongArray(noOfParties);
+        messagesSent = new AtomicLongArray(noOfParties);
+        bytesReceived = new AtomicLongArray(noOfParties);
+        messagesReceived = new AtomicLongArray(noOfParties);
+        receiveTime = new AtomicLongArray(noOfParties);
+    }
+
+    @Override
+    public void send(int partyId, byte[] data) {
+        delegate.send(partyId, data);
+        bytesSent.addAndGet(partyId - 1, data.length);
+        messagesSent.incrementAndGet(partyId - 1);
+        sentSinceLastReceive = true;
+    }
+
+    @Override
+    public byte[] receive(int partyId) {
+        if(sentSinceLastReceive){
+            sentSinceLastReceive = false;
+            rounds.incrementAndGet();
+        }
+        long start = System.nanoTime();
+        byte[] data = delegate.receive(partyId);
+        receiveTime.addAndGet(partyId - 1, System.nanoTime() - start);
+        bytesReceived.addAndGet(partyId - 1, data.length);
+        messagesReceived.incrementAndGet(partyId - 1);
+        return data;
+    }
+
+    @Override
+    public int getNoOfParties() {
+        return delegate.getNoOfParties();
+    }
+
+    /**
+     * @return snapshot of the traffic since the network was created.
+     */
+    public NetworkStatistics getStatistics(){
+        return new NetworkStatistics(toArray(bytesSent), toArray(messagesSent), toArray(bytesReceived),
+                toArray(messagesReceived), toArray(receiveTime), rounds.get());
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private static long[] toArray(AtomicLongArray values){
+        long[] result = new long[values.length()];
+        for(int i = 0; i < result.length; i++) result[i] = values.get(i);
+        return result;
+    }
+}
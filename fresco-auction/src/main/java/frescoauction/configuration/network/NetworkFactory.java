@@ -0,0 +1,26 @@
+package frescoauction.configuration.network;
+
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+import dk.alexandra.fresco.framework.network.socket.SocketNetwork;
+
+/**
+ * Factory for the network, which is used by a {@link frescoauction.configuration.ProtocolAssembler}
+ * when assembling a protocol suite. The factory is selected through
+ * {@link frescoauction.configuration.ProtocolConfiguration#getNetworkFactory()}.
+ */
+@FunctionalInterface
+public interface NetworkFactory {
+    /**
+     * Default factory, which creates a {@link SocketNetwork} (communication over tcp).
+     */
+    public static final NetworkFactory SOCKET = SocketNetwork::new;
+
+    /**
+     * Creates the network of a party. The calling thread may be blocked until the network is
+     * connected to all other parties.
+     * @param networkConfiguration network configuration of the party.
+     * @return a connected network.
+     */
+    public CloseableNetwork createNetwork(NetworkConfiguration networkConfiguration);
+}
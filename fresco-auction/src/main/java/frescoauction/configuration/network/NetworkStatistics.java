@@ -0,0 +1,143 @@
+package frescoauction.configuration.network;
+
+/**
+ * Immutable snapshot of the traffic of a party, which is recorded by {@link InstrumentedNetwork}:
+ * bytes and messages sent to and received from every peer, time spent blocking in receive per peer
+ * and the number of communication rounds. The statistics of a single computation can be obtained
+ * by subtracting the snapshot taken before the computation ({@link #minus(NetworkStatistics)}).
+ */
+public final class NetworkStatistics {
+    /** Number of parties.*/
+    private final int noOfParties;
+    /** Bytes sent to the parties (index = party id - 1).*/
+    private final long[] bytesSent;
+    /** Messages sent to the parties (index = party id - 1).*/
+    private final long[] messagesSent;
+    /** Bytes received from the parties (index = party id - 1).*/
+    private final long[] bytesReceived;
+    /** Messages received from the parties (index = party id - 1).*/
+    private final long[] messagesReceived;
+    /** Time spent blocking in receive per party (nanoseconds, index = party id - 1).*/
+    private final long[] receiveTime;
+    /** Number of communication rounds (a round ends, when the party starts receiving after sending).*/
+    private final long rounds;
+
+    NetworkStatistics(long[] bytesSent, long[] messagesSent, long[] bytesReceived, long[] messagesReceived,
+                      long[] receiveTime, long rounds) {
+        this.noOfParties = bytesSent.length;
+        this.bytesSent = bytesSent;
+        this.messagesSent = messagesSent;
+        this.bytesReceived = bytesReceived;
+        this.messagesReceived = messagesReceived;
+        this.receiveTime = receiveTime;
+        this.rounds = rounds;
+    }
+
+    /**
+     * Computes the difference between this snapshot and an older snapshot of the same network.
+     * @param older older snapshot.
+     * @return statistics of the traffic between both snapshots.
+     * @throws IllegalArgumentException is thrown if the number of parties does not match.
+     */
+    public NetworkStatistics minus(NetworkStatistics older) throws IllegalArgumentException {
+        if(older.noOfParties != noOfParties) throw new IllegalArgumentException("Number of parties does not match.");
+        return new NetworkStatistics(
+                minus(bytesSent, older.bytesSent),
+                minus(messagesSent, older.messagesSent),
+                minus(bytesReceived, older.bytesReceived),
+                minus(messagesReceived, older.messagesReceived),
+                minus(receiveTime, older.receiveTime),
+                rounds - older.rounds);
+    }
+
+    public int getNoOfParties() {
+        return noOfParties;
+    }
+
+    /**
+     * @param partyId id of the peer.
+     * @return bytes sent to the peer.
+     */
+    public long getBytesSent(int partyId){
+        return bytesSent[partyId - 1];
+    }
+
+    /**
+     * @param partyId id of the peer.
+     * @return messages sent to the peer.
+     */
+    public long getMessagesSent(int partyId){
+        return messagesSent[partyId - 1];
+    }
+
+    /**
+     * @param partyId id of the peer.
+     * @return bytes received from the peer.
+     */
+    public long getBytesReceived(int partyId){
+        return bytesReceived[partyId - 1];
+    }
+
+    /**
+     * @param partyId id of the peer.
+     * @return messages received from the peer.
+     */
+    public long getMessagesReceived(int partyId){
+        return messagesReceived[partyId - 1];
+    }
+
+    /**
+     * @param partyId id of the peer.
+     * @return time spent blocking in receive for messages of the peer (nanoseconds).
+     */
+    public long getReceiveTime(int partyId){
+        return receiveTime[partyId - 1];
+    }
+
+    public long getTotalBytesSent(){
+        return sum(bytesSent);
+    }
+
+    public long getTotalMessagesSent(){
+        return sum(messagesSent);
+    }
+
+    public long getTotalBytesReceived(){
+        return sum(bytesReceived);
+    }
+
+    public long getTotalMessagesReceived(){
+        return sum(messagesReceived);
+    }
+
+    /**
+     * @return time spent blocking in receive (nanoseconds).
+     */
+    public long getTotalReceiveTime(){
+        return sum(receiveTime);
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("NetworkStatistics(bytesSent=%d, messagesSent=%d, bytesReceived=%d, messagesReceived=%d, " +
+                        "receiveTime=%dms, rounds=%d)",
+                getTotalBytesSent(), getTotalMessagesSent(), getTotalBytesReceived(), getTotalMessagesReceived(),
+                getTotalReceiveTime() / 1_000_000, rounds);
+    }
+
+    private static long[] minus(long[] newer, long[] older){
+        long[] result = new long[newer.length];
+        for(int i = 0; i < newer.length; i++) result[i] = newer[i] - older[i];
+        return result;
+    }
+
+    private static long sum(long[] values){
+        long sum = 0;
+        for(long value : values) sum += value;
+        return sum;
+    }
+}
@@ -0,0 +1,71 @@
+package frescoauction.configuration.spdz;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Describes the amount of preprocessed values, which should be produced by {@link SpdzOfflinePreprocessing}.
+ * That can be build with a Builder which is generated by the Project Lombok library.<br>
+ * <pre>{@code
+ * // default amount (usage example)
+ * PreprocessingAmount amount = PreprocessingAmount.builder()
+ *         .triples(DEFAULT_TRIPLES)
+ *         .bits(DEFAULT_BITS)
+ *         .randomElements(DEFAULT_RANDOM_ELEMENTS)
+ *         .expPipes(DEFAULT_EXP_PIPES)
+ *         .inputMasks(DEFAULT_INPUT_MASKS)
+ *         .build();
+ * // is same as:
+ * PreprocessingAmount amount = PreprocessingAmount.builder()
+ *         .build();
+ * }</pre>
+ */
+@Builder
+@Getter
+@ToString
+public class PreprocessingAmount {
+    /** Default number of multiplication triples (is used in default amount).*/
+    public static final int DEFAULT_TRIPLES = 20000;
+    /** Default number of random bits (is used in default amount).*/
+    public static final int DEFAULT_BITS = 10000;
+    /** Default number of random field elements (is used in default amount).*/
+    public static final int DEFAULT_RANDOM_ELEMENTS = 1000;
+    /**
+     * Default number of exponentiation pipes (is used in default amount). A single comparison of two bids
+     * consumes several pipes (e.g. a second price auction of three parties consumes 15 pipes).
+     */
+    public static final int DEFAULT_EXP_PIPES = 200;
+    /** Default number of input masks per party (is used in default amount).*/
+    public static final int DEFAULT_INPUT_MASKS = 16;
+
+    /** Number of multiplication triples. Default amount: {@link #DEFAULT_TRIPLES}.*/
+    @Builder.Default
+    private int triples = DEFAULT_TRIPLES;
+
+    /** Number of random bits. Default amount: {@link #DEFAULT_BITS}.*/
+    @Builder.Default
+    private int bits = DEFAULT_BITS;
+
+    /** Number of random field elements. Default amount: {@link #DEFAULT_RANDOM_ELEMENTS}.*/
+    @Builder.Default
+    private int randomElements = DEFAULT_RANDOM_ELEMENTS;
+
+    /** Number of exponentiation pipes. Default amount: {@link #DEFAULT_EXP_PIPES}.*/
+    @Builder.Default
+    private int expPipes = DEFAULT_EXP_PIPES;
+
+    /** Number of input masks per party. Default amount: {@link #DEFAULT_INPUT_MASKS}.*/
+    @Builder.Default
+    private int inputMasks = DEFAULT_INPUT_MASKS;
+
+    private PreprocessingAmount(int triples, int bits, int randomElements, int expPipes, int inputMasks) {
+        if(triples < 0 || bits < 0 || randomElements < 0 || expPipes < 0 || inputMasks < 0)
+            throw new IllegalArgumentException("Amount of preprocessed values should not be negative.");
+        this.triples = triples;
+        this.bits = bits;
+        this.randomElements = randomElements;
+        this.expPipes = expPipes;
+        this.inputMasks = inputMasks;
+    }
+}
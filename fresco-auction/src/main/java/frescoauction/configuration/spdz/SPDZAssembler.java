@@ -9,7 +9,6 @@ import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefini
 import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
 import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
 import dk.alexandra.fresco.framework.network.Network;
-import dk.alexandra.fresco.framework.network.socket.SocketNetwork;
 import dk.alexandra.fresco.framework.sce.SecureComputationEngine;
 import dk.alexandra.fresco.framework.sce.SecureComputationEngineImpl;
 import dk.alexandra.fresco.framework.sce.evaluator.BatchEvaluationStrategy;
@@ -34,10 +33,15 @@ import dk.alexandra.fresco.tools.ot.base.NaorPinkasOt;
 import dk.alexandra.fresco.tools.ot.base.Ot;
 import dk.alexandra.fresco.tools.ot.otextension.RotList;
 import frescoauction.configuration.ProtocolAssembler;
+import frescoauction.configuration.network.InstrumentedNetwork;
 import frescoauction.util.Utils;
 
 import javax.crypto.spec.DHParameterSpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,7 +50,9 @@ import java.util.function.Function;
 
 /**
  * An assembler for constructing a protocol suit of the type {@link Utils.ProtocolSuite#Spdz}.
- * Calling the method {@link #assemble()} also executes the offline phase of the Spdz protocol suite.
+ * Calling the method {@link #assemble()} also executes the offline phase of the Spdz protocol suite
+ * (unless {@link Utils.Preprocessing#Stored} is used, in which case the values are read from a store
+ * produced by {@link SpdzOfflinePreprocessing}).
  * Methods, which handle the initialization of the offline phase, are based on the example code provided
  * by fresco (source: https://github.com/aicis/fresco/tree/master/demos/common).
  */
@@ -70,8 +76,10 @@ public class SPDZAssembler implements ProtocolAssembler<SpdzResourcePool, Protoc
 
     @Override
     public void assemble() {
-        network = new SocketNetwork(networkConfiguration);
         protocolSuite = new SpdzProtocolSuite(spdzConfiguration.getMaxBitLength());
+        // the store is checked before connecting to the other parties, so that an unusable store fails fast
+        if(spdzConfiguration.getPreprocessingStrategy() == Utils.Preprocessing.Stored) initStoredResourcePool();
+        network = new InstrumentedNetwork(spdzConfiguration.getNetworkFactory().createNetwork(networkConfiguration));
         switch (spdzConfiguration.getPreprocessingStrategy()){
             case Mascot:
                 initMascotResourcePool();
@@ -201,4 +209,28 @@ public class SPDZAssembler implements ProtocolAssembler<SpdzResourcePool, Protoc
                 new SpdzOpenedValueStoreImpl(), supplier,
                 AesCtrDrbg::new);
     }
+
+    private void initStoredResourcePool(){
+        long partySetId = SpdzPreprocessedValuesStore.getPartySetId(networkConfiguration);
+        Path file = SpdzPreprocessedValuesStore.getStoreFile(
+                Paths.get(spdzConfiguration.getPreprocessedValuesDirectory()),
+                networkConfiguration.getMyId(), networkConfiguration.noOfParties(), partySetId);
+        SpdzStoredDataSupplier supplier;
+        try {
+            supplier = new SpdzStoredDataSupplier(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read preprocessed values from " + file, e);
+        }
+        if(supplier.getMyId() != networkConfiguration.getMyId()
+                || supplier.getNoOfParties() != networkConfiguration.noOfParties()
+                || supplier.getPartySetId() != partySetId)
+            throw new IllegalStateException("Preprocessed values of " + file + " belong to another party set.");
+        BigInteger modulus = ModulusFinder.findSuitableModulus(spdzConfiguration.getModBitLength());
+        if(!supplier.getFieldDefinition().getModulus().equals(modulus))
+            throw new IllegalStateException("Preprocessed values of " + file + " were produced for another modulus " +
+                    "(expected mod bit length: " + spdzConfiguration.getModBitLength() + ").");
+        resourcePool = new SpdzResourcePoolImpl(networkConfiguration.getMyId(), networkConfiguration.noOfParties(),
+                new SpdzOpenedValueStoreImpl(), supplier,
+                AesCtrDrbg::new);
+    }
 }
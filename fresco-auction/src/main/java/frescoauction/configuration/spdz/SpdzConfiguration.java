@@ -7,6 +7,7 @@ import lombok.NonNull;
 import lombok.ToString;
 import frescoauction.util.Utils;
 import frescoauction.configuration.ProtocolConfiguration;
+import frescoauction.configuration.network.NetworkFactory;
 
 /**
  * Provides a configuration for {@link Utils.ProtocolSuite#Spdz}.
@@ -20,6 +21,8 @@ import frescoauction.configuration.ProtocolConfiguration;
  *         .mascotPrgSeedLength(DEFAULT_MASCOT_PRG_SEED_LENGTH)
  *         .evaluationStrategy(EvaluationStrategy.SEQUENTIAL)
  *         .preProcessingStrategy(Utils.Preprocessing.Dummy)
+ *         .preprocessedValuesDirectory(DEFAULT_PREPROCESSED_VALUES_DIRECTORY)
+ *         .networkFactory(NetworkFactory.SOCKET)
  *         .build();
  * // is same as:
  * ProtocolConfiguration config = SpdzConfiguration.builder()
@@ -36,6 +39,8 @@ public class SpdzConfiguration implements ProtocolConfiguration {
     public static final int DEFAULT_MASCOT_PRG_SEED_LENGTH = 256;
     /** Default mod bit length (is used in default configuration).*/
     public static final int DEFAULT_MOD_BIT_LENGTH = 128;
+    /** Default directory of the preprocessed values store (is used in default configuration).*/
+    public static final String DEFAULT_PREPROCESSED_VALUES_DIRECTORY = "preprocessing";
 
     /**
      * Batch size. Default configuration: {@link #DEFAULT_MAX_BATCH_SIZE}
@@ -63,13 +68,27 @@ public class SpdzConfiguration implements ProtocolConfiguration {
     @Builder.Default
     private Utils.Preprocessing preprocessingStrategy = Utils.Preprocessing.Dummy;
 
+    /**
+     * Directory, which contains the stores of preprocessed values (is used by {@link Utils.Preprocessing#Stored}).
+     * Default configuration: {@link #DEFAULT_PREPROCESSED_VALUES_DIRECTORY}.
+     */
+    @Builder.Default
+    private String preprocessedValuesDirectory = DEFAULT_PREPROCESSED_VALUES_DIRECTORY;
+
+    /** Factory of the network. Default configuration: {@link NetworkFactory#SOCKET}.*/
+    @Builder.Default
+    private NetworkFactory networkFactory = NetworkFactory.SOCKET;
+
     private SpdzConfiguration(int maxBatchSize, int maxBitLength, int modBitLength, int mascotPrgSeedLength,
-                              EvaluationStrategy evaluationStrategy, Utils.Preprocessing preprocessingStrategy) {
+                              EvaluationStrategy evaluationStrategy, Utils.Preprocessing preprocessingStrategy,
+                              String preprocessedValuesDirectory, NetworkFactory networkFactory) {
         this.maxBatchSize = maxBatchSize;
         this.maxBitLength = maxBitLength;
         this.modBitLength = modBitLength;
         this.mascotPrgSeedLength = mascotPrgSeedLength;
         this.evaluationStrategy = evaluationStrategy;
         this.preprocessingStrategy = preprocessingStrategy;
+        this.preprocessedValuesDirectory = preprocessedValuesDirectory;
+        this.networkFactory = networkFactory;
     }
 }
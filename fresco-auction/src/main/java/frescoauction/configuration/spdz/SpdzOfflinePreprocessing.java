@@ -0,0 +1,61 @@
+package frescoauction.configuration.spdz;
+
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import frescoauction.util.Utils;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Callable;
+
+/**
+ * A task for the offline phase of the Spdz protocol suite. It produces preprocessed values ahead of time
+ * and stockpiles them in a store (see {@link SpdzPreprocessedValuesStore}), which can be consumed later on by
+ * auctions with {@link Utils.Preprocessing#Stored} as preprocessing strategy.<br>
+ * The values are produced with the preprocessing strategy of the provided configuration
+ * ({@link Utils.Preprocessing#Mascot} or {@link Utils.Preprocessing#Dummy}). All parties of the party set have to
+ * run this task at the same time with the same amount.
+ */
+public class SpdzOfflinePreprocessing implements Callable<Path> {
+    private final SpdzConfiguration spdzConfiguration;
+    private final NetworkConfiguration networkConfiguration;
+    private final PreprocessingAmount amount;
+
+    /**
+     * @param spdzConfiguration configuration, which provides the preprocessing strategy and the directory of the store.
+     * @param networkConfiguration network configuration of the party set.
+     * @param amount amount of preprocessed values, which should be produced.
+     * @throws IllegalArgumentException is thrown if the preprocessing strategy is {@link Utils.Preprocessing#Stored}.
+     */
+    public SpdzOfflinePreprocessing(SpdzConfiguration spdzConfiguration, NetworkConfiguration networkConfiguration,
+                                    PreprocessingAmount amount) throws IllegalArgumentException {
+        if(spdzConfiguration.getPreprocessingStrategy() == Utils.Preprocessing.Stored)
+            throw new IllegalArgumentException("Preprocessed values can not be produced from a store.");
+        this.spdzConfiguration = spdzConfiguration;
+        this.networkConfiguration = networkConfiguration;
+        this.amount = amount;
+    }
+
+    /**
+     * Produces the preprocessed values and writes them into the store of the party.
+     * @return path of the written store.
+     * @throws Exception is thrown if the values could not be produced or written.
+     */
+    @Override
+    public Path call() throws Exception {
+        long partySetId = SpdzPreprocessedValuesStore.getPartySetId(networkConfiguration);
+        Path file = SpdzPreprocessedValuesStore.getStoreFile(
+                Paths.get(spdzConfiguration.getPreprocessedValuesDirectory()),
+                networkConfiguration.getMyId(), networkConfiguration.noOfParties(), partySetId);
+        SPDZAssembler assembler = new SPDZAssembler(spdzConfiguration, networkConfiguration);
+        assembler.assemble();
+        try {
+            SpdzPreprocessedValuesStore.write(file, assembler.getResourcePool().getDataSupplier(),
+                    networkConfiguration.getMyId(), networkConfiguration.noOfParties(), partySetId, amount);
+        } finally {
+            assembler.getSecureComputationEngine().shutdownSCE();
+            ((Closeable) assembler.getNetwork()).close();
+        }
+        return file;
+    }
+}
@@ -0,0 +1,185 @@
+package frescoauction.configuration.spdz;
+
+import dk.alexandra.fresco.framework.Party;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import dk.alexandra.fresco.suite.spdz.storage.SpdzDataSupplier;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Writes preprocessed values of the Spdz protocol suite into a compact binary store (one store per party and
+ * party set). The store can be consumed by {@link SpdzStoredDataSupplier}.<br>
+ * A party set is identified by the addresses of its parties in ascending order of the party ids
+ * (see {@link #getPartySetId(NetworkConfiguration)}). The id is part of the file name and of the header, so that
+ * a store is never used by another party set of the same size or after the party ids have been reassigned.<br>
+ * The header also contains the number of values, which have already been consumed from each section. These counters
+ * are advanced by {@link SpdzStoredDataSupplier}, so that a value is never handed out twice (also not
+ * by later evaluations, which read the same store).<br>
+ * Layout of the store (all integers are big endian, all field elements have the same fixed length):
+ * <pre>
+ * header:      magic, version, partyId, number of parties, party set id, modulus length, modulus, element length,
+ *              secret shared key, #triples, #bits, #random elements, #exp pipes, exp pipe length, #input masks,
+ *              consumed: #triples, #bits, #random elements, #exp pipes, #input masks (for every party)
+ * triples:     (a.share, a.mac, b.share, b.mac, c.share, c.mac) * #triples
+ * bits:        (share, mac) * #bits
+ * random:      (share, mac) * #random elements
+ * exp pipes:   (share, mac) * exp pipe length * #exp pipes
+ * input masks: for every party: (share, mac[, real value]) * #input masks (real value only for own masks)
+ * </pre>
+ */
+public class SpdzPreprocessedValuesStore {
+    /** Magic number, which identifies a store.*/
+    static final int MAGIC = 0x53504450;
+    /** Version of the layout.*/
+    static final int VERSION = 3;
+
+    /**
+     * Provides the location of the store, which belongs to the owner of the network configuration and its party set.
+     * @param directory directory, which contains the stores.
+     * @param networkConfiguration network configuration of the party set from the view of the owner.
+     * @return path of the store.
+     */
+    public static Path getStoreFile(Path directory, NetworkConfiguration networkConfiguration){
+        return getStoreFile(directory, networkConfiguration.getMyId(), networkConfiguration.noOfParties(),
+                getPartySetId(networkConfiguration));
+    }
+
+    /**
+     * Provides the location of the store, which belongs to the provided party and party set.
+     * @param directory directory, which contains the stores.
+     * @param myId partyId of the owner.
+     * @param noOfParties number of parties in the party set.
+     * @param partySetId id of the party set.
+     * @return path of the store.
+     */
+    public static Path getStoreFile(Path directory, int myId, int noOfParties, long partySetId){
+        return directory.resolve(String.format("spdz-%d-of-%d-%016x.bin", myId, noOfParties, partySetId));
+    }
+
+    /**
+     * Derives the id of a party set from the addresses (host:port) of all parties in ascending order of the
+     * party ids. All parties of the set derive the same id.
+     * @param networkConfiguration network configuration of the party set.
+     * @return id of the party set (first 8 bytes of the SHA-256 hash of the addresses).
+     */
+    public static long getPartySetId(NetworkConfiguration networkConfiguration){
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported.", e);
+        }
+        for(int partyId = 1; partyId <= networkConfiguration.noOfParties(); partyId++){
+            Party party = networkConfiguration.getParty(partyId);
+            digest.update((party.getHostname() + ":" + party.getPort() + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+    /**
+     * Draws preprocessed values from the provided supplier and writes them into a store.
+     * If the supplier is interactive (e.g. mascot), all parties have to call this method with the same amount.
+     * @param file path of the store (existing store will be overwritten).
+     * @param supplier source of the preprocessed values.
+     * @param myId partyId of the owner.
+     * @param noOfParties number of parties in the party set.
+     * @param partySetId id of the party set (see {@link #getPartySetId(NetworkConfiguration)}).
+     * @param amount amount of preprocessed values, which should be written.
+     * @throws IOException is thrown if the store could not be written.
+     */
+    public static void write(Path file, SpdzDataSupplier supplier, int myId, int noOfParties, long partySetId,
+                             PreprocessingAmount amount) throws IOException {
+        FieldDefinition definition = supplier.getFieldDefinition();
+        byte[] modulus = definition.getModulus().toByteArray();
+        int elementLength = getElementLength(definition.getModulus());
+        SpdzSInt[] firstPipe = amount.getExpPipes() > 0 ? supplier.getNextExpPipe() : new SpdzSInt[0];
+        if(file.getParent() != null) Files.createDirectories(file.getParent());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(myId);
+            out.writeInt(noOfParties);
+            out.writeLong(partySetId);
+            out.writeInt(modulus.length);
+            out.write(modulus);
+            out.writeInt(elementLength);
+            writeElement(out, definition, supplier.getSecretSharedKey(), elementLength);
+            out.writeInt(amount.getTriples());
+            out.writeInt(amount.getBits());
+            out.writeInt(amount.getRandomElements());
+            out.writeInt(amount.getExpPipes());
+            out.writeInt(firstPipe.length);
+            out.writeInt(amount.getInputMasks());
+            // nothing has been consumed yet
+            for(int i = 0; i < 4 + noOfParties; i++){
+                out.writeInt(0);
+            }
+            for(int i = 0; i < amount.getTriples(); i++){
+                SpdzTriple triple = supplier.getNextTriple();
+                writeSInt(out, definition, triple.getA(), elementLength);
+                writeSInt(out, definition, triple.getB(), elementLength);
+                writeSInt(out, definition, triple.getC(), elementLength);
+            }
+            for(int i = 0; i < amount.getBits(); i++){
+                writeSInt(out, definition, supplier.getNextBit(), elementLength);
+            }
+            for(int i = 0; i < amount.getRandomElements(); i++){
+                writeSInt(out, definition, supplier.getNextRandomFieldElement(), elementLength);
+            }
+            for(int i = 0; i < amount.getExpPipes(); i++){
+                SpdzSInt[] pipe = i == 0 ? firstPipe : supplier.getNextExpPipe();
+                if(pipe.length != firstPipe.length)
+                    throw new IllegalStateException("All exponentiation pipes should have the same length.");
+                for(SpdzSInt value : pipe){
+                    writeSInt(out, definition, value, elementLength);
+                }
+            }
+            for(int partyId = 1; partyId <= noOfParties; partyId++){
+                for(int i = 0; i < amount.getInputMasks(); i++){
+                    SpdzInputMask inputMask = supplier.getNextInputMask(partyId);
+                    writeSInt(out, definition, inputMask.getMask(), elementLength);
+                    if(partyId == myId) writeElement(out, definition, inputMask.getRealValue(), elementLength);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param modulus modulus of the field.
+     * @return number of bytes, which are needed to store a field element.
+     */
+    static int getElementLength(BigInteger modulus){
+        return (modulus.bitLength() + 7) / 8;
+    }
+
+    private static void writeSInt(DataOutputStream out, FieldDefinition definition, SpdzSInt value,
+                                  int elementLength) throws IOException {
+        writeElement(out, definition, value.getShare(), elementLength);
+        writeElement(out, definition, value.getMac(), elementLength);
+    }
+
+    private static void writeElement(DataOutputStream out, FieldDefinition definition, FieldElement element,
+                                     int elementLength) throws IOException {
+        byte[] value = definition.convertToUnsigned(element).toByteArray();
+        // drops the sign byte of BigInteger and pads the value to the fixed length
+        int offset = Math.max(0, value.length - elementLength);
+        for(int i = value.length - offset; i < elementLength; i++){
+            out.write(0);
+        }
+        out.write(value, offset, value.length - offset);
+    }
+}
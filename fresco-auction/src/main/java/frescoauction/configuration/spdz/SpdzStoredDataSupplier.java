@@ -0,0 +1,257 @@
+package frescoauction.configuration.spdz;
+
+import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import dk.alexandra.fresco.suite.spdz.storage.SpdzDataSupplier;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link SpdzDataSupplier}, which consumes preprocessed values from a store written by
+ * {@link SpdzPreprocessedValuesStore}. The store is memory-mapped, so that the online phase
+ * only has to read the values (no interaction with other parties is needed).<br>
+ * Every value is consumed only once: the consumed counters in the header of the store are advanced before a value
+ * is handed out and are written through to the file. A supplier, which is created later on for the same store
+ * (e.g. for the next auction), continues with the first value, which has not been consumed yet. Suppliers of the same
+ * store within one process are synchronized, so that they never hand out the same value.
+ * If the store runs out of values, an {@link IllegalStateException} is thrown.
+ */
+public class SpdzStoredDataSupplier implements SpdzDataSupplier {
+    /** Locks of the stores (mapped by the real path), which synchronize all suppliers of the same store.*/
+    private static final Map<Path, Object> storeLocks = new ConcurrentHashMap<>();
+    private final int myId;
+    private final int noOfParties;
+    private final long partySetId;
+    private final int elementLength;
+    private final int expPipeLength;
+    private final FieldDefinition fieldDefinition;
+    private final FieldElement secretSharedKey;
+    /** Memory-mapped store (changes of the consumed counters are written through to the file).*/
+    private final MappedByteBuffer store;
+    /** Lock of the store, which is shared with all suppliers of the same store.*/
+    private final Object storeLock;
+    private final Section triples;
+    private final Section bits;
+    private final Section randomElements;
+    private final Section expPipes;
+    /** Input masks (index: partyId - 1).*/
+    private final Section[] inputMasks;
+
+    /**
+     * @param file path of the store.
+     * @throws IOException is thrown if the store could not be read.
+     * @throws IllegalArgumentException is thrown if the file is not a valid store.
+     */
+    public SpdzStoredDataSupplier(Path file) throws IOException, IllegalArgumentException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            store = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        }
+        storeLock = storeLocks.computeIfAbsent(file.toRealPath(), path -> new Object());
+        if(store.getInt() != SpdzPreprocessedValuesStore.MAGIC || store.getInt() != SpdzPreprocessedValuesStore.VERSION)
+            throw new IllegalArgumentException("Unsupported store: " + file);
+        myId = store.getInt();
+        noOfParties = store.getInt();
+        partySetId = store.getLong();
+        byte[] modulus = new byte[store.getInt()];
+        store.get(modulus);
+        fieldDefinition = new BigIntegerFieldDefinition(new BigInteger(modulus));
+        elementLength = store.getInt();
+        secretSharedKey = readElement(store);
+        int tripleCount = store.getInt();
+        int bitCount = store.getInt();
+        int randomElementCount = store.getInt();
+        int expPipeCount = store.getInt();
+        expPipeLength = store.getInt();
+        int inputMaskCount = store.getInt();
+        int counterPosition = store.position();
+        store.position(counterPosition + (4 + noOfParties) * Integer.BYTES);
+        int sIntLength = 2 * elementLength;
+        triples = section("triples", tripleCount, 3 * sIntLength, counterPosition);
+        bits = section("bits", bitCount, sIntLength, counterPosition + Integer.BYTES);
+        randomElements = section("random field elements", randomElementCount, sIntLength,
+                counterPosition + 2 * Integer.BYTES);
+        expPipes = section("exponentiation pipes", expPipeCount, expPipeLength * sIntLength,
+                counterPosition + 3 * Integer.BYTES);
+        inputMasks = new Section[noOfParties];
+        for(int partyId = 1; partyId <= noOfParties; partyId++){
+            int maskLength = partyId == myId ? sIntLength + elementLength : sIntLength;
+            inputMasks[partyId - 1] = section("input masks", inputMaskCount, maskLength,
+                    counterPosition + (3 + partyId) * Integer.BYTES);
+        }
+    }
+
+    /**
+     * @return partyId of the owner of the store.
+     */
+    public int getMyId() {
+        return myId;
+    }
+
+    /**
+     * @return number of parties in the party set of the store.
+     */
+    public int getNoOfParties() {
+        return noOfParties;
+    }
+
+    /**
+     * @return id of the party set of the store (see {@link SpdzPreprocessedValuesStore#getPartySetId}).
+     */
+    public long getPartySetId() {
+        return partySetId;
+    }
+
+    /**
+     * @return number of triples, which have been consumed from the store (by all suppliers of the store).
+     */
+    public int getConsumedTriples() {
+        return getConsumed(triples);
+    }
+
+    /**
+     * @return number of bits, which have been consumed from the store (by all suppliers of the store).
+     */
+    public int getConsumedBits() {
+        return getConsumed(bits);
+    }
+
+    /**
+     * @param partyId partyId of the party, which provides the input.
+     * @return number of input masks of the party, which have been consumed from the store
+     * (by all suppliers of the store).
+     */
+    public int getConsumedInputMasks(int partyId) {
+        return getConsumed(inputMasks[partyId - 1]);
+    }
+
+    @Override
+    public SpdzTriple getNextTriple() {
+        ByteBuffer triple = consume(triples);
+        return new SpdzTriple(readSInt(triple), readSInt(triple), readSInt(triple));
+    }
+
+    @Override
+    public SpdzSInt[] getNextExpPipe() {
+        if(expPipeLength == 0) throw new IllegalStateException("No preprocessed exponentiation pipes in the store.");
+        ByteBuffer values = consume(expPipes);
+        SpdzSInt[] pipe = new SpdzSInt[expPipeLength];
+        for(int i = 0; i < expPipeLength; i++){
+            pipe[i] = readSInt(values);
+        }
+        return pipe;
+    }
+
+    @Override
+    public SpdzInputMask getNextInputMask(int towardPlayerId) {
+        ByteBuffer mask = consume(inputMasks[towardPlayerId - 1]);
+        if(towardPlayerId == myId){
+            return new SpdzInputMask(readSInt(mask), readElement(mask));
+        }
+        return new SpdzInputMask(readSInt(mask));
+    }
+
+    @Override
+    public SpdzSInt getNextBit() {
+        return readSInt(consume(bits));
+    }
+
+    @Override
+    public FieldDefinition getFieldDefinition() {
+        return fieldDefinition;
+    }
+
+    @Override
+    public FieldElement getSecretSharedKey() {
+        return secretSharedKey;
+    }
+
+    @Override
+    public SpdzSInt getNextRandomFieldElement() {
+        return readSInt(consume(randomElements));
+    }
+
+    /**
+     * Splits off the next section of the store.
+     * @param name name of the values (used in error messages).
+     * @param count number of values in the section.
+     * @param valueLength length of a single value in bytes.
+     * @param counterPosition position of the consumed counter of the section in the header.
+     * @return section, which starts at the current position of the store.
+     */
+    private Section section(String name, int count, int valueLength, int counterPosition){
+        Section section = new Section(name, store.position(), count, valueLength, counterPosition);
+        store.position(store.position() + count * valueLength);
+        return section;
+    }
+
+    /**
+     * Marks the next value of the section as consumed.
+     * @param section section of the value.
+     * @return a buffer, which position is at the beginning of the value.
+     * @throws IllegalStateException is thrown if all values of the section have been consumed.
+     */
+    private ByteBuffer consume(Section section) throws IllegalStateException {
+        int consumed;
+        synchronized (storeLock){
+            consumed = store.getInt(section.counterPosition);
+            if(consumed >= section.count)
+                throw new IllegalStateException("No preprocessed " + section.name + " left in the store.");
+            store.putInt(section.counterPosition, consumed + 1);
+        }
+        ByteBuffer value = store.duplicate();
+        value.position(section.offset + consumed * section.valueLength);
+        return value;
+    }
+
+    private int getConsumed(Section section){
+        synchronized (storeLock){
+            return store.getInt(section.counterPosition);
+        }
+    }
+
+    private SpdzSInt readSInt(ByteBuffer buffer){
+        return new SpdzSInt(readElement(buffer), readElement(buffer));
+    }
+
+    private FieldElement readElement(ByteBuffer buffer){
+        byte[] value = new byte[elementLength];
+        buffer.get(value);
+        return fieldDefinition.createElement(new BigInteger(1, value));
+    }
+
+    /**
+     * Describes a section of the store, which contains values of the same type.
+     */
+    private static final class Section {
+        /** Name of the values (used in error messages).*/
+        private final String name;
+        /** Position of the first value in the store.*/
+        private final int offset;
+        /** Number of values.*/
+        private final int count;
+        /** Length of a single value in bytes.*/
+        private final int valueLength;
+        /** Position of the consumed counter in the header of the store.*/
+        private final int counterPosition;
+
+        private Section(String name, int offset, int count, int valueLength, int counterPosition) {
+            this.name = name;
+            this.offset = offset;
+            this.count = count;
+            this.valueLength = valueLength;
+            this.counterPosition = counterPosition;
+        }
+    }
+}
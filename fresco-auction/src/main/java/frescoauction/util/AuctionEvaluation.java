@@ -9,6 +9,7 @@ import frescoauction.auction.Auction;
 import frescoauction.auction.AuctionFactory;
 import frescoauction.configuration.ProtocolConfiguration;
 import frescoauction.configuration.dummy.DummyArithmeticConfiguration;
+import frescoauction.configuration.network.NetworkStatistics;
 import frescoauction.configuration.spdz.SpdzConfiguration;
 
 import java.time.Duration;
@@ -16,12 +17,12 @@ import java.util.concurrent.Callable;
 
 /**
  * A task for auction evaluation.
- * The max bit length of the arithmetic suites is set to 31.
+ * The protocol suite is tuned by {@link EvaluationParameters} (default: sequential evaluation, bit length 31).
  * The timeout of the computation is set to 2 hours.
+ * The network statistics of the party are attached to the result
+ * ({@link frescoauction.auction.Auction.AuctionResult#getNetworkStatistics()}).
  */
 public class AuctionEvaluation implements Callable<Auction.AuctionResult> {
-    /** Max bit length, which should be used by the suite.*/
-    private static final int BIT_LENGTH = 31;
     /** Max duration of the evaluation (hours).*/
     private static final int TIMEOUT = 2;
 
@@ -29,6 +30,7 @@ public class AuctionEvaluation implements Callable<Auction.AuctionResult> {
     private final int bid;
     private final Utils.ProtocolSuite protocolSuite;
     private final Utils.Preprocessing preprocessing;
+    private final EvaluationParameters parameters;
     private final NetworkConfiguration networkConfiguration;
 
 
@@ -43,37 +45,111 @@ public class AuctionEvaluation implements Callable<Auction.AuctionResult> {
     public AuctionEvaluation(Utils.AuctionType auctionType, int bid,
                              Utils.ProtocolSuite protocolSuite, Utils.Preprocessing preprocessing,
                              NetworkConfiguration networkConfiguration) {
+        this(auctionType, bid, protocolSuite, preprocessing, EvaluationParameters.builder().build(), networkConfiguration);
+    }
+
+    /**
+     * @param auctionType auction type.
+     * @param bid secret bid (should not be lower than 1).
+     * @param preprocessing pre processing strategy.
+     * @param parameters tuning parameters of the protocol suite (have to be the same for all parties).
+     * @param networkConfiguration network configuration (number of parties should not be lower than 2).
+     */
+    public AuctionEvaluation(Utils.AuctionType auctionType, int bid,
+                             Utils.ProtocolSuite protocolSuite, Utils.Preprocessing preprocessing,
+                             EvaluationParameters parameters, NetworkConfiguration networkConfiguration) {
         this.auctionType = auctionType;
         this.bid = bid;
         this.protocolSuite = protocolSuite;
         this.preprocessing = preprocessing;
+        this.parameters = parameters;
         this.networkConfiguration = networkConfiguration;
     }
 
+    /**
+     * @return the auction result.
+     * @throws IllegalArgumentException is thrown if the bid exceeds the bit length of the evaluation parameters.
+     * @throws Exception is thrown if the evaluation fails.
+     */
     @Override
     public Auction.AuctionResult call() throws Exception {
+        if(!parameters.isInRange(bid)) throw new IllegalArgumentException("Bid exceeds the bit length of the auction.");
         Application<Auction.AuctionResult, ProtocolBuilderNumeric> auction = AuctionFactory.getAuction(auctionType, bid, networkConfiguration);
+        Outcome<Auction.AuctionResult> outcome = evaluate(auction, protocolSuite, preprocessing, parameters,
+                networkConfiguration);
+        Auction.AuctionResult result = outcome.getOutput();
+        if(result != null) result.setNetworkStatistics(outcome.getNetworkStatistics());
+        return result;
+    }
+
+    /**
+     * Runs the fresco application with the provided protocol suite (timeout: {@link #TIMEOUT} hours).
+     * @param application fresco application, which should be run.
+     * @param protocolSuite protocol suite, which should be used for the evaluation.
+     * @param preprocessing pre processing strategy (is only used by {@link Utils.ProtocolSuite#Spdz}).
+     * @param parameters tuning parameters of the protocol suite.
+     * @param networkConfiguration network configuration.
+     * @param <OutputT> output type of the fresco application.
+     * @return computed output together with the network statistics of the computation.
+     * @throws IllegalArgumentException is thrown if the protocol suite is not supported.
+     */
+    static <OutputT> Outcome<OutputT> evaluate(Application<OutputT, ProtocolBuilderNumeric> application,
+                                               Utils.ProtocolSuite protocolSuite, Utils.Preprocessing preprocessing,
+                                               EvaluationParameters parameters, NetworkConfiguration networkConfiguration)
+            throws IllegalArgumentException {
         ProtocolConfiguration config = null;
-        Auction.AuctionResult result = null;
+        SMPC<?, ProtocolBuilderNumeric, OutputT> smpc = null;
         switch (protocolSuite){
             case Spdz:
                 config = SpdzConfiguration.builder()
                         .preprocessingStrategy(preprocessing)
-                        .maxBitLength(BIT_LENGTH)
+                        .evaluationStrategy(parameters.getEvaluationStrategy())
+                        .maxBatchSize(parameters.getMaxBatchSize())
+                        .maxBitLength(parameters.getMaxBitLength())
+                        .modBitLength(parameters.getModBitLength())
                         .build();
-                result = new SMPC<SpdzResourcePool, ProtocolBuilderNumeric, Auction.AuctionResult>(config, auction, networkConfiguration)
-                        .startComputation(Duration.ofHours(TIMEOUT));
+                smpc = new SMPC<SpdzResourcePool, ProtocolBuilderNumeric, OutputT>(config, application, networkConfiguration);
                 break;
             case DummyArithmetic:
                 config = DummyArithmeticConfiguration.builder()
-                        .maxBitLength(BIT_LENGTH)
+                        .evaluationStrategy(parameters.getEvaluationStrategy())
+                        .maxBatchSize(parameters.getMaxBatchSize())
+                        .maxBitLength(parameters.getMaxBitLength())
                         .build();
-                result = new SMPC<DummyArithmeticResourcePool, ProtocolBuilderNumeric, Auction.AuctionResult>(config, auction, networkConfiguration)
-                        .startComputation(Duration.ofHours(TIMEOUT));
+                smpc = new SMPC<DummyArithmeticResourcePool, ProtocolBuilderNumeric, OutputT>(config, application, networkConfiguration);
                 break;
             default:
                 throw new IllegalArgumentException("Unsupported suite.");
         }
-       return result;
+        OutputT result = smpc.startComputation(Duration.ofHours(TIMEOUT));
+        return new Outcome<>(result, smpc.getNetworkStatistics());
+    }
+
+    /**
+     * Output of a fresco application together with the network statistics of its computation.
+     * @param <OutputT> output type of the fresco application.
+     */
+    static class Outcome<OutputT> {
+        private final OutputT output;
+        private final NetworkStatistics networkStatistics;
+
+        private Outcome(OutputT output, NetworkStatistics networkStatistics) {
+            this.output = output;
+            this.networkStatistics = networkStatistics;
+        }
+
+        /**
+         * @return computed output.
+         */
+        OutputT getOutput() {
+            return output;
+        }
+
+        /**
+         * @return network statistics of the computation (null, if the computation has not finished successfully).
+         */
+        NetworkStatistics getNetworkStatistics() {
+            return networkStatistics;
+        }
     }
 }
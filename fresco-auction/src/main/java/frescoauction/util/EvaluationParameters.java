@@ -0,0 +1,139 @@
+package frescoauction.util;
+
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
+import frescoauction.configuration.ProtocolConfiguration;
+import frescoauction.configuration.spdz.SpdzConfiguration;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Tuning parameters of an auction evaluation, which are used for assembling the protocol suite
+ * (see {@link AuctionEvaluation}). All parties of an auction have to use the same parameters.
+ * That can be build with a Builder which is generated by the Project Lombok library.<br>
+ * <pre>{@code
+ * // default parameters (usage example)
+ * EvaluationParameters parameters = EvaluationParameters.builder()
+ *         .evaluationStrategy(EvaluationStrategy.SEQUENTIAL)
+ *         .maxBatchSize(DEFAULT_MAX_BATCH_SIZE)
+ *         .maxBitLength(DEFAULT_MAX_BIT_LENGTH)
+ *         .modBitLength(DEFAULT_MOD_BIT_LENGTH)
+ *         .build();
+ * // is same as:
+ * EvaluationParameters parameters = EvaluationParameters.builder()
+ *         .build();
+ * // parameters, which are derived from the maximum bid (smaller comparison circuits and modulus)
+ * EvaluationParameters parameters = EvaluationParameters.builder()
+ *         .build()
+ *         .withMaxBid(65535);
+ * }</pre>
+ */
+@Builder
+@Getter
+@ToString
+public class EvaluationParameters {
+    /** Default bit length (is sufficient for all positive int bids).*/
+    public static final int DEFAULT_MAX_BIT_LENGTH = 31;
+    /** Default batch size.*/
+    public static final int DEFAULT_MAX_BATCH_SIZE = ProtocolConfiguration.DEFAULT_MAX_BATCH_SIZE;
+    /** Smallest bit length, which is supported by the comparison protocol of fresco.*/
+    public static final int MIN_BIT_LENGTH = 2;
+    /** Default mod bit length.*/
+    public static final int DEFAULT_MOD_BIT_LENGTH = SpdzConfiguration.DEFAULT_MOD_BIT_LENGTH;
+    /**
+     * Statistical security parameter of the comparison protocol, which is used by fresco
+     * ({@link dk.alexandra.fresco.framework.builder.numeric.DefaultComparison}). The random mask of a comparison
+     * has bit length + security parameter bits, so the modulus has to be larger.
+     */
+    public static final int COMPARISON_SECURITY_PARAMETER = 60;
+
+    /** Evaluation strategy. Default: {@link EvaluationStrategy#SEQUENTIAL}.*/
+    @Builder.Default
+    private EvaluationStrategy evaluationStrategy = EvaluationStrategy.SEQUENTIAL;
+
+    /** Batch size. Default: {@link #DEFAULT_MAX_BATCH_SIZE}.*/
+    @Builder.Default
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    /** Bit length of the compared values. Default: {@link #DEFAULT_MAX_BIT_LENGTH}.*/
+    @Builder.Default
+    private int maxBitLength = DEFAULT_MAX_BIT_LENGTH;
+
+    /** Mod bit length (is only used by {@link Utils.ProtocolSuite#Spdz}). Default: {@link #DEFAULT_MOD_BIT_LENGTH}.*/
+    @Builder.Default
+    private int modBitLength = DEFAULT_MOD_BIT_LENGTH;
+
+    /**
+     * @throws IllegalArgumentException is thrown if the evaluation strategy is missing, the batch size is lower than 1,
+     * the bit length is lower than {@link #MIN_BIT_LENGTH} or the mod bit length is not safe for the bit length (see {@link #getMinModBitLength(int)}).
+     */
+    private EvaluationParameters(EvaluationStrategy evaluationStrategy, int maxBatchSize,
+                                 int maxBitLength, int modBitLength) throws IllegalArgumentException {
+        if(evaluationStrategy == null) throw new IllegalArgumentException("Evaluation strategy is missing.");
+        if(maxBatchSize < 1) throw new IllegalArgumentException("Batch size should not be lower than 1.");
+        if(maxBitLength < MIN_BIT_LENGTH) throw new IllegalArgumentException("Bit length should not be lower than 2.");
+        if(modBitLength < getMinModBitLength(maxBitLength))
+            throw new IllegalArgumentException("Mod bit length is too small for the bit length.");
+        if(modBitLength % 8 != 0) throw new IllegalArgumentException("Mod bit length has to be divisible by 8.");
+        this.evaluationStrategy = evaluationStrategy;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBitLength = maxBitLength;
+        this.modBitLength = modBitLength;
+    }
+
+    /**
+     * Creates a copy of the parameters, which uses the smallest bit length for the given maximum bid
+     * (at least {@link #MIN_BIT_LENGTH}) and
+     * the smallest safe mod bit length for this bit length. The evaluation strategy and the batch size are kept.
+     * @param maxBid maximum bid (should not be lower than 1).
+     * @return a new instance of {@link EvaluationParameters}.
+     * @throws IllegalArgumentException is thrown if the maximum bid is lower than 1.
+     */
+    public EvaluationParameters withMaxBid(int maxBid) throws IllegalArgumentException {
+        if(maxBid < 1) throw new IllegalArgumentException("Maximum bid should not be lower than 1.");
+        int bitLength = Math.max(MIN_BIT_LENGTH, getBitLength(maxBid));
+        return new EvaluationParameters(evaluationStrategy, maxBatchSize, bitLength, getMinModBitLength(bitLength));
+    }
+
+    /**
+     * Creates a copy of the parameters, whose bit length is at least the given bit length (e.g. if party ids are
+     * compared as well). The mod bit length is raised to the smallest safe mod bit length, if it is too small
+     * for the new bit length. The evaluation strategy and the batch size are kept.
+     * @param minBitLength minimum bit length.
+     * @return these parameters, if the bit length is sufficient, or a new instance of {@link EvaluationParameters}.
+     */
+    public EvaluationParameters withMinBitLength(int minBitLength) {
+        if(maxBitLength >= minBitLength) return this;
+        return new EvaluationParameters(evaluationStrategy, maxBatchSize, minBitLength,
+                Math.max(modBitLength, getMinModBitLength(minBitLength)));
+    }
+
+    /**
+     * @param value value, which should be checked (e.g. a bid).
+     * @return true, if the value can be compared with the bit length of the parameters or false otherwise.
+     */
+    public boolean isInRange(int value){
+        return value >= 0 && getBitLength(value) <= maxBitLength;
+    }
+
+    /**
+     * @param value non-negative value.
+     * @return number of bits, which are needed to represent the value.
+     */
+    public static int getBitLength(int value){
+        return Integer.SIZE - Integer.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Computes the smallest mod bit length, which is safe for comparing values of the given bit length:
+     * the compared difference (bit length + 1 bits) plus the random mask ({@link #COMPARISON_SECURITY_PARAMETER}
+     * additional bits) must not wrap around the modulus. The result is rounded up to a multiple of 8,
+     * which is required by fresco for finding a modulus.
+     * @param maxBitLength bit length of the compared values.
+     * @return smallest safe mod bit length.
+     */
+    public static int getMinModBitLength(int maxBitLength){
+        int minimum = maxBitLength + COMPARISON_SECURITY_PARAMETER + 2;
+        return (minimum + 7) / 8 * 8;
+    }
+}
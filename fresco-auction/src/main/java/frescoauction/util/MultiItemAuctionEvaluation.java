@@ -0,0 +1,81 @@
+package frescoauction.util;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import frescoauction.auction.Auction;
+import frescoauction.auction.AuctionFactory;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * A task for the evaluation of several auctions (one per item) with the same set of bidders in a single computation.
+ * The suite configuration and the timeout are the same as in {@link AuctionEvaluation}.
+ */
+public class MultiItemAuctionEvaluation implements Callable<List<Auction.AuctionResult>> {
+    private final Utils.AuctionType auctionType;
+    private final int noOfItems;
+    private final int[] bids;
+    private final Utils.ProtocolSuite protocolSuite;
+    private final Utils.Preprocessing preprocessing;
+    private final EvaluationParameters parameters;
+    private final NetworkConfiguration networkConfiguration;
+
+    /**
+     * @param auctionType auction type, which should be used for each item.
+     * @param noOfItems number of items, which was agreed on by all parties.
+     * @param bids secret bids, one per item (no bid should be lower than 1).
+     * @param protocolSuite protocol suite, which should be used for the evaluation.
+     * @param preprocessing pre processing strategy.
+     * @param networkConfiguration network configuration (number of parties should not be lower than 2).
+     */
+    public MultiItemAuctionEvaluation(Utils.AuctionType auctionType, int noOfItems, int[] bids,
+                                      Utils.ProtocolSuite protocolSuite, Utils.Preprocessing preprocessing,
+                                      NetworkConfiguration networkConfiguration) {
+        this(auctionType, noOfItems, bids, protocolSuite, preprocessing, EvaluationParameters.builder().build(),
+                networkConfiguration);
+    }
+
+    /**
+     * @param auctionType auction type, which should be used for each item.
+     * @param noOfItems number of items, which was agreed on by all parties.
+     * @param bids secret bids, one per item (no bid should be lower than 1).
+     * @param protocolSuite protocol suite, which should be used for the evaluation.
+     * @param preprocessing pre processing strategy.
+     * @param parameters tuning parameters of the protocol suite (have to be the same for all parties).
+     * @param networkConfiguration network configuration (number of parties should not be lower than 2).
+     */
+    public MultiItemAuctionEvaluation(Utils.AuctionType auctionType, int noOfItems, int[] bids,
+                                      Utils.ProtocolSuite protocolSuite, Utils.Preprocessing preprocessing,
+                                      EvaluationParameters parameters, NetworkConfiguration networkConfiguration) {
+        this.auctionType = auctionType;
+        this.noOfItems = noOfItems;
+        this.bids = bids;
+        this.protocolSuite = protocolSuite;
+        this.preprocessing = preprocessing;
+        this.parameters = parameters;
+        this.networkConfiguration = networkConfiguration;
+    }
+
+    /**
+     * @return results of the auctions in the order of the items.
+     * @throws IllegalArgumentException is thrown if the number of bids differs from the number of items or
+     * a bid exceeds the bit length of the evaluation parameters.
+     * @throws Exception is thrown if the evaluation fails.
+     */
+    @Override
+    public List<Auction.AuctionResult> call() throws Exception {
+        for(int bid : bids){
+            if(!parameters.isInRange(bid)) throw new IllegalArgumentException("Bid exceeds the bit length of the auction.");
+        }
+        Application<List<Auction.AuctionResult>, ProtocolBuilderNumeric> auction =
+                AuctionFactory.getMultiItemAuction(auctionType, noOfItems, bids, networkConfiguration);
+        AuctionEvaluation.Outcome<List<Auction.AuctionResult>> outcome = AuctionEvaluation.evaluate(auction,
+                protocolSuite, preprocessing, parameters, networkConfiguration);
+        List<Auction.AuctionResult> results = outcome.getOutput();
+        // all items are evaluated in a single computation, so every result carries the statistics of the whole run
+        if(results != null) results.forEach(result -> result.setNetworkStatistics(outcome.getNetworkStatistics()));
+        return results;
+    }
+}
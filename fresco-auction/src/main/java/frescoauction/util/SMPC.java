@@ -4,17 +4,14 @@ import dk.alexandra.fresco.framework.Application;
 import dk.alexandra.fresco.framework.builder.ProtocolBuilder;
 import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
 import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
-import frescoauction.configuration.ProtocolAssembler;
-import frescoauction.configuration.ProtocolAssemblerFactory;
 import frescoauction.configuration.ProtocolConfiguration;
+import frescoauction.configuration.network.NetworkStatistics;
 
-
-import java.io.Closeable;
-import java.io.IOException;
 import java.time.Duration;
 
 /**
- * Helper class for running fresco applications.
+ * Helper class for running fresco applications. All components are assembled for a single application and
+ * are torn down afterwards. For running several applications among the same parties see {@link SMPCSession}.
  * @param <ResourcePoolT> resource pool, which will be used by the protocol suite.
  * @param <BuilderT> type of builder, which will be used by the protocol suite.
  * @param <OutputT> output type of the fresco application.
@@ -26,6 +23,8 @@ public class SMPC<ResourcePoolT extends ResourcePool, BuilderT extends ProtocolB
     private final Application<OutputT, BuilderT> application;
     /** Network configuration, which should be used by the fresco application.*/
     private final NetworkConfiguration networkConfig;
+    /** Network statistics of the computation (null, if the computation has not finished yet).*/
+    private NetworkStatistics networkStatistics;
 
     /**
      * @param protocolConfig protocol suite configuration.
@@ -45,21 +44,17 @@ public class SMPC<ResourcePoolT extends ResourcePool, BuilderT extends ProtocolB
      * @return computed output.
      */
     public OutputT startComputation(Duration duration){
-        ProtocolAssembler<ResourcePoolT, BuilderT> assembler = ProtocolAssemblerFactory
-                .getAssembler(protocolConfig, networkConfig);
-        assembler.assemble();
-        OutputT result = assembler.getSecureComputationEngine().runApplication(
-                        application,
-                        assembler.getResourcePool(),
-                        assembler.getNetwork(),
-                        duration);
-        assembler.getSecureComputationEngine().shutdownSCE();
-        Closeable closeableNetwork = ( Closeable) assembler.getNetwork();
-        try {
-            closeableNetwork.close();
-        } catch (IOException e) {
-            e.printStackTrace();
+        try (SMPCSession<ResourcePoolT, BuilderT> session = new SMPCSession<>(protocolConfig, networkConfig)) {
+            OutputT output = session.runApplication(application, duration);
+            networkStatistics = session.getLastNetworkStatistics();
+            return output;
         }
-        return result;
+    }
+
+    /**
+     * @return network statistics of the computation (null, if the computation has not finished successfully).
+     */
+    public NetworkStatistics getNetworkStatistics() {
+        return networkStatistics;
     }
 }
@@ -0,0 +1,127 @@
+package frescoauction.util;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.builder.ProtocolBuilder;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.network.Network;
+import dk.alexandra.fresco.framework.sce.resources.ResourcePool;
+import frescoauction.configuration.ProtocolAssembler;
+import frescoauction.configuration.ProtocolAssemblerFactory;
+import frescoauction.configuration.ProtocolConfiguration;
+import frescoauction.configuration.network.InstrumentedNetwork;
+import frescoauction.configuration.network.NetworkStatistics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * A long-lived session for running several fresco applications back-to-back among the same set of parties.
+ * In contrast to {@link SMPC}, the protocol suite, the resource pool and the network are assembled only once
+ * (when the first application is run) and are reused by all following applications. Thereby the connection set up
+ * and the offline phase of the protocol suite (e.g. seed OTs of mascot) are only done once per session.<br>
+ * All parties have to run the same applications in the same order. The session has to be closed by calling
+ * {@link #close()}, which shuts down the secure computation engine and closes the network.
+ * <pre>{@code
+ * // usage example
+ * try (SMPCSession<SpdzResourcePool, ProtocolBuilderNumeric> session = new SMPCSession<>(config, networkConfig)) {
+ *     Auction.AuctionResult first = session.runApplication(firstAuction, timeout);
+ *     Auction.AuctionResult second = session.runApplication(secondAuction, timeout);
+ * }
+ * }</pre>
+ * @param <ResourcePoolT> resource pool, which will be used by the protocol suite.
+ * @param <BuilderT> type of builder, which will be used by the protocol suite.
+ */
+public class SMPCSession<ResourcePoolT extends ResourcePool, BuilderT extends ProtocolBuilder> implements Closeable {
+    /** Configuration, which should be use for assembling the protocol suite.*/
+    private final ProtocolConfiguration protocolConfig;
+    /** Network configuration, which is used by all applications of the session.*/
+    private final NetworkConfiguration networkConfig;
+    /** Assembler, which holds the components of the session (null, if not assembled yet).*/
+    private ProtocolAssembler<ResourcePoolT, BuilderT> assembler;
+    /** Indicates, if the session was closed.*/
+    private boolean closed = false;
+    /** Network statistics of the last application, which was run (null, if no application was run yet).*/
+    private NetworkStatistics lastNetworkStatistics;
+
+    /**
+     * @param protocolConfig protocol suite configuration.
+     * @param networkConfig network configuration, which should be used by all applications of the session.
+     */
+    public SMPCSession(ProtocolConfiguration protocolConfig, NetworkConfiguration networkConfig) {
+        this.protocolConfig = protocolConfig;
+        this.networkConfig = networkConfig;
+    }
+
+    /**
+     * Runs the fresco application within the session. The components of the session are assembled
+     * on the first call. The calling thread will be blocked until computation is finished.
+     * @param application fresco application, which should be run.
+     * @param duration timeout.
+     * @param <OutputT> output type of the fresco application.
+     * @return computed output.
+     * @throws IllegalStateException is thrown if the session is already closed.
+     * @see #getLastNetworkStatistics()
+     */
+    public synchronized <OutputT> OutputT runApplication(Application<OutputT, BuilderT> application, Duration duration)
+            throws IllegalStateException {
+        if(closed) throw new IllegalStateException("Session is already closed.");
+        if(assembler == null){
+            ProtocolAssembler<ResourcePoolT, BuilderT> newAssembler = ProtocolAssemblerFactory
+                    .getAssembler(protocolConfig, networkConfig);
+            newAssembler.assemble();
+            assembler = newAssembler;
+        }
+        Network network = assembler.getNetwork();
+        NetworkStatistics before = network instanceof InstrumentedNetwork
+                ? ((InstrumentedNetwork) network).getStatistics()
+                : null;
+        OutputT output = assembler.getSecureComputationEngine().runApplication(
+                application,
+                assembler.getResourcePool(),
+                network,
+                duration);
+        if(before != null) lastNetworkStatistics = ((InstrumentedNetwork) network).getStatistics().minus(before);
+        return output;
+    }
+
+    /**
+     * @return network statistics of the last application, which has been run successfully
+     * (null, if no application was run yet or the network of the assembler is not instrumented).
+     */
+    public synchronized NetworkStatistics getLastNetworkStatistics() {
+        return lastNetworkStatistics;
+    }
+
+    /**
+     * @return network configuration, which is used by all applications of the session.
+     */
+    public NetworkConfiguration getNetworkConfiguration() {
+        return networkConfig;
+    }
+
+    /**
+     * @return true, if the session was closed or false otherwise.
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Closes the session by shutting down the secure computation engine and closing the network.
+     * Calling this method on a closed session has no effect.
+     */
+    @Override
+    public synchronized void close() {
+        if(closed) return;
+        closed = true;
+        if(assembler == null) return;
+        assembler.getSecureComputationEngine().shutdownSCE();
+        Closeable closeableNetwork = (Closeable) assembler.getNetwork();
+        try {
+            closeableNetwork.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package frescoauction.util;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import frescoauction.auction.Auction;
+import frescoauction.auction.AuctionFactory;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * A task for the evaluation of a k-unit uniform price auction ({@link frescoauction.auction.UniformPriceAuction}).
+ * The suite configuration and the timeout are the same as in {@link AuctionEvaluation}, except that the bit length
+ * is widened to the bit length of the party ids, which are compared as well.
+ */
+public class UniformPriceAuctionEvaluation implements Callable<List<Auction.AuctionResult>> {
+    private final int units;
+    private final int bid;
+    private final Utils.ProtocolSuite protocolSuite;
+    private final Utils.Preprocessing preprocessing;
+    private final EvaluationParameters parameters;
+    private final NetworkConfiguration networkConfiguration;
+
+    /**
+     * @param units number of units, which are sold (should not be lower than 1).
+     * @param bid secret bid (should not be lower than 1).
+     * @param protocolSuite protocol suite, which should be used for the evaluation.
+     * @param preprocessing pre processing strategy.
+     * @param networkConfiguration network configuration (number of parties should exceed the number of units).
+     */
+    public UniformPriceAuctionEvaluation(int units, int bid,
+                                         Utils.ProtocolSuite protocolSuite, Utils.Preprocessing preprocessing,
+                                         NetworkConfiguration networkConfiguration) {
+        this(units, bid, protocolSuite, preprocessing, EvaluationParameters.builder().build(), networkConfiguration);
+    }
+
+    /**
+     * @param units number of units, which are sold (should not be lower than 1).
+     * @param bid secret bid (should not be lower than 1).
+     * @param protocolSuite protocol suite, which should be used for the evaluation.
+     * @param preprocessing pre processing strategy.
+     * @param parameters tuning parameters of the protocol suite (have to be the same for all parties).
+     * @param networkConfiguration network configuration (number of parties should exceed the number of units).
+     */
+    public UniformPriceAuctionEvaluation(int units, int bid,
+                                         Utils.ProtocolSuite protocolSuite, Utils.Preprocessing preprocessing,
+                                         EvaluationParameters parameters, NetworkConfiguration networkConfiguration) {
+        this.units = units;
+        this.bid = bid;
+        this.protocolSuite = protocolSuite;
+        this.preprocessing = preprocessing;
+        this.parameters = parameters;
+        this.networkConfiguration = networkConfiguration;
+    }
+
+    /**
+     * @return results of the auction (one per winner) in ascending order of the partyIds.
+     * @throws IllegalArgumentException is thrown if the bid exceeds the bit length of the evaluation parameters.
+     * @throws Exception is thrown if the evaluation fails.
+     */
+    @Override
+    public List<Auction.AuctionResult> call() throws Exception {
+        if(!parameters.isInRange(bid)) throw new IllegalArgumentException("Bid exceeds the bit length of the auction.");
+        Application<List<Auction.AuctionResult>, ProtocolBuilderNumeric> auction =
+                AuctionFactory.getUniformPriceAuction(units, bid, networkConfiguration);
+        // the party ids of the winners are sorted as well, so a bit length derived from a small maximum bid is too short
+        EvaluationParameters suiteParameters = parameters.withMinBitLength(
+                EvaluationParameters.getBitLength(networkConfiguration.noOfParties()));
+        AuctionEvaluation.Outcome<List<Auction.AuctionResult>> outcome = AuctionEvaluation.evaluate(auction,
+                protocolSuite, preprocessing, suiteParameters, networkConfiguration);
+        List<Auction.AuctionResult> results = outcome.getOutput();
+        // all winners are determined in a single computation, so every result carries the statistics of the whole run
+        if(results != null) results.forEach(result -> result.setNetworkStatistics(outcome.getNetworkStatistics()));
+        return results;
+    }
+}
@@ -52,6 +52,12 @@ public class Utils {
         /**
          * Not secure preprocessing strategy. Should only be used for testing purposes.
          */
-        Dummy
+        Dummy,
+
+        /**
+         * Preprocessed values are consumed from a store, which has been produced ahead of time
+         * by {@link frescoauction.configuration.spdz.SpdzOfflinePreprocessing}.
+         */
+        Stored
     }
 }
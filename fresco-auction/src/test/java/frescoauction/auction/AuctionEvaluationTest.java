@@ -1,20 +1,30 @@
 package frescoauction.auction;
 
 import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.sce.evaluator.EvaluationStrategy;
 import frescoauction.util.AuctionEvaluation;
+import frescoauction.util.EvaluationParameters;
 import frescoauction.util.Utils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.*;
 
 import static frescoauction.auction.TestUtils.assertAllPartiesGetSameResults;
 import static frescoauction.auction.TestUtils.getNetworkConfiguration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Testing the auction evaluation with {@link AuctionEvaluation}.
@@ -29,17 +39,19 @@ public class AuctionEvaluationTest {
      * @param auctionType auction format, which should be run.
      * @param protocolSuite protocol suite, which should be used for the auction evaluation.
      * @param preprocessing pre processing strategy for the offline phase of the Spdz protocol suite.
+     * @param parameters tuning parameters of the protocol suite.
      * @return parties as {@link Callable}, which can be run by an {@link ExecutorService}.
      */
     private static List<Callable<Auction.AuctionResult>> setUpParties(int[] bids, Utils.AuctionType auctionType,
-                                                                      Utils.ProtocolSuite protocolSuite, Utils.Preprocessing preprocessing){
+                                                                      Utils.ProtocolSuite protocolSuite, Utils.Preprocessing preprocessing,
+                                                                      EvaluationParameters parameters){
         List<Callable<Auction.AuctionResult>> clients = new ArrayList<>();
         for (int i = 0; i < bids.length; i++) {
             int bid = bids[i];
             int partyId = i + 1;
             NetworkConfiguration networkConfig = getNetworkConfiguration(partyId, bids.length);
             AuctionEvaluation task = new AuctionEvaluation(auctionType, bid,
-                    protocolSuite, preprocessing, networkConfig);
+                    protocolSuite, preprocessing, parameters, networkConfig);
             clients.add(task);
         }
         return clients;
@@ -106,9 +118,13 @@ public class AuctionEvaluationTest {
     public void testRunAuctionWithDummyArithmetic(Utils.AuctionType auctionType, int[] bids, int winnerId, int finalPrice)
             throws InterruptedException, ExecutionException {
         List<Callable<Auction.AuctionResult>> clients = setUpParties(bids, auctionType,
-                Utils.ProtocolSuite.DummyArithmetic, null);
+                Utils.ProtocolSuite.DummyArithmetic, null, EvaluationParameters.builder().build());
         List<Future<Auction.AuctionResult>> results = executorService.invokeAll(clients);
         assertAllPartiesGetSameResults(results, winnerId, finalPrice);
+        for(Future<Auction.AuctionResult> result : results){
+            assertNotNull(result.get().getNetworkStatistics());
+            assertTrue(result.get().getNetworkStatistics().getTotalBytesSent() > 0);
+        }
     }
 
     /**
@@ -126,7 +142,7 @@ public class AuctionEvaluationTest {
     public void testRunAuctionWithSpdzDummy(Utils.AuctionType auctionType, int[] bids, int winnerId, int finalPrice)
             throws InterruptedException, ExecutionException {
         List<Callable<Auction.AuctionResult>> clients = setUpParties(bids, auctionType,
-                Utils.ProtocolSuite.Spdz, Utils.Preprocessing.Dummy);
+                Utils.ProtocolSuite.Spdz, Utils.Preprocessing.Dummy, EvaluationParameters.builder().build());
         List<Future<Auction.AuctionResult>> results = executorService.invokeAll(clients);
         assertAllPartiesGetSameResults(results, winnerId, finalPrice);
     }
@@ -145,8 +161,115 @@ public class AuctionEvaluationTest {
     @MethodSource("dataMascot")
     public void testRunAuctionWithSpdzMascot(Utils.AuctionType auctionType, int[] bids, int winnerId, int finalPrice) throws InterruptedException, ExecutionException {
         List<Callable<Auction.AuctionResult>> clients = setUpParties(bids, auctionType,
-                Utils.ProtocolSuite.Spdz, Utils.Preprocessing.Mascot);
+                Utils.ProtocolSuite.Spdz, Utils.Preprocessing.Mascot, EvaluationParameters.builder().build());
+        List<Future<Auction.AuctionResult>> results = executorService.invokeAll(clients);
+        assertAllPartiesGetSameResults(results, winnerId, finalPrice);
+    }
+
+    /**
+     * Tests the auction evaluation with {@link Utils.ProtocolSuite#DummyArithmetic}, which uses
+     * {@link EvaluationStrategy#SEQUENTIAL_BATCHED} and a small batch size.
+     * Party inputs and expected results are provided by {@link #data()}.
+     * @param auctionType auction type.
+     * @param bids  party inputs which should be tested.
+     * @param winnerId expected partyId of the highest bidder.
+     * @param finalPrice expected final price which should be payed by the winner party.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testRunAuctionWithBatchedEvaluation(Utils.AuctionType auctionType, int[] bids, int winnerId, int finalPrice)
+            throws InterruptedException, ExecutionException {
+        EvaluationParameters parameters = EvaluationParameters.builder()
+                .evaluationStrategy(EvaluationStrategy.SEQUENTIAL_BATCHED)
+                .maxBatchSize(64)
+                .build();
+        List<Callable<Auction.AuctionResult>> clients = setUpParties(bids, auctionType,
+                Utils.ProtocolSuite.DummyArithmetic, null, parameters);
+        List<Future<Auction.AuctionResult>> results = executorService.invokeAll(clients);
+        assertAllPartiesGetSameResults(results, winnerId, finalPrice);
+    }
+
+    /**
+     * Tests the auction evaluation with {@link Utils.ProtocolSuite#DummyArithmetic}, which uses the smallest
+     * bit length for the highest bid. Party inputs and expected results are provided by {@link #data()}.
+     * @param auctionType auction type.
+     * @param bids  party inputs which should be tested.
+     * @param winnerId expected partyId of the highest bidder.
+     * @param finalPrice expected final price which should be payed by the winner party.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testRunAuctionWithMaxBid(Utils.AuctionType auctionType, int[] bids, int winnerId, int finalPrice)
+            throws InterruptedException, ExecutionException {
+        EvaluationParameters parameters = EvaluationParameters.builder().build()
+                .withMaxBid(Arrays.stream(bids).max().getAsInt());
+        List<Callable<Auction.AuctionResult>> clients = setUpParties(bids, auctionType,
+                Utils.ProtocolSuite.DummyArithmetic, null, parameters);
         List<Future<Auction.AuctionResult>> results = executorService.invokeAll(clients);
         assertAllPartiesGetSameResults(results, winnerId, finalPrice);
     }
+
+    /**
+     * Tests the derivation of the bit length and the mod bit length from the maximum bid.
+     */
+    @Test
+    public void testEvaluationParametersWithMaxBid() {
+        EvaluationParameters parameters = EvaluationParameters.builder()
+                .evaluationStrategy(EvaluationStrategy.SEQUENTIAL_BATCHED)
+                .build()
+                .withMaxBid(65535);
+        assertEquals(EvaluationStrategy.SEQUENTIAL_BATCHED, parameters.getEvaluationStrategy());
+        assertEquals(16, parameters.getMaxBitLength());
+        assertEquals(80, parameters.getModBitLength());
+        assertTrue(parameters.isInRange(65535));
+        assertFalse(parameters.isInRange(65536));
+        assertEquals(17, EvaluationParameters.builder().build().withMaxBid(65536).getMaxBitLength());
+        assertEquals(EvaluationParameters.MIN_BIT_LENGTH, EvaluationParameters.builder().build().withMaxBid(1).getMaxBitLength());
+        assertEquals(31, EvaluationParameters.builder().build().withMaxBid(Integer.MAX_VALUE).getMaxBitLength());
+        assertEquals(96, EvaluationParameters.getMinModBitLength(EvaluationParameters.DEFAULT_MAX_BIT_LENGTH));
+        assertThrows(IllegalArgumentException.class, () -> EvaluationParameters.builder().build().withMaxBid(0));
+    }
+
+    /**
+     * Tests widening the bit length (and the mod bit length, if it is too small) to a minimum bit length.
+     */
+    @Test
+    public void testEvaluationParametersWithMinBitLength() {
+        EvaluationParameters parameters = EvaluationParameters.builder().build().withMaxBid(3);
+        assertSame(parameters, parameters.withMinBitLength(2));
+        EvaluationParameters widened = parameters.withMinBitLength(8);
+        assertEquals(8, widened.getMaxBitLength());
+        assertEquals(72, widened.getModBitLength());
+        EvaluationParameters defaults = EvaluationParameters.builder().build();
+        assertSame(defaults, defaults.withMinBitLength(8));
+        assertEquals(EvaluationParameters.DEFAULT_MOD_BIT_LENGTH, defaults.withMinBitLength(32).getModBitLength());
+    }
+
+    /**
+     * Tests, if the evaluation is rejected, if the bid exceeds the bit length of the evaluation parameters.
+     */
+    @Test
+    public void testBidExceedsMaxBid() {
+        AuctionEvaluation task = new AuctionEvaluation(Utils.AuctionType.SealedFirstPrice, 128,
+                Utils.ProtocolSuite.DummyArithmetic, null, EvaluationParameters.builder().build().withMaxBid(100),
+                getNetworkConfiguration(1, 2));
+        assertThrows(IllegalArgumentException.class, task::call);
+    }
+
+    /**
+     * Tests, if invalid evaluation parameters are rejected.
+     */
+    @Test
+    public void testInvalidEvaluationParameters() {
+        assertThrows(IllegalArgumentException.class, () -> EvaluationParameters.builder().evaluationStrategy(null).build());
+        assertThrows(IllegalArgumentException.class, () -> EvaluationParameters.builder().maxBatchSize(0).build());
+        assertThrows(IllegalArgumentException.class, () -> EvaluationParameters.builder().maxBitLength(1).build());
+        assertThrows(IllegalArgumentException.class, () -> EvaluationParameters.builder().maxBitLength(64).modBitLength(64).build());
+        assertThrows(IllegalArgumentException.class, () -> EvaluationParameters.builder().maxBitLength(31).modBitLength(95).build());
+        assertThrows(IllegalArgumentException.class, () -> EvaluationParameters.builder().maxBitLength(31).modBitLength(100).build());
+    }
 }
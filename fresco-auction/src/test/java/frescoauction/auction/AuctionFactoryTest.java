@@ -36,4 +36,26 @@ public class AuctionFactoryTest {
         Application auction = AuctionFactory.getAuction(type, 1, networkConfiguration);
         Assertions.assertTrue(auction instanceof SealedSecondPriceAuction);
     }
+
+    /**
+     * Tests {@link AuctionFactory#getMultiItemAuction(Utils.AuctionType, int, int[], NetworkConfiguration)}
+     * with {@link Utils.AuctionType#SealedFirstPrice}.
+     */
+    @Test
+    public void testGetMultiItemAuction(){
+        NetworkConfiguration networkConfiguration = getNetworkConfiguration(1, 2);
+        Utils.AuctionType type = Utils.AuctionType.SealedFirstPrice;
+        Application auction = AuctionFactory.getMultiItemAuction(type, 2, new int[]{1, 2}, networkConfiguration);
+        Assertions.assertTrue(auction instanceof MultiItemAuction);
+    }
+
+    /**
+     * Tests {@link AuctionFactory#getUniformPriceAuction(int, int, NetworkConfiguration)}.
+     */
+    @Test
+    public void testGetUniformPriceAuction(){
+        NetworkConfiguration networkConfiguration = getNetworkConfiguration(1, 3);
+        Application auction = AuctionFactory.getUniformPriceAuction(2, 1, networkConfiguration);
+        Assertions.assertTrue(auction instanceof UniformPriceAuction);
+    }
 }
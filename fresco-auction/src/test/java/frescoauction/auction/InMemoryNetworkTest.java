@@ -0,0 +1,166 @@
+package frescoauction.auction;
+
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.network.CloseableNetwork;
+import dk.alexandra.fresco.suite.dummy.arithmetic.DummyArithmeticResourcePool;
+import dk.alexandra.fresco.suite.spdz.SpdzResourcePool;
+import frescoauction.configuration.ProtocolConfiguration;
+import frescoauction.configuration.dummy.DummyArithmeticConfiguration;
+import frescoauction.configuration.network.InMemoryNetworkHub;
+import frescoauction.configuration.spdz.SpdzConfiguration;
+import frescoauction.util.SMPC;
+import frescoauction.util.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static frescoauction.auction.TestUtils.assertAllPartiesGetSameResults;
+import static frescoauction.auction.TestUtils.getNetworkConfiguration;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testing auctions, which run over {@link frescoauction.configuration.network.InMemoryNetwork}
+ * instead of sockets, and the behavior of the in-memory network itself.
+ */
+public class InMemoryNetworkTest {
+    /** Number of available threads. */
+    private final static int THREAD_POOL = 10;
+    private ExecutorService executorService;
+
+    /**
+     * Sets up parties, which are connected by a single {@link InMemoryNetworkHub}.
+     * @param bids bids of the parties.
+     * @param auctionType auction type.
+     * @param protocolSuite protocol suite, which should be used for the evaluation.
+     * @return parties as {@link Callable}, which can be run by an {@link ExecutorService}.
+     */
+    private static List<Callable<Auction.AuctionResult>> setUpParties(int[] bids, Utils.AuctionType auctionType,
+                                                                      Utils.ProtocolSuite protocolSuite){
+        InMemoryNetworkHub hub = new InMemoryNetworkHub(bids.length);
+        List<Callable<Auction.AuctionResult>> parties = new ArrayList<>();
+        for(int i = 0; i < bids.length; i++){
+            NetworkConfiguration networkConfig = getNetworkConfiguration(i + 1, bids.length);
+            int bid = bids[i];
+            if(protocolSuite == Utils.ProtocolSuite.Spdz){
+                ProtocolConfiguration config = SpdzConfiguration.builder().networkFactory(hub).build();
+                parties.add(() -> new SMPC<SpdzResourcePool, ProtocolBuilderNumeric, Auction.AuctionResult>(
+                        config, AuctionFactory.getAuction(auctionType, bid, networkConfig), networkConfig)
+                        .startComputation(Duration.ofMinutes(1)));
+            }else{
+                ProtocolConfiguration config = DummyArithmeticConfiguration.builder().networkFactory(hub).build();
+                parties.add(() -> new SMPC<DummyArithmeticResourcePool, ProtocolBuilderNumeric, Auction.AuctionResult>(
+                        config, AuctionFactory.getAuction(auctionType, bid, networkConfig), networkConfig)
+                        .startComputation(Duration.ofMinutes(1)));
+            }
+        }
+        return parties;
+    }
+
+    /**
+     * Provides party inputs and the expected results.<br>
+     * Order: auction type, array of bids, partyId of the expected winner, expected final price
+     * @return party inputs with expected results.
+     */
+    private static List<Arguments> data(){
+        return List.of(
+                Arguments.of(Utils.AuctionType.SealedFirstPrice, new int[]{1, 42}, 2, 42),
+                Arguments.of(Utils.AuctionType.SealedFirstPrice, new int[]{41, 43, 42, 1, 7}, 2, 43),
+                Arguments.of(Utils.AuctionType.SealedSecondPrice, new int[]{1, 42}, 2, 1),
+                Arguments.of(Utils.AuctionType.SealedSecondPrice, new int[]{41, 43, 42, 1, 7}, 2, 42)
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(THREAD_POOL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        executorService = null;
+    }
+
+    /**
+     * Tests correctness of the auctions over the in-memory network with {@link Utils.ProtocolSuite#DummyArithmetic}.
+     * @param auctionType auction type.
+     * @param bids party inputs which should be tested.
+     * @param winnerId expected partyId of the highest bidder.
+     * @param finalPrice expected final price.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testDummyArithmeticSuite(Utils.AuctionType auctionType, int[] bids, int winnerId, int finalPrice)
+            throws InterruptedException, ExecutionException {
+        List<Future<Auction.AuctionResult>> fResults =
+                executorService.invokeAll(setUpParties(bids, auctionType, Utils.ProtocolSuite.DummyArithmetic));
+        assertAllPartiesGetSameResults(fResults, winnerId, finalPrice);
+    }
+
+    /**
+     * Tests correctness of the auctions over the in-memory network with {@link Utils.ProtocolSuite#Spdz} and
+     * {@link Utils.Preprocessing#Dummy} as preprocessing strategy.
+     * @param auctionType auction type.
+     * @param bids party inputs which should be tested.
+     * @param winnerId expected partyId of the highest bidder.
+     * @param finalPrice expected final price.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testSpdzWithDummy(Utils.AuctionType auctionType, int[] bids, int winnerId, int finalPrice)
+            throws InterruptedException, ExecutionException {
+        List<Future<Auction.AuctionResult>> fResults =
+                executorService.invokeAll(setUpParties(bids, auctionType, Utils.ProtocolSuite.Spdz));
+        assertAllPartiesGetSameResults(fResults, winnerId, finalPrice);
+    }
+
+    /**
+     * Tests, if messages are delivered in order (also to the party itself).
+     */
+    @Test
+    public void testSendAndReceive(){
+        InMemoryNetworkHub hub = new InMemoryNetworkHub(2);
+        CloseableNetwork first = hub.createNetwork(getNetworkConfiguration(1, 2));
+        CloseableNetwork second = hub.createNetwork(getNetworkConfiguration(2, 2));
+        first.send(2, new byte[]{1});
+        first.send(2, new byte[]{2});
+        first.send(1, new byte[]{3});
+        assertArrayEquals(new byte[]{1}, second.receive(1));
+        assertArrayEquals(new byte[]{2}, second.receive(1));
+        assertArrayEquals(new byte[]{3}, first.receive(1));
+        assertEquals(2, first.getNoOfParties());
+    }
+
+    /**
+     * Tests, if receiving fails, when the network of the sender is closed, and if the hub rejects invalid networks.
+     * @throws Exception
+     */
+    @Test
+    public void testClosedAndInvalidNetworks() throws Exception {
+        InMemoryNetworkHub hub = new InMemoryNetworkHub(2);
+        CloseableNetwork first = hub.createNetwork(getNetworkConfiguration(1, 2));
+        CloseableNetwork second = hub.createNetwork(getNetworkConfiguration(2, 2));
+        first.send(2, new byte[]{1});
+        first.close();
+        // pending messages are still delivered
+        assertArrayEquals(new byte[]{1}, second.receive(1));
+        assertThrows(IllegalStateException.class, () -> second.receive(1));
+        assertThrows(IllegalStateException.class, () -> first.send(2, new byte[]{2}));
+        assertThrows(IllegalStateException.class, () -> hub.createNetwork(getNetworkConfiguration(1, 2)));
+        assertThrows(IllegalArgumentException.class, () -> hub.createNetwork(getNetworkConfiguration(1, 3)));
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryNetworkHub(0));
+    }
+}
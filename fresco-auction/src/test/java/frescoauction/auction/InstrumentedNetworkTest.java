@@ -0,0 +1,127 @@
+package frescoauction.auction;
+
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.suite.dummy.arithmetic.DummyArithmeticResourcePool;
+import frescoauction.configuration.dummy.DummyArithmeticConfiguration;
+import frescoauction.configuration.network.InMemoryNetworkHub;
+import frescoauction.configuration.network.InstrumentedNetwork;
+import frescoauction.configuration.network.NetworkStatistics;
+import frescoauction.util.SMPC;
+import frescoauction.util.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static frescoauction.auction.TestUtils.getNetworkConfiguration;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testing the traffic recorded by {@link InstrumentedNetwork}.
+ */
+public class InstrumentedNetworkTest {
+    /** Number of available threads. */
+    private final static int THREAD_POOL = 10;
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(THREAD_POOL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        executorService = null;
+    }
+
+    /**
+     * Tests the counters of bytes, messages and rounds per peer.
+     */
+    @Test
+    public void testCountsPerPeer(){
+        InMemoryNetworkHub hub = new InMemoryNetworkHub(3);
+        InstrumentedNetwork first = new InstrumentedNetwork(hub.createNetwork(getNetworkConfiguration(1, 3)));
+        InstrumentedNetwork second = new InstrumentedNetwork(hub.createNetwork(getNetworkConfiguration(2, 3)));
+        // first round
+        first.send(2, new byte[]{1, 2, 3});
+        first.send(3, new byte[]{1});
+        second.send(1, new byte[]{1, 2});
+        first.receive(2);
+        NetworkStatistics afterFirstRound = first.getStatistics();
+        // second round
+        first.send(2, new byte[]{4});
+        second.receive(1);
+        second.receive(1);
+
+        NetworkStatistics statistics = first.getStatistics();
+        assertEquals(4, statistics.getBytesSent(2));
+        assertEquals(2, statistics.getMessagesSent(2));
+        assertEquals(1, statistics.getBytesSent(3));
+        assertEquals(0, statistics.getBytesSent(1));
+        assertEquals(5, statistics.getTotalBytesSent());
+        assertEquals(3, statistics.getTotalMessagesSent());
+        assertEquals(2, statistics.getBytesReceived(2));
+        assertEquals(1, statistics.getMessagesReceived(2));
+        assertEquals(0, statistics.getMessagesReceived(3));
+        assertEquals(1, statistics.getRounds());
+        assertEquals(4, second.getStatistics().getBytesReceived(1));
+        assertEquals(1, second.getStatistics().getRounds());
+
+        NetworkStatistics secondRound = statistics.minus(afterFirstRound);
+        assertEquals(1, secondRound.getTotalBytesSent());
+        assertEquals(0, secondRound.getTotalBytesReceived());
+        assertEquals(0, secondRound.getRounds());
+        NetworkStatistics otherParties = new InstrumentedNetwork(
+                new InMemoryNetworkHub(2).createNetwork(getNetworkConfiguration(1, 2))).getStatistics();
+        assertThrows(IllegalArgumentException.class, () -> statistics.minus(otherParties));
+    }
+
+    /**
+     * Tests, if the statistics of an auction are recorded for every party and if the traffic of all parties
+     * is consistent (everything sent to a peer is received by the peer).
+     * @param auctionType auction type.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @EnumSource(value = Utils.AuctionType.class, names = {"SealedFirstPrice", "SealedSecondPrice"})
+    public void testAuctionStatistics(Utils.AuctionType auctionType) throws InterruptedException, ExecutionException {
+        int[] bids = {41, 43, 42};
+        InMemoryNetworkHub hub = new InMemoryNetworkHub(bids.length);
+        List<Callable<NetworkStatistics>> parties = new ArrayList<>();
+        for(int i = 0; i < bids.length; i++){
+            NetworkConfiguration networkConfig = getNetworkConfiguration(i + 1, bids.length);
+            int bid = bids[i];
+            parties.add(() -> {
+                SMPC<DummyArithmeticResourcePool, ProtocolBuilderNumeric, Auction.AuctionResult> smpc = new SMPC<>(
+                        DummyArithmeticConfiguration.builder().networkFactory(hub).build(),
+                        AuctionFactory.getAuction(auctionType, bid, networkConfig), networkConfig);
+                assertNull(smpc.getNetworkStatistics());
+                assertEquals(2, smpc.startComputation(Duration.ofMinutes(1)).getWinnerId());
+                return smpc.getNetworkStatistics();
+            });
+        }
+        List<NetworkStatistics> statistics = new ArrayList<>();
+        for(Future<NetworkStatistics> fStatistics : executorService.invokeAll(parties)) statistics.add(fStatistics.get());
+
+        for(int i = 1; i <= bids.length; i++){
+            NetworkStatistics party = statistics.get(i - 1);
+            assertEquals(bids.length, party.getNoOfParties());
+            assertTrue(party.getTotalBytesSent() > 0);
+            assertTrue(party.getRounds() > 0);
+            for(int j = 1; j <= bids.length; j++){
+                NetworkStatistics peer = statistics.get(j - 1);
+                assertEquals(party.getBytesSent(j), peer.getBytesReceived(i));
+                assertEquals(party.getMessagesSent(j), peer.getMessagesReceived(i));
+            }
+        }
+    }
+}
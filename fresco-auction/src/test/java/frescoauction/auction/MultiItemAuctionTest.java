@@ -0,0 +1,173 @@
+package frescoauction.auction;
+
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import frescoauction.util.MultiItemAuctionEvaluation;
+import frescoauction.util.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static frescoauction.auction.TestUtils.getNetworkConfiguration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testing the implementation of {@link MultiItemAuction}.
+ */
+public class MultiItemAuctionTest {
+    /** Number of available threads. */
+    private final static int THREAD_POOL = 10;
+    private ExecutorService executorService;
+
+    /**
+     * Sets up parties for {@link MultiItemAuction}.
+     * @param bids bids of the parties (one array of bids per party, one bid per item).
+     * @param auctionType auction type, which should be used for each item.
+     * @param protocolSuite protocol suite, which should be used for the evaluation.
+     * @return parties as {@link Callable}, which can be run by an {@link ExecutorService}.
+     */
+    private static List<Callable<List<Auction.AuctionResult>>> setUpParties(int[][] bids, Utils.AuctionType auctionType,
+                                                                            Utils.ProtocolSuite protocolSuite){
+        List<Callable<List<Auction.AuctionResult>>> clients = new ArrayList<>();
+        for(int i = 0; i < bids.length; i++){
+            int partyId = i + 1;
+            NetworkConfiguration networkConfig = getNetworkConfiguration(partyId, bids.length);
+            clients.add(new MultiItemAuctionEvaluation(auctionType, bids[0].length, bids[i], protocolSuite,
+                    Utils.Preprocessing.Dummy, networkConfig));
+        }
+        return clients;
+    }
+
+    /**
+     * Provides party inputs and the expected results.<br>
+     * Order: auction type, bids per party (one bid per item), partyIds of the expected winners per item,
+     * expected final prices per item
+     * @return party inputs with expected results.
+     */
+    private static List<Arguments> data(){
+        return List.of(
+                Arguments.of(Utils.AuctionType.SealedFirstPrice, new int[][]{{42}, {1}},
+                        new int[]{1}, new int[]{42}),
+                Arguments.of(Utils.AuctionType.SealedFirstPrice, new int[][]{{1, 42, 7}, {42, 1, 7}},
+                        new int[]{2, 1, 2}, new int[]{42, 42, 7}),
+                Arguments.of(Utils.AuctionType.SealedFirstPrice, new int[][]{{41, 1, 5}, {43, 2, 5}, {42, 3, 4}, {1, 2, 1}},
+                        new int[]{2, 3, 2}, new int[]{43, 3, 5}),
+                Arguments.of(Utils.AuctionType.SealedSecondPrice, new int[][]{{42}, {1}},
+                        new int[]{1}, new int[]{1}),
+                Arguments.of(Utils.AuctionType.SealedSecondPrice, new int[][]{{1, 42, 7}, {42, 1, 7}},
+                        new int[]{2, 1, 2}, new int[]{1, 1, 7}),
+                Arguments.of(Utils.AuctionType.SealedSecondPrice, new int[][]{{41, 1, 5}, {43, 2, 5}, {42, 3, 4}, {1, 2, 1}},
+                        new int[]{2, 3, 2}, new int[]{42, 2, 5})
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(THREAD_POOL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        executorService = null;
+    }
+
+    /**
+     * Asserts that all parties get the expected results for all items.
+     * @param parties future results of all parties.
+     * @param winnerIds expected partyIds of the highest bidders per item.
+     * @param finalPrices expected final prices per item.
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    private static void assertAllPartiesGetSameResults(List<Future<List<Auction.AuctionResult>>> parties,
+                                                       int[] winnerIds, int[] finalPrices)
+            throws ExecutionException, InterruptedException {
+        for(Future<List<Auction.AuctionResult>> fResults : parties){
+            List<Auction.AuctionResult> results = fResults.get();
+            assertEquals(winnerIds.length, results.size());
+            for(int item = 0; item < winnerIds.length; item++){
+                assertEquals(winnerIds[item], results.get(item).getWinnerId());
+                assertEquals(finalPrices[item], results.get(item).getFinalPrice());
+            }
+        }
+    }
+
+    /**
+     * Tests correctness of the auction implementation with {@link Utils.ProtocolSuite#DummyArithmetic}.
+     * Party inputs and expected results are provided by {@link #data()}.
+     * @param auctionType auction type, which should be used for each item.
+     * @param bids party inputs which should be tested.
+     * @param winnerIds expected partyIds of the highest bidders per item.
+     * @param finalPrices expected final prices per item.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testDummyArithmeticSuite(Utils.AuctionType auctionType, int[][] bids, int[] winnerIds, int[] finalPrices)
+            throws InterruptedException, ExecutionException {
+        List<Future<List<Auction.AuctionResult>>> fResults =
+                executorService.invokeAll(setUpParties(bids, auctionType, Utils.ProtocolSuite.DummyArithmetic));
+        assertAllPartiesGetSameResults(fResults, winnerIds, finalPrices);
+    }
+
+    /**
+     * Tests correctness of the auction implementation with {@link Utils.ProtocolSuite#Spdz} and
+     * {@link Utils.Preprocessing#Dummy} as preprocessing strategy.
+     * Party inputs and expected results are provided by {@link #data()}.
+     * @param auctionType auction type, which should be used for each item.
+     * @param bids party inputs which should be tested.
+     * @param winnerIds expected partyIds of the highest bidders per item.
+     * @param finalPrices expected final prices per item.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testSpdzWithDummy(Utils.AuctionType auctionType, int[][] bids, int[] winnerIds, int[] finalPrices)
+            throws InterruptedException, ExecutionException {
+        List<Future<List<Auction.AuctionResult>>> fResults =
+                executorService.invokeAll(setUpParties(bids, auctionType, Utils.ProtocolSuite.Spdz));
+        assertAllPartiesGetSameResults(fResults, winnerIds, finalPrices);
+    }
+
+    /**
+     * Tests, if a party, whose number of bids differs from the agreed number of items, is rejected
+     * (its circuit would have another shape than the circuits of the other parties).
+     */
+    @Test
+    public void testDifferentNumberOfBids(){
+        NetworkConfiguration networkConfig = getNetworkConfiguration(1, 2);
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultiItemAuction(Utils.AuctionType.SealedFirstPrice, 2, new int[]{1}, networkConfig));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultiItemAuction(Utils.AuctionType.SealedSecondPrice, 2, new int[]{1, 2, 3}, networkConfig));
+        assertThrows(IllegalArgumentException.class, () -> new MultiItemAuctionEvaluation(
+                Utils.AuctionType.SealedFirstPrice, 2, new int[]{1}, Utils.ProtocolSuite.DummyArithmetic,
+                Utils.Preprocessing.Dummy, networkConfig).call());
+    }
+
+    /**
+     * Tests, if invalid arguments are rejected.
+     */
+    @Test
+    public void testInvalidArguments(){
+        NetworkConfiguration networkConfig = getNetworkConfiguration(1, 2);
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultiItemAuction(Utils.AuctionType.CalcSum, 1, new int[]{1}, networkConfig));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultiItemAuction(Utils.AuctionType.SealedFirstPrice, 0, new int[0], networkConfig));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultiItemAuction(Utils.AuctionType.SealedFirstPrice, 2, new int[]{1, 0}, networkConfig));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MultiItemAuction(Utils.AuctionType.SealedFirstPrice, 1, new int[]{1}, getNetworkConfiguration(1, 1)));
+    }
+}
@@ -0,0 +1,130 @@
+package frescoauction.auction;
+
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.suite.dummy.arithmetic.DummyArithmeticResourcePool;
+import frescoauction.configuration.ProtocolConfiguration;
+import frescoauction.configuration.dummy.DummyArithmeticConfiguration;
+import frescoauction.util.SMPCSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static frescoauction.auction.TestUtils.getNetworkConfiguration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testing the implementation of {@link SMPCSession}.
+ */
+public class SMPCSessionTest {
+    /** Number of available threads. */
+    private final static int THREAD_POOL = 10;
+    private ExecutorService executorService;
+
+    /**
+     * Sets up parties, which run several auctions within a single session (one auction per round).
+     * @param bids bids of the parties (one array of bids per round).
+     * @param config protocol suite configuration.
+     * @return parties as {@link Callable}, which can be run by an {@link ExecutorService}.
+     */
+    private static List<Callable<List<Auction.AuctionResult>>> setUpParties(int[][] bids, ProtocolConfiguration config){
+        List<Callable<List<Auction.AuctionResult>>> clients = new ArrayList<>();
+        int numberOfParties = bids[0].length;
+        for(int i = 0; i < numberOfParties; i++){
+            int partyIndex = i;
+            NetworkConfiguration networkConfig = getNetworkConfiguration(partyIndex + 1, numberOfParties);
+            clients.add(() -> {
+                List<Auction.AuctionResult> results = new ArrayList<>();
+                try (SMPCSession<DummyArithmeticResourcePool, ProtocolBuilderNumeric> session =
+                             new SMPCSession<>(config, networkConfig)) {
+                    for(int round = 0; round < bids.length; round++){
+                        int bid = bids[round][partyIndex];
+                        Auction auction = round % 2 == 0 ?
+                                new SealedFirstPriceAuction(bid, networkConfig) :
+                                new SealedSecondPriceAuction(bid, networkConfig);
+                        results.add(session.runApplication(auction, Duration.ofMinutes(5)));
+                    }
+                }
+                return results;
+            });
+        }
+        return clients;
+    }
+
+    /**
+     * Provides party inputs and the expected results. Auctions in even rounds are
+     * {@link SealedFirstPriceAuction}, auctions in odd rounds are {@link SealedSecondPriceAuction}.<br>
+     * Order: bids per round, partyId of the expected winner per round, expected final price per round
+     * @return party inputs with expected results.
+     */
+    private static List<Arguments> data(){
+        return List.of(
+                Arguments.of(new int[][]{{1, 42}, {42, 1}}, new int[]{2, 1}, new int[]{42, 1}),
+                Arguments.of(new int[][]{{41, 43, 42, 1}, {41, 43, 42, 1}, {3, 2, 1, 4}},
+                        new int[]{2, 2, 4}, new int[]{43, 42, 4})
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(THREAD_POOL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        executorService = null;
+    }
+
+    /**
+     * Tests, if all parties get the correct results, if several auctions are run within one session.
+     * @param bids bids of the parties per round.
+     * @param winnerIds expected partyIds of the highest bidders per round.
+     * @param finalPrices expected final prices per round.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testRunSeveralAuctionsWithinOneSession(int[][] bids, int[] winnerIds, int[] finalPrices)
+            throws InterruptedException, ExecutionException {
+        ProtocolConfiguration config = DummyArithmeticConfiguration.builder()
+                .maxBitLength(31)
+                .build();
+        List<Future<List<Auction.AuctionResult>>> fResults = executorService.invokeAll(setUpParties(bids, config));
+        for(Future<List<Auction.AuctionResult>> fResult : fResults){
+            List<Auction.AuctionResult> results = fResult.get();
+            assertEquals(bids.length, results.size());
+            for(int round = 0; round < bids.length; round++){
+                assertEquals(winnerIds[round], results.get(round).getWinnerId());
+                assertEquals(finalPrices[round], results.get(round).getFinalPrice());
+            }
+        }
+    }
+
+    /**
+     * Tests, if a closed session rejects further applications.
+     */
+    @Test
+    public void testRunApplicationOnClosedSession() {
+        ProtocolConfiguration config = DummyArithmeticConfiguration.builder().build();
+        NetworkConfiguration networkConfig = getNetworkConfiguration(1, 2);
+        SMPCSession<DummyArithmeticResourcePool, ProtocolBuilderNumeric> session =
+                new SMPCSession<>(config, networkConfig);
+        session.close();
+        session.close();
+        assertTrue(session.isClosed());
+        assertThrows(IllegalStateException.class,
+                () -> session.runApplication(new SealedFirstPriceAuction(1, networkConfig), Duration.ofMinutes(1)));
+    }
+}
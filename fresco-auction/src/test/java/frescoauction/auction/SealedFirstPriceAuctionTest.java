@@ -82,7 +82,9 @@ public class SealedFirstPriceAuctionTest {
                 Arguments.of(new int[]{14, 15, 12, 10, 13, 20, 17}, 6, 20),
                 Arguments.of(new int[]{14, 15, 12, 10, 13, 20, 17, 21}, 8, 21),
                 Arguments.of(new int[]{25, 14, 15, 12, 10, 13, 20, 17, 21}, 1, 25),
-                Arguments.of(new int[]{25, 14, 15, 12, 50, 10, 13, 20, 17, 21}, 5, 50)
+                Arguments.of(new int[]{25, 14, 15, 12, 50, 10, 13, 20, 17, 21}, 5, 50),
+                Arguments.of(new int[]{50, 1, 1, 1, 1, 1, 1, 1, 50}, 9, 50),
+                Arguments.of(new int[]{50, 1, 1, 1, 1, 1, 1, 1, 1, 50}, 10, 50)
         );
     }
 
@@ -81,7 +81,10 @@ public class SealedSecondPriceAuctionTest {
                 Arguments.of(new int[]{14, 15, 12, 10, 13, 20, 17}, 6, 17),
                 Arguments.of(new int[]{14, 15, 12, 10, 13, 20, 17, 21}, 8, 20),
                 Arguments.of(new int[]{25, 14, 15, 12, 10, 13, 20, 17, 21}, 1, 21),
-                Arguments.of(new int[]{25, 14, 15, 12, 50, 10, 13, 20, 17, 21}, 5, 25)
+                Arguments.of(new int[]{25, 14, 15, 12, 50, 10, 13, 20, 17, 21}, 5, 25),
+                Arguments.of(new int[]{3, 9, 5, 1, 7, 8, 2, 6, 4}, 2, 8),
+                Arguments.of(new int[]{50, 1, 1, 1, 1, 1, 1, 1, 50}, 9, 50),
+                Arguments.of(new int[]{50, 1, 1, 1, 1, 1, 1, 1, 1, 50}, 10, 50)
         );
     }
 
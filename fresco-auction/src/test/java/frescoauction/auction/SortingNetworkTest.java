@@ -0,0 +1,219 @@
+package frescoauction.auction;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.DRes;
+import dk.alexandra.fresco.framework.builder.numeric.Numeric;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.util.Pair;
+import dk.alexandra.fresco.framework.value.SInt;
+import dk.alexandra.fresco.suite.dummy.arithmetic.DummyArithmeticResourcePool;
+import dk.alexandra.fresco.suite.spdz.SpdzResourcePool;
+import frescoauction.configuration.ProtocolConfiguration;
+import frescoauction.configuration.dummy.DummyArithmeticConfiguration;
+import frescoauction.configuration.network.InMemoryNetworkHub;
+import frescoauction.configuration.spdz.SpdzConfiguration;
+import frescoauction.util.SMPC;
+import frescoauction.util.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static frescoauction.auction.TestUtils.getNetworkConfiguration;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testing the implementation of {@link SortingNetwork}.
+ */
+public class SortingNetworkTest {
+    /** Number of available threads. */
+    private final static int THREAD_POOL = 10;
+    private ExecutorService executorService;
+
+    /**
+     * Sets up parties, which sort their values (every party inputs a value with its partyId as payload).
+     * @param values values of the parties.
+     * @param count number of entries, which should be selected (0 sorts all entries).
+     * @param protocolSuite protocol suite, which should be used for the evaluation.
+     * @return parties as {@link Callable}, which can be run by an {@link ExecutorService}.
+     */
+    private static List<Callable<List<Pair<Integer, Integer>>>> setUpParties(int[] values, int count,
+                                                                             Utils.ProtocolSuite protocolSuite){
+        InMemoryNetworkHub hub = new InMemoryNetworkHub(values.length);
+        List<Callable<List<Pair<Integer, Integer>>>> parties = new ArrayList<>();
+        for(int i = 0; i < values.length; i++){
+            NetworkConfiguration networkConfig = getNetworkConfiguration(i + 1, values.length);
+            SortApplication application = new SortApplication(values[i], count, networkConfig);
+            if(protocolSuite == Utils.ProtocolSuite.Spdz){
+                ProtocolConfiguration config = SpdzConfiguration.builder().networkFactory(hub).build();
+                parties.add(() -> new SMPC<SpdzResourcePool, ProtocolBuilderNumeric, List<Pair<Integer, Integer>>>(
+                        config, application, networkConfig).startComputation(Duration.ofMinutes(1)));
+            }else{
+                ProtocolConfiguration config = DummyArithmeticConfiguration.builder().networkFactory(hub).build();
+                parties.add(() -> new SMPC<DummyArithmeticResourcePool, ProtocolBuilderNumeric, List<Pair<Integer, Integer>>>(
+                        config, application, networkConfig).startComputation(Duration.ofMinutes(1)));
+            }
+        }
+        return parties;
+    }
+
+    /**
+     * Provides party inputs.<br>
+     * Order: array of values, number of entries, which should be selected (0 sorts all entries)
+     * @return party inputs.
+     */
+    private static List<Arguments> data(){
+        return List.of(
+                Arguments.of(new int[]{1, 42}, 0),
+                Arguments.of(new int[]{41, 43, 42, 1, 7}, 0),
+                Arguments.of(new int[]{5, 5, 3, 5, 1, 9, 9}, 0),
+                Arguments.of(new int[]{8, 7, 6, 5, 4, 3, 2, 1}, 0),
+                Arguments.of(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9}, 0),
+                Arguments.of(new int[]{41, 43, 42, 1, 7}, 1),
+                Arguments.of(new int[]{41, 43, 42, 1, 7}, 3),
+                Arguments.of(new int[]{3, 20, 5, 17, 1, 19, 2, 18, 4, 20}, 4),
+                Arguments.of(new int[]{6, 2, 9, 4}, 4)
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(THREAD_POOL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        executorService = null;
+    }
+
+    /**
+     * Asserts that all parties get the highest values in descending order and that every payload
+     * belongs to its value (the order of the payloads of equal values is not specified).
+     * @param parties future results of all parties.
+     * @param values values of the parties.
+     * @param count number of selected entries (0 for all entries).
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    private static void assertAllPartiesGetSortedValues(List<Future<List<Pair<Integer, Integer>>>> parties,
+                                                        int[] values, int count)
+            throws ExecutionException, InterruptedException {
+        int[] expected = Arrays.stream(values).boxed().sorted(Comparator.reverseOrder())
+                .mapToInt(Integer::intValue).limit(count == 0 ? values.length : count).toArray();
+        for(Future<List<Pair<Integer, Integer>>> fResults : parties){
+            List<Pair<Integer, Integer>> results = fResults.get();
+            assertEquals(expected.length, results.size());
+            Set<Integer> payloads = new HashSet<>();
+            for(int i = 0; i < expected.length; i++){
+                assertEquals(expected[i], (int) results.get(i).getFirst());
+                assertEquals(expected[i], values[results.get(i).getSecond() - 1]);
+                assertTrue(payloads.add(results.get(i).getSecond()));
+            }
+        }
+    }
+
+    /**
+     * Tests the sorting networks with {@link Utils.ProtocolSuite#DummyArithmetic}.
+     * @param values party inputs which should be tested.
+     * @param count number of entries, which should be selected (0 sorts all entries).
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testDummyArithmeticSuite(int[] values, int count) throws InterruptedException, ExecutionException {
+        List<Future<List<Pair<Integer, Integer>>>> fResults =
+                executorService.invokeAll(setUpParties(values, count, Utils.ProtocolSuite.DummyArithmetic));
+        assertAllPartiesGetSortedValues(fResults, values, count);
+    }
+
+    /**
+     * Tests the sorting networks with {@link Utils.ProtocolSuite#Spdz} and
+     * {@link Utils.Preprocessing#Dummy} as preprocessing strategy.
+     * @param values party inputs which should be tested.
+     * @param count number of entries, which should be selected (0 sorts all entries).
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testSpdzWithDummy(int[] values, int count) throws InterruptedException, ExecutionException {
+        List<Future<List<Pair<Integer, Integer>>>> fResults =
+                executorService.invokeAll(setUpParties(values, count, Utils.ProtocolSuite.Spdz));
+        assertAllPartiesGetSortedValues(fResults, values, count);
+    }
+
+    /**
+     * Tests, if an invalid number of selected entries is rejected.
+     */
+    @Test
+    public void testInvalidCount(){
+        List<SortingNetwork.Entry> entries = Collections.nCopies(2, new SortingNetwork.Entry(null, null));
+        assertThrows(IllegalArgumentException.class, () -> SortingNetwork.selectHighest(null, entries, 0));
+        assertThrows(IllegalArgumentException.class, () -> SortingNetwork.selectHighest(null, entries, 3));
+    }
+
+    /**
+     * Tests, if entries are rejected, of which only some carry a payload (the payload would be dropped otherwise).
+     */
+    @Test
+    public void testPartialPayloads(){
+        List<SortingNetwork.Entry> entries = List.of(
+                new SortingNetwork.Entry(null, () -> null),
+                new SortingNetwork.Entry(null, null));
+        assertThrows(IllegalArgumentException.class, () -> SortingNetwork.sort(null, entries));
+        assertThrows(IllegalArgumentException.class, () -> SortingNetwork.selectHighest(null, entries, 1));
+    }
+
+    /**
+     * Inputs a value with the partyId as payload, sorts (or selects) the entries and opens them.
+     */
+    private static class SortApplication implements Application<List<Pair<Integer, Integer>>, ProtocolBuilderNumeric> {
+        private final int value;
+        private final int count;
+        private final NetworkConfiguration networkConfiguration;
+
+        private SortApplication(int value, int count, NetworkConfiguration networkConfiguration) {
+            this.value = value;
+            this.count = count;
+            this.networkConfiguration = networkConfiguration;
+        }
+
+        @Override
+        public DRes<List<Pair<Integer, Integer>>> buildComputation(ProtocolBuilderNumeric builder) {
+            return builder.seq(seq -> {
+                Numeric numeric = seq.numeric();
+                List<SortingNetwork.Entry> entries = new ArrayList<>();
+                for(int otherId = 1; otherId <= networkConfiguration.noOfParties(); otherId++){
+                    boolean isMe = otherId == networkConfiguration.getMyId();
+                    DRes<SInt> key = numeric.input(isMe ? BigInteger.valueOf(value) : null, otherId);
+                    DRes<SInt> payload = numeric.input(isMe ? BigInteger.valueOf(otherId) : null, otherId);
+                    entries.add(new SortingNetwork.Entry(key, payload));
+                }
+                return count == 0 ? SortingNetwork.sort(seq, entries) : SortingNetwork.selectHighest(seq, entries, count);
+            }).seq((seq, sorted) -> {
+                Numeric numeric = seq.numeric();
+                List<Pair<DRes<BigInteger>, DRes<BigInteger>>> opened = new ArrayList<>();
+                for(SortingNetwork.Entry entry : sorted){
+                    opened.add(new Pair<>(numeric.open(entry.getKey()), numeric.open(entry.getPayload())));
+                }
+                return () -> opened;
+            }).seq((seq, opened) -> {
+                List<Pair<Integer, Integer>> results = new ArrayList<>();
+                for(Pair<DRes<BigInteger>, DRes<BigInteger>> entry : opened){
+                    results.add(new Pair<>(entry.getFirst().out().intValue(), entry.getSecond().out().intValue()));
+                }
+                return () -> results;
+            });
+        }
+    }
+}
@@ -0,0 +1,452 @@
+package frescoauction.auction;
+
+import dk.alexandra.fresco.framework.Application;
+import dk.alexandra.fresco.framework.Party;
+import dk.alexandra.fresco.framework.builder.numeric.ProtocolBuilderNumeric;
+import dk.alexandra.fresco.framework.builder.numeric.field.BigIntegerFieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldDefinition;
+import dk.alexandra.fresco.framework.builder.numeric.field.FieldElement;
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import dk.alexandra.fresco.framework.configuration.NetworkConfigurationImpl;
+import dk.alexandra.fresco.framework.util.ModulusFinder;
+import dk.alexandra.fresco.suite.spdz.SpdzResourcePool;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzInputMask;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzSInt;
+import dk.alexandra.fresco.suite.spdz.datatypes.SpdzTriple;
+import dk.alexandra.fresco.suite.spdz.storage.SpdzDataSupplier;
+import dk.alexandra.fresco.suite.spdz.storage.SpdzDummyDataSupplier;
+import frescoauction.configuration.ProtocolConfiguration;
+import frescoauction.configuration.spdz.PreprocessingAmount;
+import frescoauction.configuration.spdz.SPDZAssembler;
+import frescoauction.configuration.spdz.SpdzConfiguration;
+import frescoauction.configuration.spdz.SpdzPreprocessedValuesStore;
+import frescoauction.configuration.spdz.SpdzStoredDataSupplier;
+import frescoauction.util.SMPC;
+import frescoauction.util.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testing the implementation of {@link SpdzPreprocessedValuesStore} and {@link SpdzStoredDataSupplier}.
+ */
+public class SpdzPreprocessedValuesStoreTest {
+    private static final int MY_ID = 2;
+    private static final int NO_OF_PARTIES = 3;
+    private static final long PARTY_SET_ID = 42;
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("preprocessing");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Tests, if all values, which were written into the store, are read in the same order.
+     * @throws IOException
+     */
+    @Test
+    public void testWriteAndReadStore() throws IOException {
+        BigInteger modulus = ModulusFinder.findSuitableModulus(128);
+        RecordingDataSupplier source = new RecordingDataSupplier(
+                new SpdzDummyDataSupplier(MY_ID, NO_OF_PARTIES, new BigIntegerFieldDefinition(modulus), modulus, 5));
+        PreprocessingAmount amount = PreprocessingAmount.builder()
+                .triples(10)
+                .bits(7)
+                .randomElements(3)
+                .expPipes(2)
+                .inputMasks(4)
+                .build();
+        Path file = SpdzPreprocessedValuesStore.getStoreFile(directory, MY_ID, NO_OF_PARTIES, PARTY_SET_ID);
+        SpdzPreprocessedValuesStore.write(file, source, MY_ID, NO_OF_PARTIES, PARTY_SET_ID, amount);
+
+        SpdzStoredDataSupplier stored = new SpdzStoredDataSupplier(file);
+        FieldDefinition definition = stored.getFieldDefinition();
+        assertEquals(MY_ID, stored.getMyId());
+        assertEquals(NO_OF_PARTIES, stored.getNoOfParties());
+        assertEquals(PARTY_SET_ID, stored.getPartySetId());
+        assertEquals(modulus, definition.getModulus());
+        assertElementEquals(definition, source.getSecretSharedKey(), stored.getSecretSharedKey());
+        for(SpdzTriple expected : source.triples){
+            SpdzTriple actual = stored.getNextTriple();
+            assertSIntEquals(definition, expected.getA(), actual.getA());
+            assertSIntEquals(definition, expected.getB(), actual.getB());
+            assertSIntEquals(definition, expected.getC(), actual.getC());
+        }
+        for(SpdzSInt expected : source.bits){
+            assertSIntEquals(definition, expected, stored.getNextBit());
+        }
+        for(SpdzSInt expected : source.randomElements){
+            assertSIntEquals(definition, expected, stored.getNextRandomFieldElement());
+        }
+        for(SpdzSInt[] expected : source.expPipes){
+            SpdzSInt[] actual = stored.getNextExpPipe();
+            assertEquals(expected.length, actual.length);
+            for(int i = 0; i < expected.length; i++){
+                assertSIntEquals(definition, expected[i], actual[i]);
+            }
+        }
+        for(int partyId = 1; partyId <= NO_OF_PARTIES; partyId++){
+            for(SpdzInputMask expected : source.inputMasks.get(partyId)){
+                SpdzInputMask actual = stored.getNextInputMask(partyId);
+                assertSIntEquals(definition, expected.getMask(), actual.getMask());
+                if(partyId == MY_ID){
+                    assertElementEquals(definition, expected.getRealValue(), actual.getRealValue());
+                }else{
+                    assertNull(actual.getRealValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests, if an exception is thrown, if the store runs out of values.
+     * @throws IOException
+     */
+    @Test
+    public void testReadFromExhaustedStore() throws IOException {
+        BigInteger modulus = ModulusFinder.findSuitableModulus(128);
+        SpdzDataSupplier source = new SpdzDummyDataSupplier(MY_ID, NO_OF_PARTIES,
+                new BigIntegerFieldDefinition(modulus), modulus);
+        PreprocessingAmount amount = PreprocessingAmount.builder()
+                .triples(1)
+                .bits(0)
+                .randomElements(0)
+                .expPipes(0)
+                .inputMasks(0)
+                .build();
+        Path file = SpdzPreprocessedValuesStore.getStoreFile(directory, MY_ID, NO_OF_PARTIES, PARTY_SET_ID);
+        SpdzPreprocessedValuesStore.write(file, source, MY_ID, NO_OF_PARTIES, PARTY_SET_ID, amount);
+
+        SpdzStoredDataSupplier stored = new SpdzStoredDataSupplier(file);
+        stored.getNextTriple();
+        assertThrows(IllegalStateException.class, stored::getNextTriple);
+        assertThrows(IllegalStateException.class, stored::getNextBit);
+        assertThrows(IllegalStateException.class, stored::getNextExpPipe);
+        assertThrows(IllegalStateException.class, () -> stored.getNextInputMask(MY_ID));
+    }
+
+    /**
+     * Tests, if a supplier, which is created later on for the same store, continues with the first value,
+     * which has not been consumed yet, and if suppliers of the same store never hand out the same value.
+     * @throws IOException
+     */
+    @Test
+    public void testConsumptionIsPersisted() throws IOException {
+        BigInteger modulus = ModulusFinder.findSuitableModulus(128);
+        RecordingDataSupplier source = new RecordingDataSupplier(
+                new SpdzDummyDataSupplier(MY_ID, NO_OF_PARTIES, new BigIntegerFieldDefinition(modulus), modulus));
+        PreprocessingAmount amount = PreprocessingAmount.builder()
+                .triples(4)
+                .bits(0)
+                .randomElements(0)
+                .expPipes(0)
+                .inputMasks(2)
+                .build();
+        Path file = SpdzPreprocessedValuesStore.getStoreFile(directory, MY_ID, NO_OF_PARTIES, PARTY_SET_ID);
+        SpdzPreprocessedValuesStore.write(file, source, MY_ID, NO_OF_PARTIES, PARTY_SET_ID, amount);
+
+        SpdzStoredDataSupplier first = new SpdzStoredDataSupplier(file);
+        FieldDefinition definition = first.getFieldDefinition();
+        assertSIntEquals(definition, source.triples.get(0).getA(), first.getNextTriple().getA());
+        assertSIntEquals(definition, source.inputMasks.get(MY_ID).get(0).getMask(),
+                first.getNextInputMask(MY_ID).getMask());
+        SpdzStoredDataSupplier second = new SpdzStoredDataSupplier(file);
+        assertEquals(1, second.getConsumedTriples());
+        assertSIntEquals(definition, source.triples.get(1).getA(), second.getNextTriple().getA());
+        assertSIntEquals(definition, source.triples.get(2).getA(), first.getNextTriple().getA());
+        assertSIntEquals(definition, source.inputMasks.get(MY_ID).get(1).getMask(),
+                second.getNextInputMask(MY_ID).getMask());
+        assertSIntEquals(definition, source.inputMasks.get(1).get(0).getMask(), second.getNextInputMask(1).getMask());
+
+        SpdzStoredDataSupplier third = new SpdzStoredDataSupplier(file);
+        assertEquals(3, third.getConsumedTriples());
+        assertEquals(2, third.getConsumedInputMasks(MY_ID));
+        assertEquals(1, third.getConsumedInputMasks(1));
+        assertEquals(0, third.getConsumedInputMasks(3));
+        assertSIntEquals(definition, source.triples.get(3).getA(), third.getNextTriple().getA());
+        assertThrows(IllegalStateException.class, first::getNextTriple);
+        assertThrows(IllegalStateException.class, () -> third.getNextInputMask(MY_ID));
+    }
+
+    /**
+     * Runs two auctions with {@link Utils.Preprocessing#Stored} among the same party set and tests, if no
+     * preprocessed value is used twice: the second auction has to consume the values, which follow the values
+     * of the first auction, in every store.
+     * @throws IOException
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @Test
+    public void testTwoAuctionsWithStoredValues() throws IOException, InterruptedException, ExecutionException {
+        int noOfParties = 3;
+        BigInteger modulus = ModulusFinder.findSuitableModulus(SpdzConfiguration.DEFAULT_MOD_BIT_LENGTH);
+        // one auction of three parties with a bit length of 31 needs 40 triples, 2076 bits, 15 exp pipes
+        // and 2 input masks per party
+        PreprocessingAmount amount = PreprocessingAmount.builder()
+                .triples(200)
+                .bits(5000)
+                .randomElements(10)
+                .expPipes(40)
+                .inputMasks(8)
+                .build();
+        List<RecordingDataSupplier> sources = new ArrayList<>();
+        for(int partyId = 1; partyId <= noOfParties; partyId++){
+            RecordingDataSupplier source = new RecordingDataSupplier(new SpdzDummyDataSupplier(partyId, noOfParties,
+                    new BigIntegerFieldDefinition(modulus), modulus));
+            NetworkConfiguration networkConfig = TestUtils.getNetworkConfiguration(partyId, noOfParties);
+            SpdzPreprocessedValuesStore.write(SpdzPreprocessedValuesStore.getStoreFile(directory, networkConfig),
+                    source, partyId, noOfParties, SpdzPreprocessedValuesStore.getPartySetId(networkConfig), amount);
+            sources.add(source);
+        }
+        ProtocolConfiguration config = SpdzConfiguration.builder()
+                .preprocessingStrategy(Utils.Preprocessing.Stored)
+                .preprocessedValuesDirectory(directory.toString())
+                .maxBitLength(31)
+                .build();
+        ExecutorService executorService = Executors.newFixedThreadPool(noOfParties);
+        try {
+            TestUtils.assertAllPartiesGetSameResults(runAuction(executorService, config, new int[]{41, 43, 42}), 2, 42);
+            int[] firstTriples = new int[noOfParties];
+            int[] firstBits = new int[noOfParties];
+            int[] firstInputMasks = new int[noOfParties];
+            for(int partyId = 1; partyId <= noOfParties; partyId++){
+                SpdzStoredDataSupplier stored = openStore(partyId, noOfParties);
+                firstTriples[partyId - 1] = stored.getConsumedTriples();
+                firstBits[partyId - 1] = stored.getConsumedBits();
+                firstInputMasks[partyId - 1] = stored.getConsumedInputMasks(partyId);
+                assertTrue(firstTriples[partyId - 1] > 0);
+                assertTrue(firstInputMasks[partyId - 1] > 0);
+                assertEquals(firstTriples[0], firstTriples[partyId - 1]);
+                assertEquals(firstBits[0], firstBits[partyId - 1]);
+            }
+
+            TestUtils.assertAllPartiesGetSameResults(runAuction(executorService, config, new int[]{10, 5, 7}), 1, 7);
+            for(int partyId = 1; partyId <= noOfParties; partyId++){
+                SpdzStoredDataSupplier stored = openStore(partyId, noOfParties);
+                RecordingDataSupplier source = sources.get(partyId - 1);
+                // the circuit is data oblivious, so the second auction consumes as many values as the first one
+                assertEquals(2 * firstTriples[partyId - 1], stored.getConsumedTriples());
+                assertEquals(2 * firstBits[partyId - 1], stored.getConsumedBits());
+                assertEquals(2 * firstInputMasks[partyId - 1], stored.getConsumedInputMasks(partyId));
+                Set<BigInteger> shares = new HashSet<>();
+                for(SpdzTriple triple : source.triples.subList(0, stored.getConsumedTriples())){
+                    assertTrue(shares.add(stored.getFieldDefinition().convertToUnsigned(triple.getA().getShare())));
+                }
+                assertSIntEquals(stored.getFieldDefinition(),
+                        source.triples.get(stored.getConsumedTriples()).getA(), stored.getNextTriple().getA());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests, if an exception is thrown, if the store was produced for another modulus.
+     * @throws IOException
+     */
+    @Test
+    public void testStoreWithAnotherModulus() throws IOException {
+        BigInteger modulus = ModulusFinder.findSuitableModulus(128);
+        SpdzDataSupplier source = new SpdzDummyDataSupplier(1, 2, new BigIntegerFieldDefinition(modulus), modulus);
+        NetworkConfiguration networkConfig = TestUtils.getNetworkConfiguration(1, 2);
+        SpdzPreprocessedValuesStore.write(SpdzPreprocessedValuesStore.getStoreFile(directory, networkConfig),
+                source, 1, 2, SpdzPreprocessedValuesStore.getPartySetId(networkConfig),
+                PreprocessingAmount.builder().triples(1).build());
+        SpdzConfiguration config = SpdzConfiguration.builder()
+                .preprocessingStrategy(Utils.Preprocessing.Stored)
+                .preprocessedValuesDirectory(directory.toString())
+                .modBitLength(64)
+                .build();
+        SPDZAssembler assembler = new SPDZAssembler(config, networkConfig);
+        assertThrows(IllegalStateException.class, assembler::assemble);
+    }
+
+    /**
+     * Tests, if all parties of a party set derive the same party set id, and if the id changes, if the address
+     * of a party changes or the party ids are assigned to other parties.
+     */
+    @Test
+    public void testPartySetId() {
+        long partySetId = SpdzPreprocessedValuesStore.getPartySetId(TestUtils.getNetworkConfiguration(1, 3));
+        for(int partyId = 2; partyId <= 3; partyId++){
+            assertEquals(partySetId,
+                    SpdzPreprocessedValuesStore.getPartySetId(TestUtils.getNetworkConfiguration(partyId, 3)));
+        }
+        Map<Integer, Party> parties = new HashMap<>();
+        parties.put(1, new Party(1, "localhost", 5000));
+        parties.put(2, new Party(2, "localhost", 5001));
+        parties.put(3, new Party(3, "localhost", 6002));
+        assertNotEquals(partySetId, SpdzPreprocessedValuesStore.getPartySetId(new NetworkConfigurationImpl(1, parties)));
+        parties.put(2, new Party(2, "localhost", 5002));
+        parties.put(3, new Party(3, "localhost", 5001));
+        assertNotEquals(partySetId, SpdzPreprocessedValuesStore.getPartySetId(new NetworkConfigurationImpl(1, parties)));
+    }
+
+    /**
+     * Tests, if a store, which was produced for another party set of the same size, is refused, both if it is
+     * looked up by the party set and if its header names another party set.
+     * @throws IOException
+     */
+    @Test
+    public void testStoreOfAnotherPartySet() throws IOException {
+        BigInteger modulus = ModulusFinder.findSuitableModulus(SpdzConfiguration.DEFAULT_MOD_BIT_LENGTH);
+        SpdzDataSupplier source = new SpdzDummyDataSupplier(1, 2, new BigIntegerFieldDefinition(modulus), modulus);
+        Map<Integer, Party> parties = new HashMap<>();
+        parties.put(1, new Party(1, "localhost", 5000));
+        parties.put(2, new Party(2, "localhost", 6001));
+        NetworkConfiguration otherNetworkConfig = new NetworkConfigurationImpl(1, parties);
+        SpdzPreprocessedValuesStore.write(SpdzPreprocessedValuesStore.getStoreFile(directory, otherNetworkConfig),
+                source, 1, 2, SpdzPreprocessedValuesStore.getPartySetId(otherNetworkConfig),
+                PreprocessingAmount.builder().triples(1).build());
+        SpdzConfiguration config = SpdzConfiguration.builder()
+                .preprocessingStrategy(Utils.Preprocessing.Stored)
+                .preprocessedValuesDirectory(directory.toString())
+                .build();
+        NetworkConfiguration networkConfig = TestUtils.getNetworkConfiguration(1, 2);
+        assertThrows(UncheckedIOException.class, new SPDZAssembler(config, networkConfig)::assemble);
+
+        SpdzPreprocessedValuesStore.write(SpdzPreprocessedValuesStore.getStoreFile(directory, networkConfig),
+                source, 1, 2, SpdzPreprocessedValuesStore.getPartySetId(otherNetworkConfig),
+                PreprocessingAmount.builder().triples(1).build());
+        assertThrows(IllegalStateException.class, new SPDZAssembler(config, networkConfig)::assemble);
+    }
+
+    /**
+     * Tests, if an exception is thrown, if the file is not a store.
+     * @throws IOException
+     */
+    @Test
+    public void testReadInvalidStore() throws IOException {
+        Path file = directory.resolve("invalid.bin");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IllegalArgumentException.class, () -> new SpdzStoredDataSupplier(file));
+    }
+
+    /**
+     * Runs a {@link SealedSecondPriceAuction} among all parties.
+     * @param executorService executor service, which runs the parties.
+     * @param config protocol suite configuration.
+     * @param bids bids of the parties.
+     * @return future results of all parties.
+     * @throws InterruptedException
+     */
+    private static List<Future<Auction.AuctionResult>> runAuction(ExecutorService executorService,
+                                                                 ProtocolConfiguration config, int[] bids)
+            throws InterruptedException {
+        List<Callable<Auction.AuctionResult>> parties = new ArrayList<>();
+        for(int i = 0; i < bids.length; i++){
+            NetworkConfiguration networkConfig = TestUtils.getNetworkConfiguration(i + 1, bids.length);
+            Application<Auction.AuctionResult, ProtocolBuilderNumeric> application =
+                    new SealedSecondPriceAuction(bids[i], networkConfig);
+            SMPC<SpdzResourcePool, ProtocolBuilderNumeric, Auction.AuctionResult> smpc =
+                    new SMPC<>(config, application, networkConfig);
+            parties.add(() -> smpc.startComputation(Duration.ofMinutes(5)));
+        }
+        return executorService.invokeAll(parties);
+    }
+
+    private SpdzStoredDataSupplier openStore(int partyId, int noOfParties) throws IOException {
+        return new SpdzStoredDataSupplier(SpdzPreprocessedValuesStore.getStoreFile(directory,
+                TestUtils.getNetworkConfiguration(partyId, noOfParties)));
+    }
+
+    private static void assertSIntEquals(FieldDefinition definition, SpdzSInt expected, SpdzSInt actual){
+        assertElementEquals(definition, expected.getShare(), actual.getShare());
+        assertElementEquals(definition, expected.getMac(), actual.getMac());
+    }
+
+    private static void assertElementEquals(FieldDefinition definition, FieldElement expected, FieldElement actual){
+        assertEquals(definition.convertToUnsigned(expected), definition.convertToUnsigned(actual));
+    }
+
+    /**
+     * Records all values, which are drawn from the underlying supplier.
+     */
+    private static class RecordingDataSupplier implements SpdzDataSupplier {
+        private final SpdzDataSupplier supplier;
+        private final List<SpdzTriple> triples = new ArrayList<>();
+        private final List<SpdzSInt> bits = new ArrayList<>();
+        private final List<SpdzSInt> randomElements = new ArrayList<>();
+        private final List<SpdzSInt[]> expPipes = new ArrayList<>();
+        private final Map<Integer, List<SpdzInputMask>> inputMasks = new HashMap<>();
+
+        private RecordingDataSupplier(SpdzDataSupplier supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public SpdzTriple getNextTriple() {
+            SpdzTriple triple = supplier.getNextTriple();
+            triples.add(triple);
+            return triple;
+        }
+
+        @Override
+        public SpdzSInt[] getNextExpPipe() {
+            SpdzSInt[] pipe = supplier.getNextExpPipe();
+            expPipes.add(pipe);
+            return pipe;
+        }
+
+        @Override
+        public SpdzInputMask getNextInputMask(int towardPlayerId) {
+            SpdzInputMask inputMask = supplier.getNextInputMask(towardPlayerId);
+            inputMasks.computeIfAbsent(towardPlayerId, id -> new ArrayList<>()).add(inputMask);
+            return inputMask;
+        }
+
+        @Override
+        public SpdzSInt getNextBit() {
+            SpdzSInt bit = supplier.getNextBit();
+            bits.add(bit);
+            return bit;
+        }
+
+        @Override
+        public FieldDefinition getFieldDefinition() {
+            return supplier.getFieldDefinition();
+        }
+
+        @Override
+        public FieldElement getSecretSharedKey() {
+            return supplier.getSecretSharedKey();
+        }
+
+        @Override
+        public SpdzSInt getNextRandomFieldElement() {
+            SpdzSInt element = supplier.getNextRandomFieldElement();
+            randomElements.add(element);
+            return element;
+        }
+    }
+}
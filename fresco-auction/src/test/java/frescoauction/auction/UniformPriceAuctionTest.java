@@ -0,0 +1,183 @@
+package frescoauction.auction;
+
+import dk.alexandra.fresco.framework.configuration.NetworkConfiguration;
+import frescoauction.util.EvaluationParameters;
+import frescoauction.util.UniformPriceAuctionEvaluation;
+import frescoauction.util.Utils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static frescoauction.auction.TestUtils.getNetworkConfiguration;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Testing the implementation of {@link UniformPriceAuction}.
+ */
+public class UniformPriceAuctionTest {
+    /** Number of available threads. */
+    private final static int THREAD_POOL = 10;
+    private ExecutorService executorService;
+
+    /**
+     * Sets up parties for {@link UniformPriceAuction}.
+     * @param units number of units, which are sold.
+     * @param bids bids of the parties.
+     * @param protocolSuite protocol suite, which should be used for the evaluation.
+     * @return parties as {@link Callable}, which can be run by an {@link ExecutorService}.
+     */
+    private static List<Callable<List<Auction.AuctionResult>>> setUpParties(int units, int[] bids,
+                                                                            Utils.ProtocolSuite protocolSuite){
+        return setUpParties(units, bids, protocolSuite, EvaluationParameters.builder().build());
+    }
+
+    /**
+     * Sets up parties for {@link UniformPriceAuction}.
+     * @param units number of units, which are sold.
+     * @param bids bids of the parties.
+     * @param protocolSuite protocol suite, which should be used for the evaluation.
+     * @param parameters tuning parameters, which should be used by all parties.
+     * @return parties as {@link Callable}, which can be run by an {@link ExecutorService}.
+     */
+    private static List<Callable<List<Auction.AuctionResult>>> setUpParties(int units, int[] bids,
+                                                                            Utils.ProtocolSuite protocolSuite,
+                                                                            EvaluationParameters parameters){
+        List<Callable<List<Auction.AuctionResult>>> clients = new ArrayList<>();
+        for(int i = 0; i < bids.length; i++){
+            NetworkConfiguration networkConfig = getNetworkConfiguration(i + 1, bids.length);
+            clients.add(new UniformPriceAuctionEvaluation(units, bids[i], protocolSuite,
+                    Utils.Preprocessing.Dummy, parameters, networkConfig));
+        }
+        return clients;
+    }
+
+    /**
+     * Provides party inputs and the expected results.<br>
+     * Order: number of units, array of bids, partyIds of the expected winners (ascending), expected uniform price
+     * @return party inputs with expected results.
+     */
+    private static List<Arguments> data(){
+        return List.of(
+                Arguments.of(1, new int[]{1, 42}, new int[]{2}, 1),
+                Arguments.of(1, new int[]{41, 43, 42, 1, 7}, new int[]{2}, 42),
+                Arguments.of(2, new int[]{41, 43, 42, 1, 7}, new int[]{2, 3}, 41),
+                Arguments.of(2, new int[]{5, 3, 9}, new int[]{1, 3}, 3),
+                Arguments.of(3, new int[]{10, 1, 12, 7, 11, 2, 9}, new int[]{1, 3, 5}, 9),
+                Arguments.of(3, new int[]{4, 8, 6, 2}, new int[]{1, 2, 3}, 2),
+                Arguments.of(4, new int[]{3, 20, 5, 17, 1, 19, 2, 18, 4}, new int[]{2, 4, 6, 8}, 5)
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        executorService = Executors.newFixedThreadPool(THREAD_POOL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+        executorService = null;
+    }
+
+    /**
+     * Asserts that all parties get the expected winners and the expected uniform price.
+     * @param parties future results of all parties.
+     * @param winnerIds expected partyIds of the winners (ascending).
+     * @param finalPrice expected uniform price.
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+    private static void assertAllPartiesGetSameResults(List<Future<List<Auction.AuctionResult>>> parties,
+                                                       int[] winnerIds, int finalPrice)
+            throws ExecutionException, InterruptedException {
+        for(Future<List<Auction.AuctionResult>> fResults : parties){
+            List<Auction.AuctionResult> results = fResults.get();
+            assertEquals(winnerIds.length, results.size());
+            for(int i = 0; i < winnerIds.length; i++){
+                assertEquals(winnerIds[i], results.get(i).getWinnerId());
+                assertEquals(finalPrice, results.get(i).getFinalPrice());
+            }
+        }
+    }
+
+    /**
+     * Tests correctness of the auction implementation with {@link Utils.ProtocolSuite#DummyArithmetic}.
+     * Party inputs and expected results are provided by {@link #data()}.
+     * @param units number of units, which are sold.
+     * @param bids party inputs which should be tested.
+     * @param winnerIds expected partyIds of the winners (ascending).
+     * @param finalPrice expected uniform price.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testDummyArithmeticSuite(int units, int[] bids, int[] winnerIds, int finalPrice)
+            throws InterruptedException, ExecutionException {
+        List<Future<List<Auction.AuctionResult>>> fResults =
+                executorService.invokeAll(setUpParties(units, bids, Utils.ProtocolSuite.DummyArithmetic));
+        assertAllPartiesGetSameResults(fResults, winnerIds, finalPrice);
+    }
+
+    /**
+     * Tests correctness of the auction implementation with {@link Utils.ProtocolSuite#Spdz} and
+     * {@link Utils.Preprocessing#Dummy} as preprocessing strategy.
+     * Party inputs and expected results are provided by {@link #data()}.
+     * @param units number of units, which are sold.
+     * @param bids party inputs which should be tested.
+     * @param winnerIds expected partyIds of the winners (ascending).
+     * @param finalPrice expected uniform price.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testSpdzWithDummy(int units, int[] bids, int[] winnerIds, int finalPrice)
+            throws InterruptedException, ExecutionException {
+        List<Future<List<Auction.AuctionResult>>> fResults =
+                executorService.invokeAll(setUpParties(units, bids, Utils.ProtocolSuite.Spdz));
+        assertAllPartiesGetSameResults(fResults, winnerIds, finalPrice);
+    }
+
+    /**
+     * Tests an auction with more parties than the bit length of a small maximum bid can represent. The party ids
+     * of the winners are sorted as well, so the evaluation has to widen the bit length to the party ids.
+     * @param protocolSuite protocol suite, which should be used for the evaluation.
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+    @ParameterizedTest
+    @EnumSource(Utils.ProtocolSuite.class)
+    public void testManyPartiesWithSmallMaxBid(Utils.ProtocolSuite protocolSuite)
+            throws InterruptedException, ExecutionException {
+        EvaluationParameters parameters = EvaluationParameters.builder().build().withMaxBid(3);
+        int[] bids = new int[]{3, 1, 1, 1, 3, 1, 1, 1, 2, 3};
+        List<Future<List<Auction.AuctionResult>>> fResults =
+                executorService.invokeAll(setUpParties(3, bids, protocolSuite, parameters));
+        assertAllPartiesGetSameResults(fResults, new int[]{1, 5, 10}, 2);
+    }
+
+    /**
+     * Tests, if invalid arguments are rejected.
+     */
+    @Test
+    public void testInvalidArguments(){
+        assertThrows(IllegalArgumentException.class,
+                () -> new UniformPriceAuction(0, 1, getNetworkConfiguration(1, 2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new UniformPriceAuction(1, 0, getNetworkConfiguration(1, 2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new UniformPriceAuction(2, 1, getNetworkConfiguration(1, 2)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new UniformPriceAuction(1, 1, getNetworkConfiguration(1, 1)));
+    }
+}